@@ -0,0 +1,26 @@
+package hello.springcoremvc.binder;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 파라미터 -> 객체 바인더를 컴파일 시점에 생성한다.
+ * ParamBinderProcessor 가 같은 패키지에 {클래스 이름}ParamBinder 를 만든다.
+ *
+ * 대상 클래스는 기본 생성자가 있어야 하고, 필드마다 setter 가 있어야 한다. (직접 작성 또는 lombok @Setter)
+ * 지원 타입: String, int, Integer, long, Long, boolean, Boolean
+ *
+ * 파라미터가 없을 때
+ *  - 기본 타입(int, long, boolean) 필드: NumberFormatException (필수)
+ *  - String, 래퍼 타입 필드: setter 를 호출하지 않는다. (null 로 남는다)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface BindParams {
+    /**
+     * 바인딩하지 않을 필드 이름
+     */
+    String[] exclude() default {};
+}
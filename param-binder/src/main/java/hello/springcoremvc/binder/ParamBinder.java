@@ -0,0 +1,12 @@
+package hello.springcoremvc.binder;
+
+import java.util.function.Function;
+
+/**
+ * 요청 파라미터로 객체를 만든다.
+ * params 는 파라미터 이름 -> 값 (paramMap::get, req::getParameter)
+ */
+@FunctionalInterface
+public interface ParamBinder<T> {
+    T bind(Function<String, String> params);
+}
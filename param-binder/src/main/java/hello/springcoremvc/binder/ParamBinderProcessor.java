@@ -0,0 +1,218 @@
+package hello.springcoremvc.binder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @BindParams 가 붙은 클래스마다 ParamBinder 구현체 소스를 생성한다.
+ *
+ * 생성된 바인더는 필드마다 params.apply("필드 이름") 을 호출하고, 값이 있으면 타입에 맞게 변환해서 setter 를 호출한다.
+ * 기본 타입 필드는 필수다. 값이 없으면 건너뛰지 않고 변환 메서드가 NumberFormatException 을 던진다. (0 으로 저장되지 않도록)
+ * 리플렉션, PropertyEditor, ConversionService 를 거치지 않는 평범한 코드다.
+ *
+ * setter 는 lombok 이 같은 컴파일에서 만들 수 있으므로, 메서드가 보이지 않아도 lombok @Setter / @Data 가 있으면 있는 것으로 본다.
+ */
+@SupportedAnnotationTypes("hello.springcoremvc.binder.BindParams")
+public class ParamBinderProcessor extends AbstractProcessor {
+    private static final Map<String, String> CONVERSIONS = Map.of(
+            "int", "ParamConversions.toInt",
+            "java.lang.Integer", "ParamConversions.toInteger",
+            "long", "ParamConversions.toLong",
+            "java.lang.Long", "ParamConversions.toLongObject",
+            "boolean", "ParamConversions.toBoolean",
+            "java.lang.Boolean", "ParamConversions.toBooleanObject"
+    );
+    private static final Set<String> LOMBOK_SETTERS = Set.of("lombok.Setter", "lombok.Data");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(BindParams.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@BindParams 는 클래스에만 사용할 수 있습니다.");
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(type, "@BindParams 중첩 클래스는 static 이어야 합니다.");
+            return;
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !hasPublicNoArgConstructor(type)) {
+            error(type, "@BindParams 클래스는 public 기본 생성자가 있는 구체 클래스여야 합니다.");
+            return;
+        }
+
+        List<String> excluded = Arrays.asList(type.getAnnotation(BindParams.class).exclude());
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)
+                    || excluded.contains(field.getSimpleName().toString())) {
+                continue;
+            }
+
+            Property property = property(type, field);
+            if (property == null) {
+                return;
+            }
+            properties.add(property);
+        }
+
+        try {
+            write(type, properties);
+        } catch (IOException e) {
+            error(type, "바인더를 생성할 수 없습니다. " + e.getMessage());
+        }
+    }
+
+    private Property property(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        String typeName = fieldType.toString();
+
+        String conversion = null;
+        if (!typeName.equals("java.lang.String")) {
+            conversion = CONVERSIONS.get(typeName);
+            if (conversion == null) {
+                error(field, "지원하지 않는 필드 타입입니다. (" + typeName + ") exclude 로 제외하세요.");
+                return null;
+            }
+        }
+
+        String setter = "set" + name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+        if (!hasSetter(type, field, setter)) {
+            error(field, "setter(" + setter + ") 가 없습니다.");
+            return null;
+        }
+        return new Property(name, setter, conversion, fieldType.getKind().isPrimitive());
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        return constructors.stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    private boolean hasSetter(TypeElement type, VariableElement field, String setter) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1
+                    && method.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return hasLombokSetter(type) || hasLombokSetter(field);
+    }
+
+    private boolean hasLombokSetter(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (LOMBOK_SETTERS.contains(annotation.getAnnotationType().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(TypeElement type, List<Property> properties) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.getQualifiedName().toString();
+        String targetName = type.getQualifiedName().toString();
+        String binderSimpleName = binaryName(type, packageName).replace('$', '_') + ParamBinders.SUFFIX;
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("import hello.springcoremvc.binder.ParamBinder;\n");
+        src.append("import hello.springcoremvc.binder.ParamConversions;\n\n");
+        src.append("import javax.annotation.processing.Generated;\n");
+        src.append("import java.util.function.Function;\n\n");
+        src.append("@Generated(\"").append(getClass().getName()).append("\")\n");
+        src.append("public final class ").append(binderSimpleName)
+                .append(" implements ParamBinder<").append(targetName).append("> {\n\n");
+        src.append("    @Override\n");
+        src.append("    public ").append(targetName).append(" bind(Function<String, String> params) {\n");
+        src.append("        ").append(targetName).append(" target = new ").append(targetName).append("();\n");
+        src.append("        String value;\n");
+        for (Property p : properties) {
+            src.append("\n        value = params.apply(\"").append(p.name()).append("\");\n");
+            if (p.required()) {
+                // 값이 없으면 변환 메서드가 예외를 던진다.
+                src.append("        target.").append(p.setter()).append("(")
+                        .append(p.conversion()).append("(\"").append(p.name()).append("\", value));\n");
+                continue;
+            }
+            src.append("        if (value != null) {\n");
+            src.append("            target.").append(p.setter()).append("(");
+            if (p.conversion() == null) {
+                src.append("value");
+            } else {
+                src.append(p.conversion()).append("(\"").append(p.name()).append("\", value)");
+            }
+            src.append(");\n");
+            src.append("        }\n");
+        }
+        src.append("        return target;\n");
+        src.append("    }\n");
+        src.append("}\n");
+
+        String binderName = packageName.isEmpty() ? binderSimpleName : packageName + "." + binderSimpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(binderName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    /**
+     * 중첩 클래스는 Outer$Inner
+     */
+    private String binaryName(TypeElement type, String packageName) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        return packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * @param conversion String 이면 null
+     * @param required   기본 타입, 파라미터가 없으면 예외
+     */
+    private record Property(
+            String name,
+            String setter,
+            String conversion,
+            boolean required
+    ) {
+    }
+}
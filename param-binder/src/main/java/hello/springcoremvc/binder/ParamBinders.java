@@ -0,0 +1,55 @@
+package hello.springcoremvc.binder;
+
+/**
+ * 생성된 바인더 조회
+ * 클래스마다 처음 한 번만 로딩하고 이후에는 ClassValue 에 캐시된 인스턴스를 반환한다.
+ */
+public final class ParamBinders {
+    public static final String SUFFIX = "ParamBinder";
+
+    private static final ClassValue<ParamBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected ParamBinder<?> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    private ParamBinders() {
+    }
+
+    /**
+     * @return 생성된 바인더, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ParamBinder<T> find(Class<T> type) {
+        return (ParamBinder<T>) BINDERS.get(type);
+    }
+
+    public static <T> ParamBinder<T> get(Class<T> type) {
+        ParamBinder<T> binder = find(type);
+        if (binder == null) {
+            throw new IllegalStateException("생성된 바인더가 없습니다. @BindParams 를 확인하세요. type = " + type.getName());
+        }
+        return binder;
+    }
+
+    private static ParamBinder<?> load(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+            return null;
+        }
+        try {
+            Class<?> binderClass = Class.forName(binderName(type), true, type.getClassLoader());
+            return (ParamBinder<?>) binderClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("바인더를 생성할 수 없습니다. type = " + type.getName(), e);
+        }
+    }
+
+    static String binderName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String simpleName = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + SUFFIX;
+    }
+}
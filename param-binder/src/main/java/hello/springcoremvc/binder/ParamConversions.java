@@ -0,0 +1,75 @@
+package hello.springcoremvc.binder;
+
+import java.util.Locale;
+
+/**
+ * 생성된 바인더가 사용하는 타입 변환
+ * 값이 잘못되면 파라미터 이름을 담은 IllegalArgumentException(NumberFormatException) 을 던진다.
+ *
+ * 기본 타입(int, long, boolean)은 값이 없음을 나타낼 수 없으므로 파라미터가 없으면(null) 예외를 던진다.
+ * 래퍼 타입은 파라미터가 없거나 비어 있으면 null 이다.
+ */
+public final class ParamConversions {
+
+    private ParamConversions() {
+    }
+
+    public static int toInt(String name, String value) {
+        if (value == null) {
+            throw missing(name);
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalid(name, value);
+        }
+    }
+
+    public static Integer toInteger(String name, String value) {
+        return value == null || value.isBlank() ? null : toInt(name, value);
+    }
+
+    public static long toLong(String name, String value) {
+        if (value == null) {
+            throw missing(name);
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw invalid(name, value);
+        }
+    }
+
+    public static Long toLongObject(String name, String value) {
+        return value == null || value.isBlank() ? null : toLong(name, value);
+    }
+
+    /**
+     * 스프링의 StringToBooleanConverter 와 같은 값을 허용한다.
+     */
+    public static boolean toBoolean(String name, String value) {
+        if (value == null) {
+            throw missing(name);
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "on", "yes", "1" -> true;
+            case "false", "off", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("파라미터 " + name + " 은(는) boolean 이어야 합니다. value = " + value);
+        };
+    }
+
+    public static Boolean toBooleanObject(String name, String value) {
+        return value == null || value.isBlank() ? null : toBoolean(name, value);
+    }
+
+    /**
+     * 예전처럼 Integer.parseInt(null) 과 같은 NumberFormatException
+     */
+    private static NumberFormatException missing(String name) {
+        return new NumberFormatException("파라미터 " + name + " 이(가) 없습니다.");
+    }
+
+    private static NumberFormatException invalid(String name, String value) {
+        return new NumberFormatException("파라미터 " + name + " 은(는) 숫자여야 합니다. value = " + value);
+    }
+}
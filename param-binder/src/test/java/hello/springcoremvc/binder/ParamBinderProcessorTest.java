@@ -0,0 +1,191 @@
+package hello.springcoremvc.binder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 소스 문자열을 ParamBinderProcessor 와 함께 컴파일해서 생성 결과와 컴파일 오류를 확인한다.
+ */
+class ParamBinderProcessorTest {
+    @TempDir
+    Path out;
+
+    @Test
+    void generatedBinder() throws Exception {
+        // given
+        Compilation compilation = compile("test.Person", """
+                package test;
+
+                @hello.springcoremvc.binder.BindParams(exclude = "id")
+                public class Person {
+                    private Long id;
+                    private String name;
+                    private int age;
+                    private Integer score;
+                    private boolean active;
+
+                    public Long getId() { return id; }
+                    public void setId(Long id) { this.id = id; }
+                    public String getName() { return name; }
+                    public void setName(String name) { this.name = name; }
+                    public int getAge() { return age; }
+                    public void setAge(int age) { this.age = age; }
+                    public Integer getScore() { return score; }
+                    public void setScore(Integer score) { this.score = score; }
+                    public boolean isActive() { return active; }
+                    public void setActive(boolean active) { this.active = active; }
+                }
+                """);
+        assertThat(compilation.errors()).isEmpty();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{out.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = classLoader.loadClass("test.Person");
+            ParamBinder<?> binder = ParamBinders.get(type);
+
+            // when
+            Object person = binder.bind(Map.of("id", "7", "name", "kim", "age", "20", "active", "on")::get);
+
+            // then
+            assertThat(person).hasFieldOrPropertyWithValue("id", null)
+                    .hasFieldOrPropertyWithValue("name", "kim")
+                    .hasFieldOrPropertyWithValue("age", 20)
+                    .hasFieldOrPropertyWithValue("score", null)
+                    .hasFieldOrPropertyWithValue("active", true);
+
+            // 기본 타입은 필수
+            assertThatThrownBy(() -> binder.bind(Map.of("name", "kim", "active", "true")::get))
+                    .isInstanceOf(NumberFormatException.class)
+                    .hasMessageContaining("age");
+        }
+    }
+
+    @Test
+    void unsupportedFieldType() {
+        Compilation compilation = compile("test.Event", """
+                package test;
+
+                @hello.springcoremvc.binder.BindParams
+                public class Event {
+                    private java.time.LocalDate date;
+
+                    public void setDate(java.time.LocalDate date) { this.date = date; }
+                }
+                """);
+
+        assertThat(compilation.errors()).anyMatch(e -> e.contains("지원하지 않는 필드 타입") && e.contains("java.time.LocalDate"));
+    }
+
+    @Test
+    void excludedUnsupportedFieldIsIgnored() {
+        Compilation compilation = compile("test.Event", """
+                package test;
+
+                @hello.springcoremvc.binder.BindParams(exclude = "date")
+                public class Event {
+                    private java.time.LocalDate date;
+                    private String title;
+
+                    public void setTitle(String title) { this.title = title; }
+                }
+                """);
+
+        assertThat(compilation.errors()).isEmpty();
+    }
+
+    @Test
+    void noSetter() {
+        Compilation compilation = compile("test.Item", """
+                package test;
+
+                @hello.springcoremvc.binder.BindParams
+                public class Item {
+                    private String name;
+                    private int count;
+
+                    public void setName(String name) { this.name = name; }
+                }
+                """);
+
+        assertThat(compilation.errors()).anyMatch(e -> e.contains("setter(setCount)"));
+    }
+
+    @Test
+    void noNoArgConstructor() {
+        Compilation compilation = compile("test.Item", """
+                package test;
+
+                @hello.springcoremvc.binder.BindParams
+                public class Item {
+                    private String name;
+
+                    public Item(String name) { this.name = name; }
+
+                    public void setName(String name) { this.name = name; }
+                }
+                """);
+
+        assertThat(compilation.errors()).anyMatch(e -> e.contains("public 기본 생성자"));
+    }
+
+    Compilation compile(String className, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(out.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(out.toFile()));
+            // BindParams, ParamBinder, ParamConversions 가 있는 위치
+            Path binderClasses = Path.of(BindParams.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            fileManager.setLocation(StandardLocation.CLASS_PATH, List.of(binderClasses.toFile()));
+
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                    null, fileManager, diagnostics, List.of(), null,
+                    List.of(new Source(className, source))
+            );
+            task.setProcessors(List.of(new ParamBinderProcessor()));
+            task.call();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(Locale.ROOT))
+                .toList();
+        return new Compilation(errors);
+    }
+
+    record Compilation(List<String> errors) {
+    }
+
+    static class Source extends SimpleJavaFileObject {
+        private final String code;
+
+        Source(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package hello.springcoremvc.basic.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springcoremvc.basic.HelloData;
+import hello.springcoremvc.web.support.JsonBodyReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 요청 바디 파싱 비교 (1KB, 1MB)
+ *  - copyToString : 기존 RequestBodyJsonServlet 방식, StreamUtils.copyToString 후 ObjectMapper.readValue
+ *  - streaming    : JsonBodyReader, 입력 스트림에서 바로 HelloData 로 바인딩
+ *
+ * ./gradlew jmh -PjmhIncludes=RequestBodyJsonBenchmark (-prof gc 로 할당량 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBodyJsonBenchmark {
+    @Param({"1024", "1048576"})
+    int bodySize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonBodyReader jsonBodyReader = new JsonBodyReader(2 * 1024 * 1024);
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        String prefix = "{\"username\":\"";
+        String suffix = "\",\"age\":20}";
+        String username = "a".repeat(bodySize - prefix.length() - suffix.length());
+        body = (prefix + username + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public HelloData copyToString() throws Exception {
+        MockHttpServletRequest req = request();
+        String messageBody = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+        return objectMapper.readValue(messageBody, HelloData.class);
+    }
+
+    @Benchmark
+    public HelloData streaming() throws Exception {
+        return jsonBodyReader.read(request(), HelloData::new, RequestBodyJsonServlet.HELLO_DATA_BINDER);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/request-body-json");
+        req.setContentType("application/json");
+        req.setContent(body);
+        return req;
+    }
+}
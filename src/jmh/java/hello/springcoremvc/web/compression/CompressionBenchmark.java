@@ -0,0 +1,73 @@
+package hello.springcoremvc.web.compression;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.servlet.MemberListServlet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 목록 페이지 (/servlet/members) 압축 비용
+ * identity 대비 gzip, deflate 의 응답당 시간이 압축에 드는 CPU 비용이다.
+ * 끝나면 응답당 줄어든 바이트와 압축 시간을 출력한다. (CompressionMetrics)
+ *
+ * ./gradlew jmh -PjmhIncludes=CompressionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+    @Param({"100", "1000", "10000"})
+    int members;
+
+    @Param({"identity", "gzip", "deflate"})
+    String acceptEncoding;
+
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final MemberListServlet servlet = new MemberListServlet();
+    private CompressionMetrics metrics;
+    private CompressionFilter filter;
+
+    @Setup
+    public void setup() {
+        memberRepository.clearStore();
+        for (int i = 0; i < members; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+        metrics = new CompressionMetrics();
+        filter = new CompressionFilter(1024, 6, 4, metrics);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nmembers=%d %s: %s%n", members, acceptEncoding, metrics.stats());
+        memberRepository.clearStore();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse members() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/servlet/members");
+        req.addHeader("Accept-Encoding", acceptEncoding);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, new MockFilterChain(servlet));
+        return resp;
+    }
+}
@@ -0,0 +1,88 @@
+package hello.springcoremvc.web.dispatch;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import jakarta.servlet.http.HttpServlet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세대별 디스패처의 요청 하나 처리 비용 (라우팅 + 파라미터 추출 + 컨트롤러 + 뷰 조회 + forward)
+ *  - dispatcher : 서블릿, 서블릿 MVC, 프론트 컨트롤러 v1 ~ v5, 스프링 MVC v1 ~ v3
+ *  - workflow   : form (GET new-form), save (POST save), list (GET 회원 100명 목록)
+ *  - request    : 목 요청, 응답 생성만. dispatch 에서 빼면 디스패처 비용이다.
+ * 처리량과 지연 시간 분포(SampleTime)를 모두 측정한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=DispatchBenchmark -PjmhProfilers=gc
+ * ./gradlew jmhReport (build/reports/jmh 에 표로 정리)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+    static final int MEMBERS = 100;
+
+    @Param({
+            "servlet", "servlet-mvc",
+            "front-controller-v1", "front-controller-v2", "front-controller-v3", "front-controller-v4",
+            "front-controller-v5-v3", "front-controller-v5-v4", "front-controller-v5-v6",
+            "springmvc-v1", "springmvc-v2", "springmvc-v3",
+    })
+    String dispatcher;
+
+    @Param({"form", "save", "list"})
+    String workflow;
+
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private HttpServlet servlet;
+    private String url;
+
+    @Setup
+    public void setup() throws Exception {
+        servlet = Dispatchers.create(dispatcher, workflow);
+        url = Dispatchers.url(dispatcher, workflow);
+    }
+
+    /**
+     * save 로 늘어난 회원을 반복마다 되돌린다.
+     */
+    @Setup(Level.Iteration)
+    public void resetMembers() {
+        memberRepository.clearStore();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        servlet.destroy();
+        memberRepository.clearStore();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse dispatch() throws Exception {
+        MockHttpServletRequest req = Dispatchers.request(workflow, url);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        servlet.service(req, resp);
+        return resp;
+    }
+}
@@ -0,0 +1,295 @@
+package hello.springcoremvc.web.dispatch;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.MyView;
+import hello.springcoremvc.web.frontcontroller.v1.ControllerV1;
+import hello.springcoremvc.web.frontcontroller.v1.controller.MemberFormControllerV1;
+import hello.springcoremvc.web.frontcontroller.v1.controller.MemberListControllerV1;
+import hello.springcoremvc.web.frontcontroller.v1.controller.MemberSaveControllerV1;
+import hello.springcoremvc.web.frontcontroller.v2.ControllerV2;
+import hello.springcoremvc.web.frontcontroller.v2.controller.MemberFormControllerV2;
+import hello.springcoremvc.web.frontcontroller.v2.controller.MemberListControllerV2;
+import hello.springcoremvc.web.frontcontroller.v2.controller.MemberSaveControllerV2;
+import hello.springcoremvc.web.frontcontroller.v3.ControllerV3;
+import hello.springcoremvc.web.frontcontroller.v3.FrontControllerServletV3;
+import hello.springcoremvc.web.frontcontroller.v3.controller.MemberFormControllerV3;
+import hello.springcoremvc.web.frontcontroller.v3.controller.MemberListControllerV3;
+import hello.springcoremvc.web.frontcontroller.v3.controller.MemberSaveControllerV3;
+import hello.springcoremvc.web.frontcontroller.v4.ControllerV4;
+import hello.springcoremvc.web.frontcontroller.v4.FrontControllerServletV4;
+import hello.springcoremvc.web.frontcontroller.v4.controller.MemberFormControllerV4;
+import hello.springcoremvc.web.frontcontroller.v4.controller.MemberListControllerV4;
+import hello.springcoremvc.web.frontcontroller.v4.controller.MemberSaveControllerV4;
+import hello.springcoremvc.web.frontcontroller.v5.FrontControllerServletV5;
+import hello.springcoremvc.web.frontcontroller.v5.PhaseTimings;
+import hello.springcoremvc.web.metrics.LatencyHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.view.InternalResourceViewResolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디스패치 단계별 비용
+ * 스프링 MVC v3 는 DispatcherServlet 이 쓰는 빈을 직접 호출해서 단계를 나눈다.
+ *  - springRouting        : HandlerMapping.getHandler
+ *  - springHandle         : HandlerAdapter.handle (파라미터 바인딩 + 컨트롤러 호출)
+ *  - springViewResolution : ViewResolver.resolveViewName
+ *  - springRender         : View.render (forward)
+ *  - request              : 목 요청, 응답 생성 (각 단계에 포함된 기준 비용)
+ * 프론트 컨트롤러 v1 ~ v4 는 각 서블릿이 호출하는 컨트롤러, createParamMap, viewResolver, MyView 를 직접 호출해서 나눈다.
+ *  - frontV1Handle        : ControllerV1.process (컨트롤러가 forward 까지 하므로 렌더링이 포함되고 더 나눌 수 없다)
+ *  - frontV2Handle        : ControllerV2.process
+ *  - frontV2Render        : MyView.render (forward)
+ *  - frontV3Handle        : createParamMap + ControllerV3.process
+ *  - frontV3ViewResolution: viewResolver
+ *  - frontV3Render        : MyView.render (템플릿 또는 forward)
+ *  - frontV4*             : v3 와 같은 단계 (모델 Map 을 서블릿이 만든다)
+ * 라우팅(controllerMap.get)은 서블릿의 private 필드라 따로 재지 않는다. HashMap 조회 한 번이고,
+ * 전체 처리(DispatchBenchmark)에서 단계 합을 빼면 라우팅과 로그 비용이 남는다.
+ * 프론트 컨트롤러 v5 는 PhaseTimings 로 모든 요청을 측정하고, 끝나면 단계별 p50 / p99 를 출력한다. (워밍업 포함)
+ *  - frontControllerV5    : 측정 비용(System.nanoTime 6번)이 포함된 전체 처리
+ *
+ * ./gradlew jmh -PjmhIncludes=DispatchPhaseBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchPhaseBenchmark {
+    static final int MEMBERS = 100;
+
+    @Param({"form", "save", "list"})
+    String workflow;
+
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final PhaseTimings phaseTimings = PhaseTimings.getInstance();
+
+    private DispatcherServlet dispatcherServlet;
+    private HandlerMapping handlerMapping;
+    private HandlerAdapter handlerAdapter;
+    private ViewResolver viewResolver;
+    private String springUrl;
+    private Object handler;
+    private ModelAndView mv;
+    private View view;
+
+    private ControllerV1 controllerV1;
+    private String frontV1Url;
+
+    private ControllerV2 controllerV2;
+    private String frontV2Url;
+    private MyView viewV2;
+
+    private FrontControllerServletV3 frontV3;
+    private ControllerV3 controllerV3;
+    private String frontV3Url;
+    private ModelView mvV3;
+    private MyView viewV3;
+
+    private FrontControllerServletV4 frontV4;
+    private ControllerV4 controllerV4;
+    private String frontV4Url;
+    private String viewNameV4;
+    private Map<String, Object> modelV4;
+    private MyView viewV4;
+
+    private FrontControllerServletV5 frontControllerV5;
+    private String frontControllerV5Url;
+
+    @Setup
+    public void setup() throws Exception {
+        dispatcherServlet = Dispatchers.dispatcherServlet();
+        WebApplicationContext context = dispatcherServlet.getWebApplicationContext();
+        handlerMapping = context.getBean(RequestMappingHandlerMapping.class);
+        handlerAdapter = context.getBean(RequestMappingHandlerAdapter.class);
+        viewResolver = context.getBean(InternalResourceViewResolver.class);
+        springUrl = Dispatchers.url("springmvc-v3", workflow);
+
+        MockHttpServletRequest req = Dispatchers.request(workflow, springUrl);
+        handler = handlerMapping.getHandler(req).getHandler();
+        mv = handlerAdapter.handle(req, new MockHttpServletResponse(), handler);
+        view = viewResolver.resolveViewName(mv.getViewName(), Locale.KOREA);
+
+        controllerV1 = switch (workflow) {
+            case "form" -> new MemberFormControllerV1();
+            case "save" -> new MemberSaveControllerV1();
+            default -> new MemberListControllerV1();
+        };
+        frontV1Url = Dispatchers.url("front-controller-v1", workflow);
+
+        controllerV2 = switch (workflow) {
+            case "form" -> new MemberFormControllerV2();
+            case "save" -> new MemberSaveControllerV2();
+            default -> new MemberListControllerV2();
+        };
+        frontV2Url = Dispatchers.url("front-controller-v2", workflow);
+        viewV2 = controllerV2.process(Dispatchers.request(workflow, frontV2Url), new MockHttpServletResponse());
+
+        frontV3 = new FrontControllerServletV3();
+        controllerV3 = switch (workflow) {
+            case "form" -> new MemberFormControllerV3();
+            case "save" -> new MemberSaveControllerV3();
+            default -> new MemberListControllerV3();
+        };
+        frontV3Url = Dispatchers.url("front-controller-v3", workflow);
+        mvV3 = controllerV3.process(frontV3.createParamMap(Dispatchers.request(workflow, frontV3Url)));
+        viewV3 = frontV3.viewResolver(mvV3.getViewName());
+
+        frontV4 = new FrontControllerServletV4();
+        controllerV4 = switch (workflow) {
+            case "form" -> new MemberFormControllerV4();
+            case "save" -> new MemberSaveControllerV4();
+            default -> new MemberListControllerV4();
+        };
+        frontV4Url = Dispatchers.url("front-controller-v4", workflow);
+        modelV4 = new HashMap<>();
+        viewNameV4 = controllerV4.process(frontV4.createParamMap(Dispatchers.request(workflow, frontV4Url)), modelV4);
+        viewV4 = frontV4.viewResolver(viewNameV4);
+
+        frontControllerV5 = new FrontControllerServletV5();
+        frontControllerV5Url = Dispatchers.url("front-controller-v5-v3", workflow);
+        phaseTimings.configure(1, false);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMembers() {
+        memberRepository.clearStore();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        phaseTimings.configure(0, false);
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : phaseTimings.snapshot().entrySet()) {
+            LatencyHistogram.Snapshot s = entry.getValue();
+            System.out.printf("front-controller-v5 %-7s %-8s count=%,d p50=%,d ns p99=%,d ns%n",
+                    workflow, entry.getKey(), s.count(), s.percentile(0.5), s.percentile(0.99));
+        }
+        frontV3.destroy();
+        frontV4.destroy();
+        frontControllerV5.destroy();
+        dispatcherServlet.destroy();
+        memberRepository.clearStore();
+    }
+
+    @Benchmark
+    public MockHttpServletRequest request() {
+        return Dispatchers.request(workflow, springUrl);
+    }
+
+    @Benchmark
+    public HandlerExecutionChain springRouting() throws Exception {
+        return handlerMapping.getHandler(Dispatchers.request(workflow, springUrl));
+    }
+
+    @Benchmark
+    public ModelAndView springHandle() throws Exception {
+        return handlerAdapter.handle(Dispatchers.request(workflow, springUrl), new MockHttpServletResponse(), handler);
+    }
+
+    @Benchmark
+    public View springViewResolution() throws Exception {
+        return viewResolver.resolveViewName(mv.getViewName(), Locale.KOREA);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse springRender() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        view.render(mv.getModel(), Dispatchers.request(workflow, springUrl), resp);
+        return resp;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse frontV1Handle() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        controllerV1.process(Dispatchers.request(workflow, frontV1Url), resp);
+        return resp;
+    }
+
+    @Benchmark
+    public MyView frontV2Handle() throws Exception {
+        return controllerV2.process(Dispatchers.request(workflow, frontV2Url), new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse frontV2Render() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        viewV2.render(Dispatchers.request(workflow, frontV2Url), resp);
+        return resp;
+    }
+
+    @Benchmark
+    public ModelView frontV3Handle() {
+        return controllerV3.process(frontV3.createParamMap(Dispatchers.request(workflow, frontV3Url)));
+    }
+
+    @Benchmark
+    public MyView frontV3ViewResolution() {
+        return frontV3.viewResolver(mvV3.getViewName());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse frontV3Render() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        viewV3.render(mvV3.getModel(), Dispatchers.request(workflow, frontV3Url), resp);
+        return resp;
+    }
+
+    @Benchmark
+    public String frontV4Handle() {
+        Map<String, Object> model = new HashMap<>();
+        return controllerV4.process(frontV4.createParamMap(Dispatchers.request(workflow, frontV4Url)), model);
+    }
+
+    @Benchmark
+    public MyView frontV4ViewResolution() {
+        return frontV4.viewResolver(viewNameV4);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse frontV4Render() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        viewV4.render(modelV4, Dispatchers.request(workflow, frontV4Url), resp);
+        return resp;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse frontControllerV5() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        frontControllerV5.service(Dispatchers.request(workflow, frontControllerV5Url), resp);
+        return resp;
+    }
+}
@@ -0,0 +1,79 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.api.controller.MemberListApiController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 목록 JSON 응답 비교
+ *  - string    : ResponseJsonServlet 방식, writeValueAsString 후 getWriter().write
+ *  - streaming : ApiControllerHandlerAdapter, JsonGenerator 로 출력 스트림에 바로 쓰기
+ *
+ * JSP 경로와의 비교는 ApiControllerHandlerAdapterLoadTest 에서 실제 서버로 측정한다.
+ * ./gradlew jmh -PjmhIncludes=MembersJsonBenchmark (-prof gc 로 할당량 확인)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MembersJsonBenchmark {
+    @Param({"100", "10000"})
+    int members;
+
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiControllerHandlerAdapter adapter = new ApiControllerHandlerAdapter();
+    private final MemberListApiController controller = new MemberListApiController();
+
+    @Setup
+    public void setup() {
+        memberRepository.clearStore();
+        for (int i = 0; i < members; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        memberRepository.clearStore();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse string() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("utf-8");
+
+        String result = objectMapper.writeValueAsString(memberRepository.findAll());
+        resp.getWriter().write(result);
+        resp.getWriter().flush();
+        return resp;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse streaming() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/front-controller/v5/api/members");
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        adapter.handle(req, resp, controller);
+        return resp;
+    }
+}
@@ -0,0 +1,91 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.v6.controller.MemberControllerV6;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemberControllerV6.save 호출 비용 비교
+ *  - direct     : 컴파일된 직접 호출
+ *  - reflection : Method.invoke
+ *  - invoker    : HandlerMethodInvokerFactory 가 생성한 호출기
+ *
+ * ./gradlew jmh -PjmhIncludes=HandlerMethodInvokeBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandlerMethodInvokeBenchmark {
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+
+    private MemberControllerV6 controller;
+    private Method saveMethod;
+    private HandlerMethodInvoker invoker;
+
+    private Map<String, Object> model;
+    private Object[] args;
+    private int calls;
+
+    @Setup
+    public void setup() throws Exception {
+        controller = new MemberControllerV6();
+        saveMethod = MemberControllerV6.class.getMethod("save", Member.class, Map.class);
+        invoker = new HandlerMethodInvokerFactory().create(saveMethod);
+
+        model = new HashMap<>();
+        args = new Object[]{null, model};
+    }
+
+    @TearDown
+    public void tearDown() {
+        memberRepository.clearStore();
+    }
+
+    @Benchmark
+    public Object direct() {
+        clearPeriodically();
+        return controller.save(new Member("hello", 20), model);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        clearPeriodically();
+        args[0] = new Member("hello", 20);
+        return saveMethod.invoke(controller, args);
+    }
+
+    @Benchmark
+    public Object invoker() throws Exception {
+        clearPeriodically();
+        args[0] = new Member("hello", 20);
+        return invoker.invoke(controller, args);
+    }
+
+    /**
+     * save 가 저장소를 계속 키우지 않도록 모든 벤치마크에서 같은 주기로 비운다.
+     */
+    private void clearPeriodically() {
+        if ((++calls & 1023) == 0) {
+            memberRepository.clearStore();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package hello.springcoremvc.web.logging;
+
+import hello.springcoremvc.basic.request.RequestBodyJsonServlet;
+import hello.springcoremvc.basic.request.RequestHeaderServlet;
+import hello.springcoremvc.basic.request.RequestParamServlet;
+import hello.springcoremvc.web.frontcontroller.v4.FrontControllerServletV4;
+import hello.springcoremvc.web.springmvc.old.MyHttpRequestHandler;
+import hello.springcoremvc.web.springmvc.old.OldController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 느린 stdout 에서 요청 로그를 남기는 엔드포인트의 처리량 (8 쓰레드)
+ * System.out 을 쓰기마다 sinkDelayMicros 만큼 걸리는 스트림으로 바꾼다. (느린 콘솔, 파이프가 막힌 로그 수집기)
+ *  - stdout  : 예전 방식, 요청마다 덤프를 만들어 요청 쓰레드에서 System.out 에 쓴다.
+ *  - sampled : 요청 쓰레드에서 쓰지만 덤프는 초당 10개까지
+ *  - async   : 링 버퍼에 넣고 백그라운드 쓰레드가 쓴다. 덤프는 초당 10개까지, 넘치면 버린다.
+ * 끝나면 버린 이벤트 수를 출력한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=RequestLoggingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+    @Param({
+            "front-controller-v4", "old-controller", "request-handler",
+            "request-body-json", "request-param", "request-header",
+    })
+    String endpoint;
+
+    @Param({"stdout", "sampled", "async"})
+    String mode;
+
+    @Param({"50"})
+    long sinkDelayMicros;
+
+    private final AsyncLog log = AsyncLog.getInstance();
+    private final FrontControllerServletV4 frontControllerServletV4 = new FrontControllerServletV4();
+    private final OldController oldController = new OldController();
+    private final MyHttpRequestHandler myHttpRequestHandler = new MyHttpRequestHandler();
+    private final RequestBodyJsonServlet requestBodyJsonServlet = new RequestBodyJsonServlet();
+    private final RequestParamServlet requestParamServlet = new RequestParamServlet();
+    private final RequestHeaderServlet requestHeaderServlet = new RequestHeaderServlet();
+    private final byte[] jsonBody = "{\"username\":\"hello\",\"age\":20}".getBytes(StandardCharsets.UTF_8);
+    private PrintStream originalOut;
+
+    @Setup
+    public void setup() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(new SlowOutputStream(TimeUnit.MICROSECONDS.toNanos(sinkDelayMicros)), true));
+        switch (mode) {
+            // 초당 10억 개: 사실상 제한 없음
+            case "stdout" -> log.configure(false, 1_000_000_000);
+            case "sampled" -> log.configure(false, 10);
+            case "async" -> log.configure(true, 10);
+            default -> throw new IllegalArgumentException("알 수 없는 모드입니다. mode = " + mode);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        AsyncLogStats before = log.stats();
+        log.flush();
+        System.setOut(originalOut);
+        System.out.println(endpoint + " " + mode + " " + before);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse request() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        switch (endpoint) {
+            case "front-controller-v4" -> frontControllerServletV4.service(
+                    new MockHttpServletRequest("GET", "/front-controller/v4/members/new-form"), resp);
+            case "old-controller" -> oldController.handleRequest(
+                    new MockHttpServletRequest("GET", "/springmvc/old-controller"), resp);
+            case "request-handler" -> myHttpRequestHandler.handleRequest(
+                    new MockHttpServletRequest("GET", "/springmvc/request-handler"), resp);
+            case "request-body-json" -> {
+                MockHttpServletRequest req = new MockHttpServletRequest("POST", "/request-body-json");
+                req.setContentType("application/json");
+                req.setContent(jsonBody);
+                requestBodyJsonServlet.service(req, resp);
+            }
+            case "request-param" -> {
+                MockHttpServletRequest req = new MockHttpServletRequest("GET", "/request-param");
+                req.setQueryString("username=hello&age=20");
+                req.addParameter("username", "hello");
+                req.addParameter("age", "20");
+                requestParamServlet.service(req, resp);
+            }
+            case "request-header" -> {
+                MockHttpServletRequest req = new MockHttpServletRequest("GET", "/request-header");
+                req.addHeader("Host", "localhost:8080");
+                req.addHeader("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8");
+                req.addHeader("User-Agent", "jmh");
+                requestHeaderServlet.service(req, resp);
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 엔드포인트입니다. endpoint = " + endpoint);
+        }
+        return resp;
+    }
+
+    /**
+     * 쓰기마다 delayNanos 만큼 걸리는 출력
+     */
+    static class SlowOutputStream extends OutputStream {
+        private final long delayNanos;
+
+        SlowOutputStream(long delayNanos) {
+            this.delayNanos = delayNanos;
+        }
+
+        @Override
+        public void write(int b) {
+            LockSupport.parkNanos(delayNanos);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            LockSupport.parkNanos(delayNanos);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package hello.springcoremvc.web.metrics;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나를 기록하는 비용 (목표: 100ns 미만, 할당 0)
+ *  - record   : RouteMetrics.record 만
+ *  - filter   : LatencyFilter 를 거친 빈 체인
+ *  - noFilter : 같은 빈 체인을 직접 호출, filter 와의 차이가 필터 비용이다.
+ * 4 쓰레드 측정은 같은 경로 히스토그램에 동시에 기록할 때의 경합 비용이다.
+ *
+ * ./gradlew jmh -PjmhIncludes=LatencyRecordingBenchmark
+ * 할당은 -prof gc 로 확인한다. (gc.alloc.rate.norm 이 0 이어야 한다.)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LatencyRecordingBenchmark {
+    private static final String[] ROUTES = {
+            "/servlet/members",
+            "/front-controller/v5/v3/members",
+            "/springmvc/v3/members",
+    };
+
+    private RouteMetrics metrics;
+    private LatencyFilter filter;
+    private final FilterChain chain = (req, resp) -> {
+    };
+    private MockHttpServletRequest req;
+    private MockHttpServletResponse resp;
+
+    @Setup
+    public void setup() {
+        metrics = new RouteMetrics(200);
+        filter = new LatencyFilter(metrics);
+        for (String route : ROUTES) {
+            metrics.record(route, 0, false);
+        }
+        req = new MockHttpServletRequest("GET", ROUTES[2]);
+        resp = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void record() {
+        metrics.record(ROUTES[1], 123_456, false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void record4Threads() {
+        metrics.record(ROUTES[1], 123_456, false);
+    }
+
+    @Benchmark
+    public void filter() throws Exception {
+        filter.doFilter(req, resp, chain);
+    }
+
+    @Benchmark
+    public void noFilter() throws Exception {
+        chain.doFilter(req, resp);
+    }
+}
@@ -0,0 +1,99 @@
+package hello.springcoremvc.web.servlet;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 10,000명 목록 페이지 비교
+ *  - printWriter : 기존 MemberListServlet, 행마다 문자열을 더해서 PrintWriter 로 쓰기
+ *  - bytes       : 미리 인코딩한 조각 + Utf8ResponseWriter
+ *
+ * ./gradlew jmh -PjmhIncludes=MemberListServletBenchmark (-prof gc 로 요청당 할당량 확인)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberListServletBenchmark {
+    static final int MEMBERS = 10_000;
+
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final MemberListServlet servlet = new MemberListServlet();
+
+    @Setup
+    public void setup() {
+        memberRepository.clearStore();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        memberRepository.clearStore();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse printWriter() throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        resp.setContentType("text/html");
+        resp.setCharacterEncoding("utf-8");
+
+        PrintWriter w = resp.getWriter();
+        w.write("<html>");
+        w.write("<head>");
+        w.write(" <meta charset=\"UTF-8\">");
+        w.write(" <title>Title</title>");
+        w.write("</head>");
+        w.write("<body>");
+        w.write("<a href=\"/index.html\">메인</a>");
+        w.write("<table>");
+        w.write(" <thead>");
+        w.write(" <th>id</th>");
+        w.write(" <th>username</th>");
+        w.write(" <th>age</th>");
+        w.write(" </thead>");
+        w.write(" <tbody>");
+
+        for (Member member : memberRepository.findAll()) {
+            w.write(" <tr>");
+            w.write(" <td>" + member.getId() + "</td>");
+            w.write(" <td>" + member.getUsername() + "</td>");
+            w.write(" <td>" + member.getAge() + "</td>");
+            w.write(" </tr>");
+        }
+
+        w.write(" </tbody>");
+        w.write("</table>");
+        w.write("</body>");
+        w.write("</html>");
+        w.flush();
+        return resp;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse bytes() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/servlet/members");
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        servlet.service(req, resp);
+        return resp;
+    }
+}
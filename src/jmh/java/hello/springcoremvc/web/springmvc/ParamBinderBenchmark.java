@@ -0,0 +1,59 @@
+package hello.springcoremvc.web.springmvc;
+
+import hello.springcoremvc.basic.HelloData;
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ExtendedServletRequestDataBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 파라미터 -> HelloData 바인딩 비교
+ *  - modelAttribute : @ModelAttribute 가 사용하는 ExtendedServletRequestDataBinder + ConversionService
+ *  - generated      : @BindParams 로 생성된 HelloDataParamBinder
+ *
+ * ./gradlew jmh -PjmhIncludes=ParamBinderBenchmark (-prof gc 로 할당량 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParamBinderBenchmark {
+    private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+    private final ParamBinder<HelloData> generatedBinder = ParamBinders.get(HelloData.class);
+    private MockHttpServletRequest req;
+
+    @Setup
+    public void setup() {
+        req = new MockHttpServletRequest("POST", "/hello");
+        req.addParameter("username", "hello");
+        req.addParameter("age", "20");
+    }
+
+    @Benchmark
+    public Object modelAttribute() {
+        ExtendedServletRequestDataBinder binder = new ExtendedServletRequestDataBinder(new HelloData(), "helloData");
+        binder.setConversionService(conversionService);
+        binder.bind(req);
+        return binder.getTarget();
+    }
+
+    @Benchmark
+    public HelloData generated() {
+        return generatedBinder.bind(req::getParameter);
+    }
+}
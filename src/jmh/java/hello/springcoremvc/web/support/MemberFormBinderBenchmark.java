@@ -0,0 +1,67 @@
+package hello.springcoremvc.web.support;
+
+import hello.springcoremvc.model.Member;
+import org.apache.tomcat.util.http.Parameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 저장 폼 바인딩 비교
+ *  - parameters : 톰캣이 getParameter() 를 위해 하는 일, 바디 전체를 Parameters 맵으로 디코딩한 뒤 getParameter + Integer.parseInt
+ *  - binder     : MemberFormBinder, username 만 디코딩하고 age 는 바이트에서 바로 읽는다.
+ *
+ * ./gradlew jmh -PjmhIncludes=MemberFormBinderBenchmark (-prof gc 로 할당량 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemberFormBinderBenchmark {
+    @Param({
+            "username=kim&age=20",
+            "username=%ED%9A%8C%EC%9B%90&age=20&submit=%EC%A0%84%EC%86%A1&csrf=0123456789abcdef0123456789abcdef"
+    })
+    String form;
+
+    private byte[] body;
+    private final Parameters parameters = new Parameters();
+
+    @Setup
+    public void setup() {
+        body = form.getBytes(StandardCharsets.US_ASCII);
+        parameters.setCharset(StandardCharsets.UTF_8);
+        parameters.setLimit(-1);
+    }
+
+    @Benchmark
+    public Member parameters() {
+        parameters.recycle();
+        parameters.setCharset(StandardCharsets.UTF_8);
+        parameters.processParameters(body, 0, body.length);
+
+        String username = parameters.getParameter("username");
+        int age = Integer.parseInt(parameters.getParameter("age"));
+        return new Member(username, age);
+    }
+
+    @Benchmark
+    public Member binder() {
+        Member member = new Member();
+        MemberFormBinder.bind(body, body.length, StandardCharsets.UTF_8, member, false);
+        return member;
+    }
+}
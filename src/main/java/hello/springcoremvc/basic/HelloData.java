@@ -1,10 +1,12 @@
 package hello.springcoremvc.basic;
 
+import hello.springcoremvc.binder.BindParams;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
+@BindParams
 public class HelloData {
     private String username;
     private int age;
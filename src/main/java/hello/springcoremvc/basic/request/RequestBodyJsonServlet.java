@@ -1,37 +1,60 @@
 package hello.springcoremvc.basic.request;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import hello.springcoremvc.basic.HelloData;
-import jakarta.servlet.ServletInputStream;
+import hello.springcoremvc.web.logging.AsyncLog;
+import hello.springcoremvc.web.support.JsonBodyException;
+import hello.springcoremvc.web.support.JsonBodyReader;
+import hello.springcoremvc.web.support.JsonFieldBinder;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 @WebServlet(
         name = "requestBodyJsonServlet",
         urlPatterns = "/request-body-json"
 )
 public class RequestBodyJsonServlet extends HttpServlet {
-    private ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * {"username": "hello", "age": 20}
+     */
+    static final JsonFieldBinder<HelloData> HELLO_DATA_BINDER = (helloData, fieldName, parser) -> switch (fieldName) {
+        case "username" -> {
+            helloData.setUsername(JsonBodyReader.text(parser));
+            yield true;
+        }
+        case "age" -> {
+            helloData.setAge(JsonBodyReader.intValue(parser));
+            yield true;
+        }
+        default -> false;
+    };
 
+    private JsonBodyReader jsonBodyReader = new JsonBodyReader();
+    private AsyncLog log = AsyncLog.getInstance();
+
+    /**
+     * 바디를 String 으로 복사하지 않고 입력 스트림에서 바로 HelloData 로 읽는다.
+     */
     @Override
     protected void service(
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws IOException {
-        ServletInputStream inputStream = req.getInputStream();
-        String messageBody = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
-
-        System.out.println("messageBody = " + messageBody);
+        HelloData helloData;
+        try {
+            helloData = jsonBodyReader.read(req, HelloData::new, HELLO_DATA_BINDER);
+        } catch (JsonBodyException e) {
+            e.writeTo(resp);
+            return;
+        }
 
-        HelloData helloData = objectMapper.readValue(messageBody, HelloData.class);
-        System.out.println("helloData.username = " + helloData.getUsername());
-        System.out.println("helloData.age = " + helloData.getAge());
+        if (log.shouldDumpDebug()) {
+            log.debug("helloData.username = " + helloData.getUsername() + "\n"
+                    + "helloData.age = " + helloData.getAge());
+        }
 
         resp.getWriter().write("ok");
     }
@@ -1,5 +1,6 @@
 package hello.springcoremvc.basic.request;
 
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServlet;
@@ -9,101 +10,110 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Enumeration;
 
+/**
+ * 요청 라인, 헤더, 편의 조회 결과를 덤프한다. 덤프는 AsyncLog 의 초당 개수 제한 안에서만 만든다.
+ */
 @WebServlet(
         name = "requestHeaderServlet",
         urlPatterns = "/request-header"
 )
 public class RequestHeaderServlet extends HttpServlet {
+    private AsyncLog log = AsyncLog.getInstance();
+
     @Override
     protected void service(
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws IOException {
-        printStartLine(req);
-        printHeaders(req);
-        printHeaderUtils(req);
-        printEtc(req);
+        if (log.shouldDumpDebug()) {
+            StringBuilder sb = new StringBuilder(2048);
+            appendStartLine(req, sb);
+            appendHeaders(req, sb);
+            appendHeaderUtils(req, sb);
+            appendEtc(req, sb);
+            log.debug(sb.toString());
+        }
 
         resp.getWriter().write("ok");
     }
 
-    private void printStartLine(HttpServletRequest req) {
-        System.out.println("--- REQUEST LINE -- START ---");
+    private void appendStartLine(HttpServletRequest req, StringBuilder sb) {
+        sb.append("--- REQUEST LINE -- START ---").append('\n');
 
-        System.out.println("req.getMethod() = " + req.getMethod());
-        System.out.println("req.getProtocol() = " + req.getProtocol());
-        System.out.println("req.getScheme() = " + req.getScheme());
-        System.out.println("req.getRequestURL() = " + req.getRequestURL());
-        System.out.println("req.getRequestURI() = " + req.getRequestURI());
-        System.out.println("req.getQueryString() = " + req.getQueryString());
-        System.out.println("req.isSecure() = " + req.isSecure());
+        sb.append("req.getMethod() = " + req.getMethod()).append('\n');
+        sb.append("req.getProtocol() = " + req.getProtocol()).append('\n');
+        sb.append("req.getScheme() = " + req.getScheme()).append('\n');
+        sb.append("req.getRequestURL() = " + req.getRequestURL()).append('\n');
+        sb.append("req.getRequestURI() = " + req.getRequestURI()).append('\n');
+        sb.append("req.getQueryString() = " + req.getQueryString()).append('\n');
+        sb.append("req.isSecure() = " + req.isSecure()).append('\n');
 
-        System.out.println("--- REQUEST LINE -- END ---");
+        sb.append("--- REQUEST LINE -- END ---").append('\n');
     }
 
-    private void printHeaders(HttpServletRequest req) {
-        System.out.println("--- HEADERS -- START ---");
+    private void appendHeaders(HttpServletRequest req, StringBuilder sb) {
+        sb.append("--- HEADERS -- START ---").append('\n');
 
         /*
         Enumeration<String> headerNames = req.getHeaderNames();
         while( headerNames.hasMoreElements()) {
             String headerName = headerNames.nextElement();
-            System.out.println(headerName + ": " + req.getHeader(headerName));
+            sb.append(headerName + ": " + req.getHeader(headerName)).append('\n');
         }
         */
 
         req.getHeaderNames().asIterator()
                 .forEachRemaining(
-                        headerName -> System.out.println(headerName + ": " + req.getHeader(headerName))
+                        headerName -> sb.append(headerName + ": " + req.getHeader(headerName)).append('\n')
                 );
 
-        System.out.println("--- HEADERS -- END ---");
+        sb.append("--- HEADERS -- END ---").append('\n');
     }
 
-    private void printHeaderUtils(HttpServletRequest req) {
-        System.out.println("--- HEADER UTILS -- START ---");
+    private void appendHeaderUtils(HttpServletRequest req, StringBuilder sb) {
+        sb.append("--- HEADER UTILS -- START ---").append('\n');
 
-        System.out.println("[Host 편의 조회]");
-        System.out.println("request.getServerName() = " + req.getServerName()); //Host 헤더
-        System.out.println("request.getServerPort() = " + req.getServerPort()); //Host 헤더
-        System.out.println();
+        sb.append("[Host 편의 조회]").append('\n');
+        sb.append("request.getServerName() = " + req.getServerName()).append('\n'); //Host 헤더
+        sb.append("request.getServerPort() = " + req.getServerPort()).append('\n'); //Host 헤더
+        sb.append('\n');
 
-        System.out.println("[Accept-Language 편의 조회]");
+        sb.append("[Accept-Language 편의 조회]").append('\n');
         req.getLocales().asIterator()
-                .forEachRemaining(locale -> System.out.println("locale = " + locale));
-        System.out.println("request.getLocale() = " + req.getLocale());
-        System.out.println();
+                .forEachRemaining(locale -> sb.append("locale = " + locale).append('\n'));
+        sb.append("request.getLocale() = " + req.getLocale()).append('\n');
+        sb.append('\n');
 
-        System.out.println("[cookie 편의 조회]");
+        sb.append("[cookie 편의 조회]").append('\n');
         if (req.getCookies() != null) {
             for (Cookie cookie : req.getCookies()) {
-                System.out.println(cookie.getName() + ": " + cookie.getValue());
+                sb.append(cookie.getName() + ": " + cookie.getValue()).append('\n');
             }
         }
-        System.out.println();
+        sb.append('\n');
 
-        System.out.println("[Content 편의 조회]");
-        System.out.println("request.getContentType() = " + req.getContentType());
-        System.out.println("request.getContentLength() = " + req.getContentLength());
-        System.out.println("request.getCharacterEncoding() = " + req.getCharacterEncoding());
+        sb.append("[Content 편의 조회]").append('\n');
+        sb.append("request.getContentType() = " + req.getContentType()).append('\n');
+        sb.append("request.getContentLength() = " + req.getContentLength()).append('\n');
+        sb.append("request.getCharacterEncoding() = " + req.getCharacterEncoding()).append('\n');
 
-        System.out.println("--- HEADER UTILS -- END ---");
+        sb.append("--- HEADER UTILS -- END ---").append('\n');
     }
 
-    private void printEtc(HttpServletRequest req) {
-        System.out.println("--- ETC -- START ---");
+    private void appendEtc(HttpServletRequest req, StringBuilder sb) {
+        sb.append("--- ETC -- START ---").append('\n');
 
-        System.out.println("[Remote 정보]");
-        System.out.println("request.getRemoteHost() = " + req.getRemoteHost()); //
-        System.out.println("request.getRemoteAddr() = " + req.getRemoteAddr()); //
-        System.out.println("request.getRemotePort() = " + req.getRemotePort()); //
-        System.out.println();
+        sb.append("[Remote 정보]").append('\n');
+        sb.append("request.getRemoteHost() = " + req.getRemoteHost()).append('\n'); //
+        sb.append("request.getRemoteAddr() = " + req.getRemoteAddr()).append('\n'); //
+        sb.append("request.getRemotePort() = " + req.getRemotePort()).append('\n'); //
+        sb.append('\n');
 
-        System.out.println("[Local 정보]");
-        System.out.println("request.getLocalName() = " + req.getLocalName()); //
-        System.out.println("request.getLocalAddr() = " + req.getLocalAddr()); //
-        System.out.println("request.getLocalPort() = " + req.getLocalPort()); //
+        sb.append("[Local 정보]").append('\n');
+        sb.append("request.getLocalName() = " + req.getLocalName()).append('\n'); //
+        sb.append("request.getLocalAddr() = " + req.getLocalAddr()).append('\n'); //
+        sb.append("request.getLocalPort() = " + req.getLocalPort()).append('\n'); //
 
-        System.out.println("--- ETC -- END ---");
+        sb.append("--- ETC -- END ---").append('\n');
     }
 }
@@ -1,5 +1,6 @@
 package hello.springcoremvc.basic.request;
 
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,51 +9,66 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Enumeration;
 
+/**
+ * 요청 파라미터 조회 결과를 덤프한다. 덤프는 AsyncLog 의 초당 개수 제한 안에서만 만든다.
+ */
 @WebServlet(
         name = "requestParamServlet",
         urlPatterns = "/request-param"
 )
 public class RequestParamServlet extends HttpServlet {
+    private AsyncLog log = AsyncLog.getInstance();
+
     @Override
     protected void service(
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws IOException {
-        System.out.println("전체 파라미터 조회 - START");
+        if (log.shouldDumpDebug()) {
+            log.debug(dumpParams(req));
+        }
+
+        resp.getWriter().write("ok");
+    }
+
+    private String dumpParams(HttpServletRequest req) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("전체 파라미터 조회 - START").append('\n');
 
         /*
         Enumeration<String> parameterNames = req.getParameterNames();
         while(parameterNames.hasMoreElements()) {
             String paramName = parameterNames.nextElement();
-            System.out.println(paramName + ": " + req.getParameter(paramName));
+            sb.append(paramName + ": " + req.getParameter(paramName)).append('\n');
         }
         */
         req.getParameterNames().asIterator()
-                .forEachRemaining(paramName -> System.out.println(paramName + ": " + req.getParameter(paramName)));
+                .forEachRemaining(paramName -> sb.append(paramName + ": " + req.getParameter(paramName)).append('\n'));
 
-        System.out.println("전체 파라미터 조회 - END");
-        System.out.println();
+        sb.append("전체 파라미터 조회 - END").append('\n');
+        sb.append('\n');
 
-        System.out.println("단일 파라미터 조회 - START");
+        sb.append("단일 파라미터 조회 - START").append('\n');
 
         String userName = req.getParameter("username");
-        System.out.println("req.getParameter(\"username\") = " + userName);
-        
+        sb.append("req.getParameter(\"username\") = " + userName).append('\n');
+
         String age = req.getParameter("age");
-        System.out.println("req.getParameter(\"age\") = " + age);
+        sb.append("req.getParameter(\"age\") = " + age).append('\n');
 
-        System.out.println("단일 파라미터 조회 - END");
-        System.out.println();
+        sb.append("단일 파라미터 조회 - END").append('\n');
+        sb.append('\n');
 
-        System.out.println("이름이 같은 복수 파라미터 조회 - START");
+        sb.append("이름이 같은 복수 파라미터 조회 - START").append('\n');
 
         String[] userNames = req.getParameterValues("username");
-        for (String name : userNames) {
-            System.out.println("name = " + name);
+        if (userNames != null) {
+            for (String name : userNames) {
+                sb.append("name = " + name).append('\n');
+            }
         }
 
-        System.out.println("이름이 같은 복수 파라미터 조회 - END");
-
-        resp.getWriter().write("ok");
+        sb.append("이름이 같은 복수 파라미터 조회 - END").append('\n');
+        return sb.toString();
     }
 }
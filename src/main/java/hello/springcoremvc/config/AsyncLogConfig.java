@@ -0,0 +1,30 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.logging.AsyncLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 경로 비동기 로그 설정
+ * 서블릿은 스프링 빈이 아니므로 AsyncLog.getInstance() 로 같은 싱글톤을 쓴다.
+ *
+ * app.async-log.enabled          : false 이면 요청 쓰레드에서 바로 System.out 에 쓴다.
+ * app.async-log.debug-per-second : 초당 남기는 요청 덤프 수 (0 이면 남기지 않는다)
+ */
+@Configuration
+public class AsyncLogConfig {
+
+    /**
+     * 컨텍스트를 닫을 때 버퍼에 남은 로그를 모두 쓴다.
+     */
+    @Bean(destroyMethod = "flush")
+    public AsyncLog asyncLog(
+            @Value("${app.async-log.enabled:true}") boolean enabled,
+            @Value("${app.async-log.debug-per-second:10}") double debugPerSecond
+    ) {
+        AsyncLog log = AsyncLog.getInstance();
+        log.configure(enabled, debugPerSecond);
+        return log;
+    }
+}
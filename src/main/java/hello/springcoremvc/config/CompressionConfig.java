@@ -0,0 +1,44 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.compression.CompressionFilter;
+import hello.springcoremvc.web.compression.CompressionMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 응답 압축
+ * 회원 목록 필터(MemberListFilterConfig)보다 바깥에서 실행한다. 안쪽에서 정한 ETag 를 압축된 표현의 ETag 로 바꾸고,
+ * 페이지 캐시가 이미 gzip 으로 응답하면 다시 압축하지 않는다.
+ *
+ * app.compression.enabled   : 사용 여부
+ * app.compression.min-size  : 이 크기보다 작은 응답은 압축하지 않는다.
+ * app.compression.level     : Deflater 압축 레벨 (1 ~ 9)
+ * app.compression.pool-size : 재사용할 Deflater 최대 개수 (방식별)
+ */
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    public CompressionMetrics compressionMetrics() {
+        return new CompressionMetrics();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.compression.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(
+            CompressionMetrics compressionMetrics,
+            @Value("${app.compression.min-size:1024}") int minSize,
+            @Value("${app.compression.level:6}") int level,
+            @Value("${app.compression.pool-size:64}") int poolSize
+    ) {
+        CompressionFilter filter = new CompressionFilter(minSize, level, poolSize, compressionMetrics);
+        FilterRegistrationBean<CompressionFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+        return registration;
+    }
+}
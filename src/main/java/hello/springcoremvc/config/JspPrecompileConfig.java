@@ -0,0 +1,31 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.support.PrecompiledJsps;
+import jakarta.servlet.ServletRegistration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.ServletContextInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 빌드할 때 미리 컴파일한 JSP 서블릿을 JSP 경로에 등록한다. (./gradlew precompileJsp)
+ * 경로가 정확히 일치하는 매핑이 *.jsp 매핑(JspServlet)보다 우선하므로, 실행 중에 JSP 를 변환, 컴파일하지 않는다.
+ * 시작할 때 초기화해서 첫 요청이 서블릿 로딩 비용도 내지 않게 한다.
+ *
+ * app.jsp-precompile.enabled=false 이면 등록하지 않고, 첫 요청에서 Jasper 가 컴파일한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jsp-precompile.enabled", havingValue = "true", matchIfMissing = true)
+public class JspPrecompileConfig {
+
+    @Bean
+    public ServletContextInitializer precompiledJspServlets() {
+        return servletContext -> {
+            for (PrecompiledJsps.Jsp jsp : PrecompiledJsps.load(servletContext.getClassLoader())) {
+                ServletRegistration.Dynamic registration = servletContext.addServlet(jsp.name(), jsp.className());
+                registration.addMapping(jsp.path());
+                registration.setLoadOnStartup(2);
+            }
+        };
+    }
+}
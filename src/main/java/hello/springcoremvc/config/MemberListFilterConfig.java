@@ -0,0 +1,110 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.cache.PageCache;
+import hello.springcoremvc.web.cache.PageCacheFilter;
+import hello.springcoremvc.web.cache.SingleFlightFilter;
+import hello.springcoremvc.web.cache.SingleFlightMetrics;
+import hello.springcoremvc.web.filter.MemberListETagFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 회원 목록 응답 필터
+ * 실행 순서가 중요하므로 @WebFilter 대신 순서를 지정해서 등록한다. (CompressionFilter 보다 안쪽)
+ *  1. MemberListETagFilter : If-None-Match 가 일치하면 304, 캐시도 보지 않는다.
+ *  2. PageCacheFilter      : 렌더링된 페이지 캐시
+ *  3. SingleFlightFilter   : 캐시에 없는 페이지를 동시에 요청하면 한 번만 렌더링
+ *
+ * app.page-cache.enabled     : 페이지 캐시 사용 여부
+ * app.page-cache.max-bytes   : 캐시가 보관하는 최대 바이트, 넘으면 LRU 로 제거
+ * app.page-cache.max-entries : 캐시가 보관하는 최대 항목 수, 넘으면 LRU 로 제거
+ * app.page-cache.gzip        : gzip 으로 압축한 본문도 함께 보관
+ *
+ * app.single-flight.enabled : 요청 합치기 사용 여부
+ * app.single-flight.urls    : 요청을 합칠 URL (라우트별로 선택, 비동기 URL 은 불가)
+ * app.single-flight.timeout : 팔로워가 리더의 결과를 기다리는 최대 시간, 넘으면 각자 처리
+ */
+@Configuration
+public class MemberListFilterConfig {
+    public static final String[] MEMBER_LIST_URLS = {
+            "/servlet/members",
+            "/servlet-mvc/members",
+            "/front-controller/v1/members",
+            "/front-controller/v2/members",
+            "/front-controller/v3/members",
+            "/front-controller/v4/members",
+            "/front-controller/v5/v3/members",
+            "/front-controller/v5/v4/members",
+            "/front-controller/v5/v6/members",
+            "/front-controller/v5/async/members",
+            "/front-controller/v5/api/members",
+            "/springmvc/v1/members",
+            "/springmvc/v2/members",
+            "/springmvc/v3/members",
+    };
+
+    /**
+     * 비동기 요청은 본문을 모을 수 없으므로 캐시하지 않는다.
+     */
+    private static final String[] PAGE_CACHE_URLS = Arrays.stream(MEMBER_LIST_URLS)
+            .filter(url -> !url.startsWith("/front-controller/v5/async/"))
+            .toArray(String[]::new);
+
+    @Bean
+    public PageCache pageCache(
+            @Value("${app.page-cache.enabled:true}") boolean enabled,
+            @Value("${app.page-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.page-cache.max-entries:256}") int maxEntries,
+            @Value("${app.page-cache.gzip:false}") boolean gzip
+    ) {
+        return new PageCache(maxBytes, maxEntries, gzip, enabled);
+    }
+
+    @Bean
+    public FilterRegistrationBean<MemberListETagFilter> memberListETagFilter() {
+        FilterRegistrationBean<MemberListETagFilter> registration = new FilterRegistrationBean<>(new MemberListETagFilter());
+        registration.addUrlPatterns(MEMBER_LIST_URLS);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<PageCacheFilter> pageCacheFilter(PageCache pageCache) {
+        FilterRegistrationBean<PageCacheFilter> registration = new FilterRegistrationBean<>(new PageCacheFilter(pageCache));
+        registration.addUrlPatterns(PAGE_CACHE_URLS);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 200);
+        return registration;
+    }
+
+    @Bean
+    public SingleFlightMetrics singleFlightMetrics() {
+        return new SingleFlightMetrics();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.single-flight.enabled", havingValue = "true")
+    public FilterRegistrationBean<SingleFlightFilter> singleFlightFilter(
+            SingleFlightMetrics singleFlightMetrics,
+            @Value("${app.single-flight.urls:/springmvc/v3/members}") String[] urls,
+            @Value("${app.single-flight.timeout:2s}") Duration timeout
+    ) {
+        for (String url : urls) {
+            if (url.startsWith("/front-controller/v5/async/")) {
+                throw new IllegalArgumentException("비동기 요청은 합칠 수 없습니다. url = " + url);
+            }
+        }
+
+        FilterRegistrationBean<SingleFlightFilter> registration =
+                new FilterRegistrationBean<>(new SingleFlightFilter(timeout, singleFlightMetrics));
+        registration.addUrlPatterns(urls);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 250);
+        return registration;
+    }
+}
@@ -0,0 +1,35 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.metrics.LatencyFilter;
+import hello.springcoremvc.web.metrics.RouteMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 경로별 지연 시간 측정 (/metrics)
+ * 가장 바깥에서 실행해서 요청 제한, 압축, 캐시 필터에서 쓴 시간과 거부된 요청도 포함한다.
+ *
+ * app.metrics.enabled    : 사용 여부
+ * app.metrics.max-routes : 따로 기록할 최대 경로 수, 넘치면 "other" 로 모은다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public RouteMetrics routeMetrics(@Value("${app.metrics.max-routes:200}") int maxRoutes) {
+        return new RouteMetrics(maxRoutes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<LatencyFilter> latencyFilter(RouteMetrics routeMetrics) {
+        FilterRegistrationBean<LatencyFilter> registration = new FilterRegistrationBean<>(new LatencyFilter(routeMetrics));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,77 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.ratelimit.RateLimitFilter;
+import hello.springcoremvc.web.ratelimit.RateLimitMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 회원 저장 요청 제한
+ * 다른 필터보다 먼저 실행해서 거부할 요청에는 일을 하지 않는다.
+ * 켤 때만 등록한다. 로드 밸런서나 리버스 프록시 뒤에서는 원격 주소가 모두 프록시 주소이므로
+ * client-id-header 를 프록시가 채우는 헤더로 지정해야 한다. 비워 두면 모든 사용자가 버킷 하나를 나눠 쓴다.
+ *
+ * app.rate-limit.enabled          : 요청 제한 사용 여부 (기본 false)
+ * app.rate-limit.rate             : 클라이언트별 초당 허용 요청 수
+ * app.rate-limit.burst            : 클라이언트별 한 번에 허용하는 최대 요청 수
+ * app.rate-limit.max-clients      : 보관할 클라이언트 버킷 최대 개수
+ * app.rate-limit.idle-timeout     : 이 시간 동안 요청이 없는 클라이언트 버킷은 버린다.
+ * app.rate-limit.client-id-header : 클라이언트 ID 헤더 (비우면 원격 주소, 프록시 뒤에서는 필수)
+ * app.rate-limit.max-concurrent   : 동시에 처리하는 저장 요청 수
+ * app.rate-limit.queue-slo        : 처리 대기 시간 SLO, 넘으면 503
+ * app.rate-limit.shed-interval    : SLO 를 넘은 뒤 기다리지 않고 바로 503 으로 응답하는 시간
+ */
+@Configuration
+public class RateLimitConfig {
+    public static final String[] MEMBER_SAVE_URLS = {
+            "/servlet/members/save",
+            "/servlet-mvc/members/save",
+            "/front-controller/v1/members/save",
+            "/front-controller/v2/members/save",
+            "/front-controller/v3/members/save",
+            "/front-controller/v4/members/save",
+            "/front-controller/v5/v3/members/save",
+            "/front-controller/v5/v4/members/save",
+            "/front-controller/v5/v6/members/save",
+            "/front-controller/v5/async/members/save",
+            "/front-controller/v5/api/members/save",
+            "/springmvc/v1/members/save",
+            "/springmvc/v2/members/save",
+            "/springmvc/v3/members/save",
+    };
+
+    @Bean
+    public RateLimitMetrics rateLimitMetrics() {
+        return new RateLimitMetrics();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true")
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitMetrics rateLimitMetrics,
+            @Value("${app.rate-limit.rate:20}") double rate,
+            @Value("${app.rate-limit.burst:40}") int burst,
+            @Value("${app.rate-limit.max-clients:10000}") int maxClients,
+            @Value("${app.rate-limit.idle-timeout:5m}") Duration idleTimeout,
+            @Value("${app.rate-limit.client-id-header:}") String clientIdHeader,
+            @Value("${app.rate-limit.max-concurrent:64}") int maxConcurrent,
+            @Value("${app.rate-limit.queue-slo:50ms}") Duration queueSlo,
+            @Value("${app.rate-limit.shed-interval:1s}") Duration shedInterval
+    ) {
+        RateLimitFilter filter = new RateLimitFilter(
+                rate, burst, maxClients, idleTimeout.toNanos(),
+                maxConcurrent, queueSlo.toNanos(), shedInterval.toNanos(),
+                clientIdHeader, rateLimitMetrics
+        );
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(MEMBER_SAVE_URLS);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
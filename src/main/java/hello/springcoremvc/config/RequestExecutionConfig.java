@@ -0,0 +1,37 @@
+package hello.springcoremvc.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 요청 실행 모드
+ *  - platform (기본) : 톰캣의 고정 크기 워커 쓰레드 풀 (server.tomcat.threads.max)
+ *  - virtual         : 요청마다 가상 쓰레드, JDK 21 이상 필요
+ *
+ * app.request-execution.mode=virtual
+ *
+ * 가상 쓰레드는 synchronized 블록 안에서 블로킹되면 캐리어 쓰레드에 고정(pinning)된다.
+ * 요청 경로에서 블로킹이 일어나는 곳은 synchronized 대신 java.util.concurrent 를 사용해야 한다.
+ * 확인: -Djdk.tracePinnedThreads=short
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.request-execution.mode", havingValue = "virtual")
+public class RequestExecutionConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadRequestExecutor() {
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadRequestExecutor
+    ) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+    }
+}
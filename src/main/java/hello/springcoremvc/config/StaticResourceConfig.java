@@ -0,0 +1,26 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.staticresource.StaticResourceServlet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * webapp 정적 페이지를 StaticResourceServlet 으로 응답한다.
+ * app.static-resource.enabled=false 이면 스프링 기본 정적 리소스 처리(ResourceHttpRequestHandler)가 응답한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.static-resource.enabled", havingValue = "true", matchIfMissing = true)
+public class StaticResourceConfig {
+
+    @Bean
+    public ServletRegistrationBean<StaticResourceServlet> staticResourceServlet() {
+        ServletRegistrationBean<StaticResourceServlet> registration =
+                new ServletRegistrationBean<>(new StaticResourceServlet(), StaticResourceServlet.PATHS);
+        registration.setName("staticResourceServlet");
+        // 첫 요청이 아니라 시작할 때 파일을 읽는다.
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
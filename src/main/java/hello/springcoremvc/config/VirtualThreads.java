@@ -0,0 +1,42 @@
+package hello.springcoremvc.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 쓰레드 지원 확인
+ * 프로젝트는 JDK 17 로 빌드하므로, JDK 21 이상에서 실행될 때만 리플렉션으로 가상 쓰레드 Executor 를 만든다.
+ */
+public final class VirtualThreads {
+    private static final Method NEW_EXECUTOR = findNewExecutor();
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * 작업마다 가상 쓰레드를 하나씩 만드는 Executor
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new IllegalStateException("가상 쓰레드는 JDK 21 이상에서 사용할 수 있습니다. java.version = "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 쓰레드 Executor 를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private static Method findNewExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
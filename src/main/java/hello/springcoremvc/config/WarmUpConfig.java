@@ -0,0 +1,46 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.warmup.WarmUpGateFilter;
+import hello.springcoremvc.web.warmup.WarmUpRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 시작할 때 JIT 워밍업, 끝날 때까지 준비 완료(/ready)를 미루고 다른 요청은 503 으로 거절한다. (WarmUpGateFilter)
+ * 경로 수 x iterations 만큼 요청하므로 시작이 느려진다. 켤 때만 등록한다.
+ *
+ * app.warm-up.enabled     : 워밍업 사용 여부 (기본 false)
+ * app.warm-up.iterations  : 경로마다 보낼 요청 수
+ * app.warm-up.concurrency : 동시에 요청을 보내는 쓰레드 수
+ * app.warm-up.timeout     : 워밍업 최대 시간, 넘으면 남은 요청을 보내지 않고 준비 완료
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.warm-up.enabled", havingValue = "true")
+public class WarmUpConfig {
+
+    @Bean
+    public WarmUpRunner warmUpRunner(
+            ApplicationContext context,
+            @Value("${app.warm-up.iterations:1000}") int iterations,
+            @Value("${app.warm-up.concurrency:4}") int concurrency,
+            @Value("${app.warm-up.timeout:60s}") Duration timeout
+    ) {
+        return new WarmUpRunner(context, iterations, concurrency, timeout);
+    }
+
+    @Bean
+    public FilterRegistrationBean<WarmUpGateFilter> warmUpGateFilter(WarmUpRunner warmUpRunner) {
+        FilterRegistrationBean<WarmUpGateFilter> registration = new FilterRegistrationBean<>(new WarmUpGateFilter(warmUpRunner));
+        registration.addUrlPatterns("/*");
+        // 지연 시간 측정(LatencyFilter) 다음, 다른 필터보다 먼저
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
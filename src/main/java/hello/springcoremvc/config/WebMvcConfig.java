@@ -0,0 +1,24 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.web.springmvc.MemberFormArgumentResolver;
+import hello.springcoremvc.web.springmvc.ParamBinderArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 스프링 MVC 설정
+ *  - Member 파라미터 바인딩 (MemberFormArgumentResolver)
+ *  - 그 외 @BindParams 타입 파라미터 바인딩 (ParamBinderArgumentResolver)
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new MemberFormArgumentResolver());
+        resolvers.add(new ParamBinderArgumentResolver());
+    }
+}
@@ -1,9 +1,11 @@
 package hello.springcoremvc.model;
 
+import hello.springcoremvc.binder.BindParams;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter @Setter
+@BindParams(exclude = "id")
 public class Member {
     private Long id;
     private String username;
@@ -1,19 +1,26 @@
 package hello.springcoremvc.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 동시성 문제가 교려되어 있지 않음.
- * 실무에서는 ConcurrentHashMap, AtomicLong 사용 고려.
+ * ConcurrentHashMap, AtomicLong 으로 동시성 문제를 고려.
+ * synchronized 를 사용하지 않으므로 가상 쓰레드가 캐리어 쓰레드에 고정되지 않는다.
+ * 저장소가 바뀔 때마다 수정 버전(version)이 증가한다. 목록 응답의 ETag 로 사용한다.
  *
  * 싱글톤 패턴 사용.
  */
 public class MemberRepository {
-    private static Map<Long, Member> store = new HashMap<>();
-    private static Long sequence = 0L;
+    /**
+     * 저장소와 시퀀스는 useThrowawayStore() 에서 함께 바뀌므로 한 필드로 묶는다.
+     * 따로 두면 동시에 저장하는 요청이 새 저장소와 이전 시퀀스를 함께 읽어서 ID 가 겹칠 수 있다.
+     */
+    private static volatile Storage storage = new Storage();
+    private static final AtomicLong version = new AtomicLong();
 
     private static final MemberRepository instance = new MemberRepository();
 
@@ -23,20 +30,64 @@ public class MemberRepository {
     }
 
     public Member save(Member member) {
-        member.setId(++sequence);
-        store.put(member.getId(), member);
+        Storage current = storage;
+        member.setId(current.sequence().incrementAndGet());
+        current.store().put(member.getId(), member);
+        version.incrementAndGet();
         return member;
     }
 
     public Member findById(Long id) {
-        return store.get(id);
+        return storage.store().get(id);
     }
 
     public List<Member> findAll() {
-        return new ArrayList<>(store.values());
+        return new ArrayList<>(storage.store().values());
+    }
+
+    /**
+     * 목록을 복사하지 않고 순회한다. (스트리밍 응답용)
+     * 순회 중에 저장된 회원은 포함되지 않을 수 있다.
+     */
+    public Iterable<Member> iterateAll() {
+        return Collections.unmodifiableCollection(storage.store().values());
+    }
+
+    /**
+     * 수정 버전, 저장소가 바뀔 때마다 증가하며 clearStore() 로도 초기화되지 않는다.
+     * 변경을 반영한 다음에 증가시키므로, 버전을 먼저 읽고 목록을 만든 응답은 읽은 버전보다 오래된 내용을 담지 않는다.
+     * 저장된 Member 를 setter 로 직접 바꾸는 것은 추적하지 않는다.
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     public void clearStore() {
-        store.clear();
+        storage.store().clear();
+        version.incrementAndGet();
+    }
+
+    /**
+     * 빈 저장소로 바꾼다. 반환한 Runnable 을 호출하면 원래 저장소와 시퀀스로 되돌리고, 그동안 저장한 회원은 버린다.
+     * 시작할 때 워밍업 요청이 실제 데이터를 건드리지 않도록 사용한다. (WarmUpRunner)
+     *
+     * 바뀌는 동안 처리 중인 다른 요청은 임시 저장소에 저장하거나 워밍업 데이터를 읽게 된다.
+     * 실제 요청을 받지 않을 때만 호출해야 한다. (워밍업 중에는 WarmUpGateFilter 가 다른 요청을 거절한다)
+     */
+    public Runnable useThrowawayStore() {
+        Storage original = storage;
+        storage = new Storage();
+        version.incrementAndGet();
+
+        return () -> {
+            storage = original;
+            version.incrementAndGet();
+        };
+    }
+
+    private record Storage(Map<Long, Member> store, AtomicLong sequence) {
+        Storage() {
+            this(new ConcurrentHashMap<>(), new AtomicLong());
+        }
     }
 }
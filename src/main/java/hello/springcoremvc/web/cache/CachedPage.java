@@ -0,0 +1,48 @@
+package hello.springcoremvc.web.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 렌더링이 끝난 응답 본문
+ * gzipBody 는 gzip 저장을 사용하지 않으면 null 이다.
+ * mediaType 은 Accept 헤더와 비교하려고 저장할 때 한 번 해석해 둔다.
+ */
+class CachedPage {
+    private final long version;
+    private final String contentType;
+    private final MediaType mediaType;
+    private final byte[] body;
+    private final byte[] gzipBody;
+
+    CachedPage(long version, String contentType, byte[] body, byte[] gzipBody) {
+        this.version = version;
+        this.contentType = contentType;
+        this.mediaType = MediaType.parseMediaType(contentType);
+        this.body = body;
+        this.gzipBody = gzipBody;
+    }
+
+    long version() {
+        return version;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    byte[] gzipBody() {
+        return gzipBody;
+    }
+
+    long size() {
+        return body.length + (gzipBody == null ? 0 : gzipBody.length);
+    }
+}
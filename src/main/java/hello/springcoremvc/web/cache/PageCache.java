@@ -0,0 +1,171 @@
+package hello.springcoremvc.web.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 렌더링된 페이지 캐시
+ * 저장소 수정 버전(MemberRepository.getVersion())이 같을 때만 적중하므로, save 가 일어나면 그 즉시 무효가 된다.
+ * 버전은 계속 증가하므로 새 버전의 페이지를 저장할 때 이전 버전의 항목을 모두 지우고, 조회 중에 만난 이전 버전 항목도 지운다.
+ * 이전 버전으로 렌더링한 페이지는 저장하지 않는다.
+ *
+ * 항목은 접근 순서 LinkedHashMap 에 두고 잠금 안에서 조회, 저장한다.
+ * 보관 중인 바이트가 maxBytes 를 넘거나 항목 수가 maxEntries 를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다. (LRU)
+ */
+public class PageCache {
+    private final long maxBytes;
+    private final int maxEntries;
+    private final boolean gzip;
+    private volatile boolean enabled;
+
+    /**
+     * 접근 순서: 맨 앞이 가장 오래 사용하지 않은 항목 (lock 으로 보호)
+     */
+    private final LinkedHashMap<String, CachedPage> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long latestVersion = -1;
+    private final AtomicLong bytesHeld = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PageCache(long maxBytes, int maxEntries, boolean gzip, boolean enabled) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries 는 1 이상이어야 합니다. maxEntries = " + maxEntries);
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        this.gzip = gzip;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 같은 버전으로 저장된 페이지가 없으면 null
+     * 요청한 버전보다 오래된 항목은 다시 적중할 일이 없으므로 지운다.
+     */
+    CachedPage get(String key, long version) {
+        lock.lock();
+        try {
+            CachedPage page = pages.get(key);
+            if (page != null && page.version() == version) {
+                hits.increment();
+                return page;
+            }
+            if (page != null && page.version() < version) {
+                remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    void put(String key, long version, String contentType, byte[] body) {
+        CachedPage page = new CachedPage(version, contentType, body, gzip ? gzip(body) : null);
+        if (page.size() > maxBytes) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (version < latestVersion) {
+                return;
+            }
+            if (version > latestVersion) {
+                latestVersion = version;
+                removeOlderThan(version);
+            }
+
+            CachedPage old = pages.put(key, page);
+            bytesHeld.addAndGet(page.size() - (old == null ? 0 : old.size()));
+            // 방금 저장한 항목은 맨 뒤에 있고 그 하나는 maxBytes 이하이므로 제거되지 않는다.
+            Iterator<CachedPage> eldest = pages.values().iterator();
+            while (bytesHeld.get() > maxBytes || pages.size() > maxEntries) {
+                bytesHeld.addAndGet(-eldest.next().size());
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            pages.clear();
+            bytesHeld.set(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public PageCacheStats stats() {
+        long hit = hits.sum();
+        long miss = misses.sum();
+        int entries;
+        lock.lock();
+        try {
+            entries = pages.size();
+        } finally {
+            lock.unlock();
+        }
+        return new PageCacheStats(
+                hit,
+                miss,
+                hit + miss == 0 ? 0 : (double) hit / (hit + miss),
+                evictions.sum(),
+                entries,
+                maxEntries,
+                bytesHeld.get(),
+                maxBytes
+        );
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    private void remove(String key) {
+        CachedPage removed = pages.remove(key);
+        bytesHeld.addAndGet(-removed.size());
+    }
+
+    private void removeOlderThan(long version) {
+        Iterator<CachedPage> it = pages.values().iterator();
+        while (it.hasNext()) {
+            CachedPage page = it.next();
+            if (page.version() < version) {
+                bytesHeld.addAndGet(-page.size());
+                it.remove();
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
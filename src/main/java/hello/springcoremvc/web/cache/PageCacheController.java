@@ -0,0 +1,21 @@
+package hello.springcoremvc.web.cache;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 페이지 캐시 적중률, 보관 중인 바이트 조회
+ */
+@RestController
+public class PageCacheController {
+    private final PageCache pageCache;
+
+    public PageCacheController(PageCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
+    @GetMapping("/page-cache/stats")
+    public PageCacheStats stats() {
+        return pageCache.stats();
+    }
+}
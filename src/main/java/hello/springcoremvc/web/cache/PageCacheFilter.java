@@ -0,0 +1,94 @@
+package hello.springcoremvc.web.cache;
+
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.support.AcceptEncoding;
+import hello.springcoremvc.web.support.AcceptHeader;
+import hello.springcoremvc.web.support.ETags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 회원 목록 페이지 캐시 필터
+ * 적중하면 컨트롤러, findAll(), 뷰 렌더링 없이 저장된 바이트를 그대로 쓴다.
+ * 적중하지 않으면 응답 본문을 모아서 200 일 때 저장한 뒤 클라이언트로 보낸다.
+ *
+ * 저장소 버전은 렌더링 전에 읽는다. 렌더링 도중 save 가 일어나도 저장된 페이지는 읽은 버전보다 오래된 내용을 담지 않는다.
+ * 스트리밍 모드(?stream)는 본문을 모으면 의미가 없으므로 캐시하지 않는다. 비동기 요청은 등록하지 않는다.
+ *
+ * 캐시 키: 요청 URI
+ * 목록 뷰가 쓰는 파라미터는 stream(과 stream 일 때만 쓰는 format) 뿐이고 stream 은 캐시하지 않으므로 쿼리 스트링은 키에 넣지 않는다.
+ * 클라이언트가 보내는 쿼리 스트링이나 Accept 헤더를 키에 넣으면 항목 수에 끝이 없다.
+ * URL 마다 200 응답의 표현은 하나(HTML 또는 JSON)이므로, 저장된 Content-Type 을 Accept 헤더가 허용하지 않으면
+ * 캐시를 거치지 않고 그대로 처리한다. (api 는 406)
+ */
+public class PageCacheFilter extends HttpFilter {
+    private final PageCache pageCache;
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+
+    public PageCacheFilter(PageCache pageCache) {
+        this.pageCache = pageCache;
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        if (!pageCache.isEnabled() || !"GET".equals(req.getMethod()) || req.getParameter("stream") != null) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        String key = req.getRequestURI();
+        long version = memberRepository.getVersion();
+        CachedPage page = pageCache.get(key, version);
+        if (page != null) {
+            if (!AcceptHeader.accepts(req.getHeader("Accept"), page.mediaType())) {
+                chain.doFilter(req, resp);
+                return;
+            }
+            write(req, resp, page.contentType(), page.body(), page.gzipBody());
+            return;
+        }
+
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(resp);
+        chain.doFilter(req, wrapper);
+
+        byte[] body = wrapper.toByteArray();
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null) {
+            pageCache.put(key, version, wrapper.getContentType(), body);
+        }
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+    }
+
+    private void write(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            String contentType,
+            byte[] body,
+            byte[] gzipBody
+    ) throws IOException {
+        resp.setContentType(contentType);
+        if (gzipBody != null) {
+            resp.addHeader("Vary", "Accept-Encoding");
+            if (AcceptEncoding.accepts(req.getHeader("Accept-Encoding"), "gzip")) {
+                resp.setHeader("Content-Encoding", "gzip");
+                // 표현이 다르므로 ETag 도 달라야 한다.
+                String etag = resp.getHeader("ETag");
+                if (etag != null) {
+                    resp.setHeader("ETag", ETags.encodedVariant(etag, "gzip"));
+                }
+                body = gzipBody;
+            }
+        }
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+    }
+}
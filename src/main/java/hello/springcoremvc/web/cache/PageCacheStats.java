@@ -0,0 +1,13 @@
+package hello.springcoremvc.web.cache;
+
+public record PageCacheStats(
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        int entries,
+        int maxEntries,
+        long bytesHeld,
+        long maxBytes
+) {
+}
@@ -0,0 +1,21 @@
+package hello.springcoremvc.web.cache;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 요청 합치기 통계 조회
+ */
+@RestController
+public class SingleFlightController {
+    private final SingleFlightMetrics metrics;
+
+    public SingleFlightController(SingleFlightMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @GetMapping("/single-flight/stats")
+    public SingleFlightStats stats() {
+        return metrics.stats();
+    }
+}
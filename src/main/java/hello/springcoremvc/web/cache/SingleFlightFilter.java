@@ -0,0 +1,159 @@
+package hello.springcoremvc.web.cache;
+
+import hello.springcoremvc.model.MemberRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 GET 요청 합치기 (single-flight)
+ * 같은 요청이 동시에 들어오면 먼저 온 요청(리더)만 컨트롤러, findAll(), 뷰 렌더링을 실행한다.
+ * 나머지(팔로워)는 리더의 결과를 기다렸다가 같은 바이트를 응답한다.
+ *
+ * - 키: 요청 URI + 쿼리 스트링 + Accept 헤더 + 저장소 버전. save 이후에 온 요청은 save 이전에 시작한 렌더링에 합쳐지지 않는다.
+ * - 리더 응답이 200 이 아니거나 예외가 나면 팔로워는 각자 처리한다.
+ * - 팔로워가 timeout 안에 결과를 받지 못하면 기다리기를 그만두고 각자 처리한다.
+ * - 팔로워에게는 본문, Content-Type, 로케일(Content-Language)과 리더의 체인 안에서 정한 헤더(Cache-Control 등)를 전달한다.
+ *   Set-Cookie 는 요청마다 다르므로 전달하지 않는다. ETag 등 바깥 필터가 정한 헤더는 각자의 응답에 이미 있다.
+ *
+ * 페이지 캐시보다 안쪽에 등록해서 캐시에 없는 페이지를 렌더링할 때만 합친다.
+ * 스트리밍 모드(?stream)와 비동기 요청은 합치지 않는다.
+ */
+public class SingleFlightFilter extends HttpFilter {
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-type", "content-length", "content-language", "set-cookie");
+
+    private final ConcurrentHashMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final long timeoutNanos;
+    private final SingleFlightMetrics metrics;
+
+    public SingleFlightFilter(Duration timeout, SingleFlightMetrics metrics) {
+        this.timeoutNanos = timeout.toNanos();
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        if (!"GET".equals(req.getMethod()) || req.getParameter("stream") != null) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        String key = key(req);
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            follow(existing, req, resp, chain);
+            return;
+        }
+
+        metrics.recordLeader();
+        SharedResponse shared = null;
+        byte[] body;
+        try {
+            Map<String, List<String>> outerHeaders = headers(resp);
+            CapturingResponseWrapper wrapper = new CapturingResponseWrapper(resp);
+            chain.doFilter(req, wrapper);
+            body = wrapper.toByteArray();
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null) {
+                Map<String, List<String>> headers = headers(wrapper);
+                headers.entrySet().removeIf(e -> e.getValue().equals(outerHeaders.get(e.getKey())));
+                shared = new SharedResponse(wrapper.getContentType(), wrapper.getLocale(), headers, body);
+            }
+        } finally {
+            // 클라이언트로 보내기 전에 팔로워를 깨운다.
+            inFlight.remove(key, flight);
+            flight.complete(shared);
+        }
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+    }
+
+    private void follow(
+            CompletableFuture<SharedResponse> flight,
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        SharedResponse shared = await(flight);
+        if (shared == null) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        metrics.recordFollower();
+        shared.headers().forEach((name, values) -> {
+            resp.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                resp.addHeader(name, values.get(i));
+            }
+        });
+        resp.setLocale(shared.locale());
+        resp.setContentType(shared.contentType());
+        resp.setContentLength(shared.body().length);
+        resp.getOutputStream().write(shared.body());
+    }
+
+    private SharedResponse await(CompletableFuture<SharedResponse> flight) {
+        try {
+            return flight.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            metrics.recordTimeout();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 본문과 함께 따로 전달하는 헤더(Content-Type, Content-Length, Content-Language)와 Set-Cookie 는 뺀다.
+     */
+    private static Map<String, List<String>> headers(HttpServletResponse resp) {
+        Map<String, List<String>> headers = new HashMap<>();
+        for (String name : resp.getHeaderNames()) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, List.copyOf(resp.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private String key(HttpServletRequest req) {
+        String query = req.getQueryString();
+        String accept = req.getHeader("Accept");
+        return req.getRequestURI()
+                + (query == null ? "" : "?" + query)
+                + "|" + (accept == null ? "" : accept)
+                + "|" + memberRepository.getVersion();
+    }
+
+    private record SharedResponse(
+            String contentType,
+            Locale locale,
+            Map<String, List<String>> headers,
+            byte[] body
+    ) {
+    }
+}
@@ -0,0 +1,27 @@
+package hello.springcoremvc.web.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class SingleFlightMetrics {
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder followers = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    void recordLeader() {
+        leaders.increment();
+    }
+
+    void recordFollower() {
+        followers.increment();
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    public SingleFlightStats stats() {
+        long l = leaders.sum();
+        long f = followers.sum();
+        return new SingleFlightStats(l, f, timeouts.sum(), l + f == 0 ? 0 : (double) f / (l + f));
+    }
+}
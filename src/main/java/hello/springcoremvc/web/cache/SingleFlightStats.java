@@ -0,0 +1,14 @@
+package hello.springcoremvc.web.cache;
+
+/**
+ * leaders   : 실제로 처리한 요청 수
+ * followers : 리더의 결과를 받아서 응답한 요청 수
+ * timeouts  : 기다리다가 각자 처리한 요청 수
+ */
+public record SingleFlightStats(
+        long leaders,
+        long followers,
+        long timeouts,
+        double coalescedRatio
+) {
+}
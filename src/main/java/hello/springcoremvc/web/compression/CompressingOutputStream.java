@@ -0,0 +1,129 @@
+package hello.springcoremvc.web.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 받은 만큼 바로 압축해서 내보내는 스트림, 응답 전체를 모으지 않는다.
+ * flush() 는 SYNC_FLUSH 로 지금까지 받은 데이터를 모두 내보내므로 스트리밍 응답도 끊기지 않고 전달된다.
+ * 압축(deflate, CRC32)에 쓴 시간만 따로 잰다.
+ */
+class CompressingOutputStream extends OutputStream {
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final OutputStream out;
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final byte[] buf = new byte[8192];
+    private final byte[] single = new byte[1];
+
+    private long bytesIn;
+    private long bytesOut;
+    private long compressNanos;
+    private boolean finished;
+
+    CompressingOutputStream(OutputStream out, ContentCoding coding, Deflater deflater) throws IOException {
+        this.out = out;
+        this.deflater = deflater;
+        this.crc = coding == ContentCoding.GZIP ? new CRC32() : null;
+        if (crc != null) {
+            out.write(GZIP_HEADER);
+            bytesOut += GZIP_HEADER.length;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (finished) {
+            throw new IOException("압축 스트림이 이미 끝났습니다.");
+        }
+        if (len == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+        compressNanos += System.nanoTime() - start;
+
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            drain(Deflater.NO_FLUSH);
+        }
+        bytesIn += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!finished) {
+            int n;
+            do {
+                n = drain(Deflater.SYNC_FLUSH);
+            } while (n == buf.length);
+        }
+        out.flush();
+    }
+
+    /**
+     * 남은 데이터와 gzip 트레일러를 쓴다. 하부 스트림은 닫지 않는다.
+     */
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(Deflater.NO_FLUSH);
+        }
+        if (crc != null) {
+            writeIntLittleEndian((int) crc.getValue());
+            writeIntLittleEndian((int) bytesIn);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    long bytesIn() {
+        return bytesIn;
+    }
+
+    long bytesOut() {
+        return bytesOut;
+    }
+
+    long compressNanos() {
+        return compressNanos;
+    }
+
+    private int drain(int flushMode) throws IOException {
+        long start = System.nanoTime();
+        int n = deflater.deflate(buf, 0, buf.length, flushMode);
+        compressNanos += System.nanoTime() - start;
+        if (n > 0) {
+            out.write(buf, 0, n);
+            bytesOut += n;
+        }
+        return n;
+    }
+
+    private void writeIntLittleEndian(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+        bytesOut += 4;
+    }
+}
@@ -0,0 +1,21 @@
+package hello.springcoremvc.web.compression;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 압축으로 줄어든 바이트, 응답당 압축 시간 조회
+ */
+@RestController
+public class CompressionController {
+    private final CompressionMetrics compressionMetrics;
+
+    public CompressionController(CompressionMetrics compressionMetrics) {
+        this.compressionMetrics = compressionMetrics;
+    }
+
+    @GetMapping("/compression/stats")
+    public CompressionStats stats() {
+        return compressionMetrics.stats();
+    }
+}
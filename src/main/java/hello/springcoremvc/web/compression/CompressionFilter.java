@@ -0,0 +1,161 @@
+package hello.springcoremvc.web.compression;
+
+import hello.springcoremvc.web.staticresource.StaticResource;
+import hello.springcoremvc.web.staticresource.StaticResourceServlet;
+import hello.springcoremvc.web.support.ETags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 압축 필터
+ * Accept-Encoding 에 따라 gzip, deflate 로 압축한다. (CompressionResponseWrapper)
+ *
+ * 정적 페이지(StaticResourceServlet.PATHS)는 시작할 때 한 번 압축해 두고, 요청마다 압축하지 않고 그대로 보낸다.
+ * Last-Modified, Cache-Control, ETag 는 StaticResourceServlet 과 같은 StaticResource 에서 만든다.
+ * 압축을 허용하지 않는 클라이언트에게는 StaticResourceServlet 이 응답한다.
+ *
+ * 비동기 요청은 필터가 먼저 끝나므로, 요청이 완료될 때 압축을 끝낸다.
+ */
+public class CompressionFilter extends HttpFilter {
+    private final int minSize;
+    private final DeflaterPool deflaterPool;
+    private final CompressionMetrics metrics;
+
+    /**
+     * key: 요청 URI
+     */
+    private final Map<String, PrecompressedPage> precompressedPages = new HashMap<>();
+
+    public CompressionFilter(int minSize, int level, int poolSize, CompressionMetrics metrics) {
+        this.minSize = minSize;
+        this.deflaterPool = new DeflaterPool(poolSize, level);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void init() throws ServletException {
+        for (String path : StaticResourceServlet.PATHS) {
+            try {
+                StaticResource resource = StaticResource.load(getServletContext(), path);
+                if (resource != null) {
+                    precompressedPages.put(path, precompress(resource));
+                }
+            } catch (IOException e) {
+                throw new ServletException("정적 페이지 압축 실패: " + path, e);
+            }
+        }
+        PrecompressedPage index = precompressedPages.get("/index.html");
+        if (index != null) {
+            precompressedPages.put("/", index);
+        }
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        ContentCoding coding = ContentCoding.negotiate(req.getHeader("Accept-Encoding"));
+        if (coding == null || "HEAD".equals(req.getMethod()) || req.getHeader("Range") != null) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        PrecompressedPage page = "GET".equals(req.getMethod()) ? precompressedPages.get(req.getRequestURI()) : null;
+        if (page != null) {
+            page.write(req, resp, coding);
+            metrics.recordPrecompressed(page.resource.getBody().length, page.bodies.get(coding).length);
+            return;
+        }
+
+        CompressionResponseWrapper wrapper = new CompressionResponseWrapper(resp, coding, minSize, deflaterPool, metrics);
+        try {
+            chain.doFilter(req, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            wrapper.abort();
+            throw e;
+        }
+
+        if (req.isAsyncStarted()) {
+            req.getAsyncContext().addListener(new FinishOnComplete(wrapper));
+            return;
+        }
+        wrapper.finish();
+    }
+
+    private PrecompressedPage precompress(StaticResource resource) throws IOException {
+        byte[] original = resource.getBody();
+        Map<ContentCoding, byte[]> bodies = new EnumMap<>(ContentCoding.class);
+        for (ContentCoding coding : ContentCoding.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, coding.nowrap());
+            try {
+                CompressingOutputStream compressor = new CompressingOutputStream(out, coding, deflater);
+                compressor.write(original, 0, original.length);
+                compressor.finish();
+            } finally {
+                deflater.end();
+            }
+            bodies.put(coding, out.toByteArray());
+        }
+        return new PrecompressedPage(resource, bodies);
+    }
+
+    private record PrecompressedPage(StaticResource resource, Map<ContentCoding, byte[]> bodies) {
+        void write(HttpServletRequest req, HttpServletResponse resp, ContentCoding coding) throws IOException {
+            resp.setHeader("ETag", ETags.encodedVariant(resource.getEtag(), coding.token()));
+            resp.addHeader("Vary", "Accept-Encoding");
+            resource.writeCacheHeaders(resp);
+            if (resource.isNotModified(req)) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            byte[] body = bodies.get(coding);
+            resp.setContentType(resource.getContentType());
+            resp.setHeader("Content-Encoding", coding.token());
+            resp.setContentLength(body.length);
+            resp.getOutputStream().write(body);
+        }
+    }
+
+    private static class FinishOnComplete implements AsyncListener {
+        private final CompressionResponseWrapper wrapper;
+
+        FinishOnComplete(CompressionResponseWrapper wrapper) {
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            wrapper.finish();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            wrapper.abort();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package hello.springcoremvc.web.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CompressionMetrics {
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder precompressedResponses = new LongAdder();
+    private final LongAdder precompressedBytesSaved = new LongAdder();
+
+    void recordCompressed(CompressingOutputStream stream) {
+        compressedResponses.increment();
+        bytesIn.add(stream.bytesIn());
+        bytesOut.add(stream.bytesOut());
+        compressNanos.add(stream.compressNanos());
+    }
+
+    void recordPrecompressed(int originalLength, int compressedLength) {
+        precompressedResponses.increment();
+        precompressedBytesSaved.add(originalLength - compressedLength);
+    }
+
+    public CompressionStats stats() {
+        long responses = compressedResponses.sum();
+        long in = bytesIn.sum();
+        long out = bytesOut.sum();
+        return new CompressionStats(
+                responses,
+                in,
+                out,
+                responses == 0 ? 0 : (double) (in - out) / responses,
+                responses == 0 ? 0 : compressNanos.sum() / 1_000.0 / responses,
+                precompressedResponses.sum(),
+                precompressedBytesSaved.sum()
+        );
+    }
+}
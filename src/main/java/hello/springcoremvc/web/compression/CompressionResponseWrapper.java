@@ -0,0 +1,273 @@
+package hello.springcoremvc.web.compression;
+
+import hello.springcoremvc.web.support.ETags;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+/**
+ * 압축 여부는 처음 minSize 바이트까지 모아 본 다음 정한다.
+ *  - 응답이 minSize 보다 작게 끝나면 압축하지 않고 Content-Length 를 붙여서 보낸다.
+ *  - minSize 를 넘거나 애플리케이션이 flush 하면, 압축할 수 있는 Content-Type 일 때 압축을 시작한다.
+ * 압축을 시작한 뒤로는 받는 즉시 압축해서 내보낸다.
+ */
+class CompressionResponseWrapper extends HttpServletResponseWrapper {
+    private final ContentCoding coding;
+    private final int minSize;
+    private final DeflaterPool deflaterPool;
+    private final CompressionMetrics metrics;
+
+    private final DecidingOutputStream stream;
+    private PrintWriter writer;
+    private boolean streamUsed;
+    private long contentLength = -1;
+
+    CompressionResponseWrapper(
+            HttpServletResponse response,
+            ContentCoding coding,
+            int minSize,
+            DeflaterPool deflaterPool,
+            CompressionMetrics metrics
+    ) {
+        super(response);
+        this.coding = coding;
+        this.minSize = minSize;
+        this.deflaterPool = deflaterPool;
+        this.metrics = metrics;
+        this.stream = new DecidingOutputStream();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        streamUsed = true;
+        return stream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (streamUsed) {
+            throw new IllegalStateException("getOutputStream() has already been called");
+        }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(stream, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    /**
+     * 압축하면 길이가 달라지므로 결정할 때까지 미뤄둔다.
+     */
+    @Override
+    public void setContentLengthLong(long len) {
+        if (stream.state == State.PASSTHROUGH) {
+            super.setContentLengthLong(len);
+        } else if (stream.state == State.BUFFERING) {
+            contentLength = len;
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        stream.flush();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (stream.state == State.BUFFERING) {
+            stream.count = 0;
+        }
+        super.resetBuffer();
+    }
+
+    /**
+     * 남은 데이터를 내보내고 압축을 끝낸다. 하부 응답은 닫지 않는다.
+     * 본문이 없으면 하부 스트림을 건드리지 않는다. (sendError 이후 컨테이너가 getWriter 로 오류 페이지를 쓸 수 있도록)
+     */
+    void finish() throws IOException {
+        stream.finishing = true;
+        if (writer != null) {
+            writer.flush();
+        }
+        stream.finish();
+    }
+
+    /**
+     * 예외로 끝난 요청, 빌린 Deflater 만 돌려준다.
+     */
+    void abort() {
+        stream.release();
+    }
+
+    private boolean shouldCompress() {
+        int status = getStatus();
+        if (status == SC_NO_CONTENT || status == SC_NOT_MODIFIED || getHeader("Content-Encoding") != null) {
+            return false;
+        }
+        if (contentLength >= 0 && contentLength < minSize) {
+            return false;
+        }
+        return isCompressible(getContentType());
+    }
+
+    static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/")
+                || type.contains("json")
+                || type.contains("xml")
+                || type.contains("javascript");
+    }
+
+    private enum State {BUFFERING, COMPRESSING, PASSTHROUGH, FINISHED}
+
+    private class DecidingOutputStream extends ServletOutputStream {
+        private final byte[] buffer = new byte[minSize];
+        private final byte[] single = new byte[1];
+        private int count;
+        private State state = State.BUFFERING;
+        private CompressingOutputStream compressor;
+        private Deflater deflater;
+        /**
+         * finish() 에서 writer 를 비울 때 따라오는 flush 로 압축을 결정하지 않도록 한다.
+         */
+        private boolean finishing;
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            switch (state) {
+                case BUFFERING -> {
+                    if (count + len <= buffer.length) {
+                        System.arraycopy(b, off, buffer, count, len);
+                        count += len;
+                        return;
+                    }
+                    decide();
+                    write(b, off, len);
+                }
+                case COMPRESSING -> compressor.write(b, off, len);
+                case PASSTHROUGH -> getResponse().getOutputStream().write(b, off, len);
+                case FINISHED -> throw new IOException("응답이 이미 끝났습니다.");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (state == State.BUFFERING) {
+                if (finishing) {
+                    return;
+                }
+                decide();
+            }
+            if (state == State.COMPRESSING) {
+                compressor.flush();
+            } else if (state == State.PASSTHROUGH) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        /**
+         * 모으는 중이라도 다음 쓰기에서 결정하면서 하부 스트림에 쓸 수 있으므로 하부 스트림의 상태를 그대로 따른다.
+         * 압축 중에는 한 번의 쓰기가 하부 스트림에 여러 번 나뉘어 쓰일 수 있는데, 남는 것은 컨테이너의 출력 버퍼가 받아준다.
+         */
+        @Override
+        public boolean isReady() {
+            try {
+                return getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * 쓰기 가능 알림은 하부 스트림이 주므로 리스너를 그대로 넘긴다.
+         */
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            try {
+                if (state == State.BUFFERING && count > 0) {
+                    // minSize 보다 작은 응답
+                    CompressionResponseWrapper.super.setContentLength(count);
+                    getResponse().getOutputStream().write(buffer, 0, count);
+                } else if (state == State.COMPRESSING) {
+                    compressor.finish();
+                    metrics.recordCompressed(compressor);
+                }
+            } finally {
+                state = State.FINISHED;
+                release();
+            }
+        }
+
+        void release() {
+            if (deflater != null) {
+                deflaterPool.release(coding, deflater);
+                deflater = null;
+            }
+        }
+
+        private void decide() throws IOException {
+            if (shouldCompress()) {
+                HttpServletResponse resp = (HttpServletResponse) getResponse();
+                resp.setHeader("Content-Encoding", coding.token());
+                resp.addHeader("Vary", "Accept-Encoding");
+                String etag = resp.getHeader("ETag");
+                if (etag != null) {
+                    resp.setHeader("ETag", ETags.encodedVariant(etag, coding.token()));
+                }
+
+                deflater = deflaterPool.borrow(coding);
+                compressor = new CompressingOutputStream(resp.getOutputStream(), coding, deflater);
+                state = State.COMPRESSING;
+                compressor.write(buffer, 0, count);
+            } else {
+                state = State.PASSTHROUGH;
+                if (contentLength >= 0) {
+                    CompressionResponseWrapper.super.setContentLengthLong(contentLength);
+                }
+                getResponse().getOutputStream().write(buffer, 0, count);
+            }
+            count = 0;
+        }
+    }
+}
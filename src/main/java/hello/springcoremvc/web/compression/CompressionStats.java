@@ -0,0 +1,19 @@
+package hello.springcoremvc.web.compression;
+
+/**
+ * @param compressedResponses      요청마다 압축한 응답 수
+ * @param bytesSavedPerResponse    압축한 응답 하나당 줄어든 바이트
+ * @param cpuMicrosPerResponse     압축한 응답 하나당 압축에 쓴 시간
+ * @param precompressedResponses   미리 압축해 둔 정적 페이지 응답 수
+ * @param precompressedBytesSaved  정적 페이지로 줄어든 바이트 합계
+ */
+public record CompressionStats(
+        long compressedResponses,
+        long bytesIn,
+        long bytesOut,
+        double bytesSavedPerResponse,
+        double cpuMicrosPerResponse,
+        long precompressedResponses,
+        long precompressedBytesSaved
+) {
+}
@@ -0,0 +1,40 @@
+package hello.springcoremvc.web.compression;
+
+import hello.springcoremvc.web.support.AcceptEncoding;
+
+/**
+ * 지원하는 Content-Encoding
+ * gzip 은 raw deflate(nowrap) 에 gzip 헤더와 CRC32 트레일러를 직접 붙이고, deflate 는 zlib 형식을 사용한다.
+ */
+public enum ContentCoding {
+    GZIP("gzip", true),
+    DEFLATE("deflate", false);
+
+    private final String token;
+    private final boolean nowrap;
+
+    ContentCoding(String token, boolean nowrap) {
+        this.token = token;
+        this.nowrap = nowrap;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    boolean nowrap() {
+        return nowrap;
+    }
+
+    /**
+     * gzip 을 우선하고, 둘 다 허용하지 않으면 null
+     */
+    public static ContentCoding negotiate(String acceptEncoding) {
+        for (ContentCoding coding : values()) {
+            if (AcceptEncoding.accepts(acceptEncoding, coding.token)) {
+                return coding;
+            }
+        }
+        return null;
+    }
+}
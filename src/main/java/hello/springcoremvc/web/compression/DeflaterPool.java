@@ -0,0 +1,38 @@
+package hello.springcoremvc.web.compression;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater 재사용
+ * Deflater 는 생성할 때 네이티브 메모리(zlib 상태, 수백 KB)를 잡으므로 요청마다 만들지 않는다.
+ * 쓰레드마다 두는 대신 크기가 정해진 풀을 쓴다. 가상 쓰레드 모드에서는 요청마다 쓰레드가 새로 만들어져
+ * ThreadLocal 로는 재사용되지 않기 때문이다.
+ * 풀이 비면 새로 만들고, 가득 차면 반납된 Deflater 를 end() 로 해제한다.
+ */
+class DeflaterPool {
+    private final int level;
+    private final Map<ContentCoding, BlockingQueue<Deflater>> pools = new EnumMap<>(ContentCoding.class);
+
+    DeflaterPool(int capacity, int level) {
+        this.level = level;
+        for (ContentCoding coding : ContentCoding.values()) {
+            pools.put(coding, new ArrayBlockingQueue<>(capacity));
+        }
+    }
+
+    Deflater borrow(ContentCoding coding) {
+        Deflater deflater = pools.get(coding).poll();
+        return deflater != null ? deflater : new Deflater(level, coding.nowrap());
+    }
+
+    void release(ContentCoding coding, Deflater deflater) {
+        deflater.reset();
+        if (!pools.get(coding).offer(deflater)) {
+            deflater.end();
+        }
+    }
+}
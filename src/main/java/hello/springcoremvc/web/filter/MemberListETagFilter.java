@@ -0,0 +1,72 @@
+package hello.springcoremvc.web.filter;
+
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.support.ETags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * 회원 목록 조건부 GET
+ * 저장소의 수정 버전으로 강한 ETag 를 만들고, If-None-Match 가 일치하면 304 로 응답한다.
+ * 304 일 때는 필터 체인을 호출하지 않으므로 저장소 조회와 뷰 렌더링이 일어나지 않는다.
+ *
+ * 쿼리 스트링에 따라 표현이 달라지므로 (?stream, format=json) 쿼리 스트링도 ETag 에 포함한다.
+ * 수정 버전은 재시작하면 0 부터 다시 시작하므로, 시작할 때마다 만드는 임의의 epoch 도 ETag 에 포함한다.
+ * 재시작 전에 받은 ETag 가 재시작 후의 다른 목록과 같은 버전이 되어도 304 로 응답하지 않는다.
+ * 압축해서 응답한 경우의 ETag 는 ETags.encodedVariant() 이며, If-None-Match 는 모든 표현과 비교한다.
+ *
+ * 등록: MemberListFilterConfig
+ */
+public class MemberListETagFilter extends HttpFilter {
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final String epoch;
+
+    public MemberListETagFilter() {
+        this(UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    MemberListETagFilter(String epoch) {
+        this.epoch = epoch;
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        if (!"GET".equals(req.getMethod()) && !"HEAD".equals(req.getMethod())) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        String etag = etag(epoch, memberRepository.getVersion(), req.getQueryString());
+        String matched = ETags.matchingTag(req.getHeader("If-None-Match"), etag);
+        resp.setHeader("ETag", matched != null ? matched : etag);
+        // 캐시는 하되 매번 재검증하도록 한다.
+        resp.setHeader("Cache-Control", "no-cache");
+
+        if (matched != null) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        chain.doFilter(req, resp);
+    }
+
+    static String etag(String epoch, long version, String queryString) {
+        if (queryString == null || queryString.isEmpty()) {
+            return "\"members-" + epoch + "-" + version + "\"";
+        }
+        return "\"members-" + epoch + "-" + version + "-" + Integer.toHexString(queryString.hashCode()) + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        return ETags.matchingTag(ifNoneMatch, etag) != null;
+    }
+}
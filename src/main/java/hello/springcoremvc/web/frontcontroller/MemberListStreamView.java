@@ -0,0 +1,39 @@
+package hello.springcoremvc.web.frontcontroller;
+
+import hello.springcoremvc.web.streaming.MemberListStreamWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 회원 목록 스트리밍 뷰
+ * JSP 로 forward 하지 않고, 저장소를 순회하면서 응답에 바로 쓴다.
+ * format=json 이면 JSON 배열, 아니면 HTML 로 출력한다.
+ */
+public class MemberListStreamView extends MyView {
+    public static final String VIEW_NAME = "members-stream";
+
+    private final MemberListStreamWriter streamWriter = new MemberListStreamWriter();
+
+    public MemberListStreamView() {
+        super(null);
+    }
+
+    @Override
+    public void render(
+            Map<String, Object> model,
+            HttpServletRequest req,
+            HttpServletResponse resp
+    ) throws IOException {
+        resp.setCharacterEncoding("utf-8");
+        if (MemberListStreamWriter.isJson(req.getParameter("format"))) {
+            resp.setContentType("application/json");
+            streamWriter.writeJson(resp.getOutputStream());
+            return;
+        }
+        resp.setContentType("text/html");
+        streamWriter.writeHtml(resp.getOutputStream());
+    }
+}
@@ -1,12 +1,18 @@
 package hello.springcoremvc.web.frontcontroller;
 
+import hello.springcoremvc.web.frontcontroller.template.Template;
+import hello.springcoremvc.web.frontcontroller.template.TemplateEngine;
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.function.Function;
 
 public class MyView {
     private String viewPath;
@@ -22,6 +28,12 @@ public class MyView {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
+        Template template = TemplateEngine.getInstance().find(viewPath);
+        if (template != null) {
+            renderTemplate(template, req::getAttribute, resp);
+            return;
+        }
+
         RequestDispatcher dispatcher = req.getRequestDispatcher(viewPath);
         dispatcher.forward(req, resp);
     }
@@ -34,11 +46,59 @@ public class MyView {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
+        Template template = TemplateEngine.getInstance().find(viewPath);
+        if (template != null) {
+            renderTemplate(template, model::get, resp);
+            return;
+        }
+
         modelToRequestAttribute(model, req);
         RequestDispatcher dispatcher = req.getRequestDispatcher(viewPath);
         dispatcher.forward(req, resp);
     }
 
+    /**
+     * 비동기 요청용 Render
+     * forward 대신 AsyncContext.dispatch() 로 뷰를 호출한다. 렌더링이 끝나면 컨테이너가 응답을 완료한다.
+     * 템플릿 렌더러를 사용하면 현재 쓰레드에서 바로 쓰고 응답을 완료한다.
+     */
+    public void render(
+            Map<String, Object> model,
+            AsyncContext asyncContext
+    ) {
+        Template template = TemplateEngine.getInstance().find(viewPath);
+        if (template != null) {
+            try {
+                renderTemplate(template, model::get, (HttpServletResponse) asyncContext.getResponse());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                asyncContext.complete();
+            }
+            return;
+        }
+
+        modelToRequestAttribute(model, (HttpServletRequest) asyncContext.getRequest());
+        asyncContext.dispatch(viewPath);
+    }
+
+    /**
+     * JSP forward 대신 컴파일된 템플릿으로 응답 스트림에 바로 쓴다.
+     */
+    private void renderTemplate(
+            Template template,
+            Function<String, Object> model,
+            HttpServletResponse resp
+    ) throws IOException {
+        resp.setContentType("text/html");
+        resp.setCharacterEncoding("utf-8");
+
+        try (Utf8ResponseWriter writer = Utf8ResponseWriter.pooled(resp.getOutputStream())) {
+            template.render(model, writer);
+            writer.flush();
+        }
+    }
+
     /**
      * 모델의 데이터를 꺼내서 req.setAttribute()로 담아둔다.
      */
@@ -0,0 +1,14 @@
+package hello.springcoremvc.web.frontcontroller.api;
+
+import java.util.Map;
+
+/**
+ * API 컨트롤러
+ * 뷰 이름 대신 데이터 객체를 반환한다.
+ * 반환한 객체는 JSP 를 거치지 않고 JSON 으로 응답 바디에 바로 쓰인다.
+ */
+public interface ApiController {
+    Object process(
+            Map<String, String> paramMap
+    );
+}
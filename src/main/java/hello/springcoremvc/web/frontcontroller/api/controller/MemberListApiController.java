@@ -0,0 +1,17 @@
+package hello.springcoremvc.web.frontcontroller.api.controller;
+
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.api.ApiController;
+
+import java.util.Map;
+
+public class MemberListApiController implements ApiController {
+    private MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @Override
+    public Object process(
+            Map<String, String> paramMap
+    ) {
+        return memberRepository.findAll();
+    }
+}
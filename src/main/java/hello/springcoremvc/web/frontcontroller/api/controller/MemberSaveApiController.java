@@ -0,0 +1,23 @@
+package hello.springcoremvc.web.frontcontroller.api.controller;
+
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.api.ApiController;
+
+import java.util.Map;
+
+public class MemberSaveApiController implements ApiController {
+    private static final ParamBinder<Member> MEMBER_BINDER = ParamBinders.get(Member.class);
+
+    private MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @Override
+    public Object process(
+            Map<String, String> paramMap
+    ) {
+        Member member = MEMBER_BINDER.bind(paramMap::get);
+        return memberRepository.save(member);
+    }
+}
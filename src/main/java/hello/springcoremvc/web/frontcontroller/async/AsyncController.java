@@ -0,0 +1,17 @@
+package hello.springcoremvc.web.frontcontroller.async;
+
+import hello.springcoremvc.web.frontcontroller.ModelView;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 컨트롤러
+ * 느린 백엔드 호출을 기다리는 동안 톰캣 워커 쓰레드를 붙잡지 않도록 CompletableFuture 를 반환한다.
+ * 결과 ModelView 는 future 가 완료되면 렌더링된다.
+ */
+public interface AsyncController {
+    CompletableFuture<ModelView> process(
+            Map<String, String> paramMap
+    );
+}
@@ -0,0 +1,16 @@
+package hello.springcoremvc.web.frontcontroller.async.controller;
+
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.async.AsyncController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class MemberFormAsyncController implements AsyncController {
+    @Override
+    public CompletableFuture<ModelView> process(
+            Map<String, String> paramMap
+    ) {
+        return CompletableFuture.completedFuture(new ModelView("new-form"));
+    }
+}
@@ -0,0 +1,31 @@
+package hello.springcoremvc.web.frontcontroller.async.controller;
+
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.async.AsyncController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class MemberListAsyncController implements AsyncController {
+    private MemberRepository memberRepository = MemberRepository.getInstance();
+    private final Executor executor;
+
+    public MemberListAsyncController(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<ModelView> process(
+            Map<String, String> paramMap
+    ) {
+        return CompletableFuture
+                .supplyAsync(memberRepository::findAll, executor)
+                .thenApply(members -> {
+                    ModelView mv = new ModelView("members");
+                    mv.getModel().put("members", members);
+                    return mv;
+                });
+    }
+}
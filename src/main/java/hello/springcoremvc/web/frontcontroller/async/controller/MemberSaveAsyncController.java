@@ -0,0 +1,41 @@
+package hello.springcoremvc.web.frontcontroller.async.controller;
+
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.async.AsyncController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class MemberSaveAsyncController implements AsyncController {
+    private static final ParamBinder<Member> MEMBER_BINDER = ParamBinders.get(Member.class);
+
+    private MemberRepository memberRepository = MemberRepository.getInstance();
+    private final Executor executor;
+
+    public MemberSaveAsyncController(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 파라미터 검증은 요청 쓰레드에서, 저장은 executor 에서 수행한다.
+     */
+    @Override
+    public CompletableFuture<ModelView> process(
+            Map<String, String> paramMap
+    ) {
+        Member member = MEMBER_BINDER.bind(paramMap::get);
+
+        return CompletableFuture
+                .supplyAsync(() -> memberRepository.save(member), executor)
+                .thenApply(saved -> {
+                    ModelView mv = new ModelView("save-result");
+                    mv.getModel().put("member", saved);
+                    return mv;
+                });
+    }
+}
@@ -0,0 +1,104 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * getter 를 LambdaMetafactory 로 함수형 인터페이스에 바인딩한다.
+ * 렌더링 시점에는 리플렉션 없이 일반 메서드 호출과 같은 비용으로 값을 읽는다.
+ */
+final class PropertyAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private PropertyAccessors() {
+    }
+
+    /**
+     * type 의 공개 getter (getXxx, isXxx) 를 찾는다.
+     */
+    static Method findGetter(Class<?> type, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : new String[]{"get" + suffix, "is" + suffix}) {
+            try {
+                Method method = type.getMethod(name);
+                if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        throw new IllegalStateException(type.getName() + " 에서 프로퍼티를 찾을 수 없습니다: " + property);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> function(Method getter) {
+        MethodType instantiated = MethodType.methodType(getter.getReturnType(), getter.getDeclaringClass()).wrap();
+        return (Function<Object, Object>) bind(getter, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class), instantiated);
+    }
+
+    @SuppressWarnings("unchecked")
+    static ToIntFunction<Object> toInt(Method getter) {
+        return (ToIntFunction<Object>) bind(getter, ToIntFunction.class, "applyAsInt",
+                MethodType.methodType(int.class, Object.class),
+                MethodType.methodType(int.class, getter.getDeclaringClass()));
+    }
+
+    @SuppressWarnings("unchecked")
+    static ToLongFunction<Object> toLong(Method getter) {
+        return (ToLongFunction<Object>) bind(getter, ToLongFunction.class, "applyAsLong",
+                MethodType.methodType(long.class, Object.class),
+                MethodType.methodType(long.class, getter.getDeclaringClass()));
+    }
+
+    /**
+     * getter 를 차례로 호출한다. 중간 값이 null 이면 null 을 반환한다.
+     */
+    static Function<Object, Object> chain(Function<Object, Object>[] getters) {
+        if (getters.length == 1) {
+            Function<Object, Object> getter = getters[0];
+            return target -> target == null ? null : getter.apply(target);
+        }
+        return target -> {
+            Object value = target;
+            for (Function<Object, Object> getter : getters) {
+                if (value == null) {
+                    return null;
+                }
+                value = getter.apply(value);
+            }
+            return value;
+        };
+    }
+
+    private static Object bind(
+            Method getter,
+            Class<?> interfaceType,
+            String interfaceMethod,
+            MethodType erased,
+            MethodType instantiated
+    ) {
+        try {
+            MethodHandle target = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    interfaceMethod,
+                    MethodType.methodType(interfaceType),
+                    erased,
+                    target,
+                    instantiated
+            );
+            return site.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("getter 바인딩 실패: " + getter, e);
+        }
+    }
+}
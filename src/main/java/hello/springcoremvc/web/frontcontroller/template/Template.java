@@ -0,0 +1,46 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 컴파일된 템플릿
+ * TemplateCompiler 가 만들며, 여러 쓰레드에서 동시에 렌더링해도 안전하다.
+ */
+public class Template {
+    private final String name;
+    private final String[] modelNames;
+    private final int[] modelSlots;
+    private final int slotCount;
+    private final TemplateNode[] nodes;
+
+    Template(String name, String[] modelNames, int[] modelSlots, int slotCount, TemplateNode[] nodes) {
+        this.name = name;
+        this.modelNames = modelNames;
+        this.modelSlots = modelSlots;
+        this.slotCount = slotCount;
+        this.nodes = nodes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param model 모델 변수 조회, model::get 또는 req::getAttribute
+     */
+    public void render(
+            Function<String, Object> model,
+            Utf8ResponseWriter writer
+    ) throws IOException {
+        Object[] slots = new Object[slotCount];
+        for (int i = 0; i < modelNames.length; i++) {
+            slots[modelSlots[i]] = model.apply(modelNames[i]);
+        }
+        for (TemplateNode node : nodes) {
+            node.render(slots, writer);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 템플릿 컴파일러
+ * 템플릿 문자열을 한 번 해석해서 고정 조각(미리 인코딩한 byte[])과 타입이 정해진 getter 호출의 나열로 만든다.
+ *
+ * 문법
+ *  - {{@import hello.springcoremvc.model.Member}} : 타입 이름을 짧게 쓸 수 있게 한다.
+ *  - {{@model Member member}}                     : 모델 변수의 타입을 선언한다.
+ *  - {{#each Member item : members}} ... {{/each}} : Iterable 모델을 반복한다.
+ *  - {{member.username}}                          : 값을 HTML 이스케이프해서 출력한다.
+ *
+ * 타입을 선언하지 않은 모델 변수는 그대로 출력만 할 수 있다.
+ * 지시자(@import, @model) 바로 뒤의 줄바꿈은 출력하지 않는다.
+ */
+public class TemplateCompiler {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    public Template compile(String name, String source) {
+        return new Compilation(name, source).compile();
+    }
+
+    private static class Compilation {
+        private final String name;
+        private final String source;
+        private final Map<String, Class<?>> imports = new HashMap<>();
+        private final Map<String, Variable> modelVariables = new LinkedHashMap<>();
+        private final Deque<Variable> loopVariables = new ArrayDeque<>();
+        private int slotCount;
+
+        Compilation(String name, String source) {
+            this.name = name;
+            this.source = source;
+        }
+
+        Template compile() {
+            Deque<Block> blocks = new ArrayDeque<>();
+            blocks.push(new Block(null, null));
+
+            StringBuilder text = new StringBuilder();
+            int pos = 0;
+            while (pos < source.length()) {
+                int open = source.indexOf(OPEN, pos);
+                if (open < 0) {
+                    text.append(source, pos, source.length());
+                    break;
+                }
+                int close = source.indexOf(CLOSE, open + OPEN.length());
+                if (close < 0) {
+                    throw error("닫히지 않은 태그", open);
+                }
+                text.append(source, pos, open);
+                String tag = source.substring(open + OPEN.length(), close).trim();
+                pos = close + CLOSE.length();
+
+                if (tag.startsWith("@")) {
+                    directive(tag.substring(1).trim(), open);
+                    pos = skipLineBreak(pos);
+                    continue;
+                }
+
+                flushText(text, blocks.peek());
+                if (tag.startsWith("#each")) {
+                    blocks.push(beginEach(tag.substring("#each".length()).trim(), open));
+                } else if (tag.equals("/each")) {
+                    if (blocks.size() == 1) {
+                        throw error("짝이 없는 {{/each}}", open);
+                    }
+                    Block block = blocks.pop();
+                    loopVariables.pop();
+                    blocks.peek().nodes.add(block.toEach());
+                } else {
+                    blocks.peek().nodes.add(value(tag, open));
+                }
+            }
+            if (blocks.size() != 1) {
+                throw error("닫히지 않은 {{#each}}", source.length());
+            }
+            flushText(text, blocks.peek());
+
+            String[] modelNames = new String[modelVariables.size()];
+            int[] modelSlots = new int[modelVariables.size()];
+            int i = 0;
+            for (Variable variable : modelVariables.values()) {
+                modelNames[i] = variable.name;
+                modelSlots[i++] = variable.slot;
+            }
+            return new Template(name, modelNames, modelSlots, slotCount, blocks.pop().nodes.toArray(TemplateNode[]::new));
+        }
+
+        private void directive(String directive, int at) {
+            String[] parts = directive.split("\\s+");
+            if (parts[0].equals("import") && parts.length == 2) {
+                Class<?> type = loadClass(parts[1], at);
+                imports.put(type.getSimpleName(), type);
+            } else if (parts[0].equals("model") && parts.length == 3) {
+                if (modelVariables.containsKey(parts[2])) {
+                    throw error("모델 변수는 사용하기 전에 한 번만 선언할 수 있습니다: " + parts[2], at);
+                }
+                modelVariables.put(parts[2], new Variable(parts[2], slotCount++, resolveType(parts[1], at)));
+            } else {
+                throw error("알 수 없는 지시자: " + directive, at);
+            }
+        }
+
+        /**
+         * "Member item : members"
+         */
+        private Block beginEach(String expression, int at) {
+            int colon = expression.indexOf(':');
+            String[] declaration = colon < 0 ? new String[0] : expression.substring(0, colon).trim().split("\\s+");
+            if (declaration.length != 2) {
+                throw error("each 형식은 {{#each Type var : items}} 입니다", at);
+            }
+            Reference items = reference(expression.substring(colon + 1).trim(), at);
+            if (items.type != Object.class && !Iterable.class.isAssignableFrom(items.type)) {
+                throw error("반복할 수 없는 타입: " + items.type.getName(), at);
+            }
+
+            Variable variable = new Variable(declaration[1], slotCount++, resolveType(declaration[0], at));
+            loopVariables.push(variable);
+            return new Block(items, variable);
+        }
+
+        /**
+         * 마지막 getter 가 int, long 을 반환하면 박싱 없는 노드로 만든다.
+         */
+        private TemplateNode value(String expression, int at) {
+            Reference reference = reference(expression, at);
+            if (reference.primitiveGetter == null) {
+                return new TemplateNode.TextValue(reference.slot, reference.path);
+            }
+            if (reference.type == int.class) {
+                return new TemplateNode.IntValue(reference.slot, reference.path,
+                        PropertyAccessors.toInt(reference.primitiveGetter));
+            }
+            return new TemplateNode.LongValue(reference.slot, reference.path,
+                    PropertyAccessors.toLong(reference.primitiveGetter));
+        }
+
+        /**
+         * "item.username" 을 변수 위치와 getter 체인으로 바꾼다.
+         * 마지막 getter 가 int, long 을 반환하면 체인에서 빼고 primitiveGetter 로 따로 둔다.
+         */
+        @SuppressWarnings("unchecked")
+        private Reference reference(String expression, int at) {
+            String[] parts = expression.split("\\.");
+            Variable root = variable(parts[0]);
+
+            Class<?> type = root.type;
+            List<Method> getters = new ArrayList<>();
+            for (int i = 1; i < parts.length; i++) {
+                if (type == Object.class) {
+                    throw error("타입을 선언하지 않은 변수의 프로퍼티는 사용할 수 없습니다: " + expression, at);
+                }
+                try {
+                    Method getter = PropertyAccessors.findGetter(type, parts[i]);
+                    getters.add(getter);
+                    type = getter.getReturnType();
+                } catch (IllegalStateException e) {
+                    throw error(e.getMessage(), at);
+                }
+            }
+
+            Method primitiveGetter = null;
+            if (type == int.class || type == long.class) {
+                primitiveGetter = getters.remove(getters.size() - 1);
+            }
+            Function<Object, Object> path = getters.isEmpty()
+                    ? null
+                    : PropertyAccessors.chain(getters.stream().map(PropertyAccessors::function).toArray(Function[]::new));
+            return new Reference(root.slot, type, path, primitiveGetter);
+        }
+
+        private Variable variable(String name) {
+            for (Variable variable : loopVariables) {
+                if (variable.name.equals(name)) {
+                    return variable;
+                }
+            }
+            return modelVariables.computeIfAbsent(name, key -> new Variable(key, slotCount++, Object.class));
+        }
+
+        private Class<?> resolveType(String typeName, int at) {
+            Class<?> imported = imports.get(typeName);
+            return imported != null ? imported : loadClass(typeName, at);
+        }
+
+        private Class<?> loadClass(String typeName, int at) {
+            try {
+                return Class.forName(typeName, false, TemplateCompiler.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw error("타입을 찾을 수 없습니다: " + typeName, at);
+            }
+        }
+
+        private void flushText(StringBuilder text, Block block) {
+            if (!text.isEmpty()) {
+                block.nodes.add(new TemplateNode.Chunk(Utf8ResponseWriter.encode(text.toString())));
+                text.setLength(0);
+            }
+        }
+
+        private int skipLineBreak(int pos) {
+            if (source.startsWith("\r\n", pos)) {
+                return pos + 2;
+            }
+            if (source.startsWith("\n", pos)) {
+                return pos + 1;
+            }
+            return pos;
+        }
+
+        private IllegalStateException error(String message, int at) {
+            long line = source.substring(0, Math.min(at, source.length())).chars().filter(c -> c == '\n').count() + 1;
+            return new IllegalStateException("템플릿 컴파일 실패 [" + name + ":" + line + "] " + message);
+        }
+    }
+
+    private static class Block {
+        private final Reference items;
+        private final Variable variable;
+        private final List<TemplateNode> nodes = new ArrayList<>();
+
+        Block(Reference items, Variable variable) {
+            this.items = items;
+            this.variable = variable;
+        }
+
+        TemplateNode toEach() {
+            return new TemplateNode.Each(items.slot, items.path, variable.slot, nodes.toArray(TemplateNode[]::new));
+        }
+    }
+
+    private record Variable(String name, int slot, Class<?> type) {
+    }
+
+    private record Reference(int slot, Class<?> type, Function<Object, Object> path, Method primitiveGetter) {
+    }
+}
@@ -0,0 +1,74 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSP 대신 사용할 수 있는 템플릿 렌더러
+ * VIEW_NAMES 의 classpath:templates/{뷰 이름}.html 을 싱글톤을 만들 때 모두 컴파일하고, 같은 이름의 JSP 뷰 경로로 찾는다.
+ * TemplateEngineInitializer 가 시작할 때 getInstance() 를 부르므로, 템플릿이 없거나 잘못되면 요청을 받기 전에 시작이 실패한다.
+ * 사용 여부는 TemplateEngineInitializer 가 컨텍스트 파라미터 view-renderer 로 정한다.
+ *
+ * 싱글톤 패턴 적용
+ */
+public class TemplateEngine {
+    public static final String[] VIEW_NAMES = {"members", "new-form", "save-result"};
+
+    private static final String VIEW_PREFIX = "/WEB-INF/views/";
+    private static final String VIEW_SUFFIX = ".jsp";
+    private static final String TEMPLATE_LOCATION = "templates/";
+    private static final String TEMPLATE_SUFFIX = ".html";
+
+    private static final TemplateEngine instance = new TemplateEngine();
+
+    public static TemplateEngine getInstance() {
+        return instance;
+    }
+
+    /**
+     * key: JSP 뷰 경로
+     */
+    private final Map<String, Template> templates = new HashMap<>();
+    private volatile boolean enabled = false;
+
+    private TemplateEngine() {
+        TemplateCompiler compiler = new TemplateCompiler();
+        for (String viewName : VIEW_NAMES) {
+            templates.put(VIEW_PREFIX + viewName + VIEW_SUFFIX, compiler.compile(viewName, load(viewName)));
+        }
+    }
+
+    /**
+     * 템플릿 렌더러를 사용하지 않거나 템플릿이 없는 뷰면 null 을 반환한다. 이때는 JSP 로 렌더링한다.
+     */
+    public Template find(String viewPath) {
+        if (!enabled || viewPath == null) {
+            return null;
+        }
+        return templates.get(viewPath);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private String load(String viewName) {
+        String location = TEMPLATE_LOCATION + viewName + TEMPLATE_SUFFIX;
+        try (InputStream in = TemplateEngine.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                throw new IllegalStateException("템플릿이 없습니다: classpath:" + location);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * 애플리케이션 시작 시점에 템플릿을 컴파일하고, 렌더러를 정한다.
+ * server.servlet.context-parameters.view-renderer = jsp(기본) | template
+ */
+@WebListener
+public class TemplateEngineInitializer implements ServletContextListener {
+    public static final String VIEW_RENDERER_PARAM = "view-renderer";
+    public static final String TEMPLATE_RENDERER = "template";
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        String renderer = sce.getServletContext().getInitParameter(VIEW_RENDERER_PARAM);
+        TemplateEngine.getInstance().setEnabled(TEMPLATE_RENDERER.equals(renderer));
+    }
+}
@@ -0,0 +1,90 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 컴파일된 템플릿의 구성 요소
+ * slots 에는 모델 변수와 반복 변수가 컴파일 시점에 정해진 위치에 들어 있다. 렌더링 중에는 이름으로 찾지 않는다.
+ */
+interface TemplateNode {
+    void render(Object[] slots, Utf8ResponseWriter writer) throws IOException;
+
+    /**
+     * 미리 UTF-8 로 인코딩한 고정 조각
+     */
+    record Chunk(byte[] bytes) implements TemplateNode {
+        @Override
+        public void render(Object[] slots, Utf8ResponseWriter writer) throws IOException {
+            writer.write(bytes);
+        }
+    }
+
+    /**
+     * 참조 타입 값. 문자열은 HTML 이스케이프해서 쓰고, null 이면 JSP EL 처럼 아무것도 쓰지 않는다.
+     */
+    record TextValue(int slot, Function<Object, Object> path) implements TemplateNode {
+        @Override
+        public void render(Object[] slots, Utf8ResponseWriter writer) throws IOException {
+            Object value = path == null ? slots[slot] : path.apply(slots[slot]);
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Integer || value instanceof Long) {
+                writer.write(((Number) value).longValue());
+            } else {
+                writer.writeEscaped(String.valueOf(value));
+            }
+        }
+    }
+
+    /**
+     * int 를 반환하는 getter. 박싱과 String 변환 없이 숫자를 바로 쓴다.
+     */
+    record IntValue(int slot, Function<Object, Object> owner, ToIntFunction<Object> getter) implements TemplateNode {
+        @Override
+        public void render(Object[] slots, Utf8ResponseWriter writer) throws IOException {
+            Object target = owner == null ? slots[slot] : owner.apply(slots[slot]);
+            if (target != null) {
+                writer.write(getter.applyAsInt(target));
+            }
+        }
+    }
+
+    /**
+     * long 을 반환하는 getter
+     */
+    record LongValue(int slot, Function<Object, Object> owner, ToLongFunction<Object> getter) implements TemplateNode {
+        @Override
+        public void render(Object[] slots, Utf8ResponseWriter writer) throws IOException {
+            Object target = owner == null ? slots[slot] : owner.apply(slots[slot]);
+            if (target != null) {
+                writer.write(getter.applyAsLong(target));
+            }
+        }
+    }
+
+    /**
+     * {{#each Type var : items}} ... {{/each}}
+     */
+    record Each(int slot, Function<Object, Object> path, int varSlot, TemplateNode[] body) implements TemplateNode {
+        @Override
+        public void render(Object[] slots, Utf8ResponseWriter writer) throws IOException {
+            Object items = path == null ? slots[slot] : path.apply(slots[slot]);
+            if (items == null) {
+                return;
+            }
+            for (Object item : (Iterable<?>) items) {
+                slots[varSlot] = item;
+                for (TemplateNode node : body) {
+                    node.render(slots, writer);
+                }
+            }
+            slots[varSlot] = null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package hello.springcoremvc.web.frontcontroller.v1;
 import hello.springcoremvc.web.frontcontroller.v1.controller.MemberFormControllerV1;
 import hello.springcoremvc.web.frontcontroller.v1.controller.MemberListControllerV1;
 import hello.springcoremvc.web.frontcontroller.v1.controller.MemberSaveControllerV1;
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -19,6 +20,7 @@ import java.util.Map;
 )
 public class FrontControllerServletV1 extends HttpServlet {
     private Map<String, ControllerV1> controllerMap = new HashMap<>();
+    private AsyncLog log = AsyncLog.getInstance();
 
     public FrontControllerServletV1() {
         controllerMap.put("/front-controller/v1/members/new-form", new MemberFormControllerV1());
@@ -31,7 +33,7 @@ public class FrontControllerServletV1 extends HttpServlet {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        System.out.println("FrontControllerServletV1.service");
+        log.info("FrontControllerServletV1.service");
         String requestURI = req.getRequestURI();
 
         ControllerV1 cont = controllerMap.get(requestURI);
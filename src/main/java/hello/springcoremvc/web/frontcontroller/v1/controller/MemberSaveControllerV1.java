@@ -3,6 +3,7 @@ package hello.springcoremvc.web.frontcontroller.v1.controller;
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
 import hello.springcoremvc.web.frontcontroller.v1.ControllerV1;
+import hello.springcoremvc.web.support.MemberFormBinder;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,10 +22,7 @@ public class MemberSaveControllerV1 implements ControllerV1 {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        String username = req.getParameter("username");
-        int age = Integer.parseInt(req.getParameter("age"));
-
-        Member member = new Member(username, age);
+        Member member = MemberFormBinder.bind(req);
         memberRepository.save(member);
 
         req.setAttribute("member", member);
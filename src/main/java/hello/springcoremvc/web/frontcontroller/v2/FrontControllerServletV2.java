@@ -4,6 +4,7 @@ import hello.springcoremvc.web.frontcontroller.MyView;
 import hello.springcoremvc.web.frontcontroller.v2.controller.MemberFormControllerV2;
 import hello.springcoremvc.web.frontcontroller.v2.controller.MemberListControllerV2;
 import hello.springcoremvc.web.frontcontroller.v2.controller.MemberSaveControllerV2;
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -20,6 +21,7 @@ import java.util.Map;
 )
 public class FrontControllerServletV2 extends HttpServlet {
     private Map<String, ControllerV2> controllerMap = new HashMap<>();
+    private AsyncLog log = AsyncLog.getInstance();
 
     public FrontControllerServletV2() {
         controllerMap.put("/front-controller/v2/members/new-form", new MemberFormControllerV2());
@@ -32,7 +34,7 @@ public class FrontControllerServletV2 extends HttpServlet {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        System.out.println("FrontControllerServletV2.service");
+        log.info("FrontControllerServletV2.service");
         String requestURI = req.getRequestURI();
 
         ControllerV2 controller = controllerMap.get(requestURI);
@@ -4,6 +4,7 @@ import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
 import hello.springcoremvc.web.frontcontroller.MyView;
 import hello.springcoremvc.web.frontcontroller.v2.ControllerV2;
+import hello.springcoremvc.web.support.MemberFormBinder;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,10 +19,7 @@ public class MemberSaveControllerV2 implements ControllerV2 {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        String username = req.getParameter("username");
-        int age = Integer.parseInt(req.getParameter("age"));
-
-        Member member = new Member(username, age);
+        Member member = MemberFormBinder.bind(req);
         memberRepository.save(member);
 
         req.setAttribute("member", member);
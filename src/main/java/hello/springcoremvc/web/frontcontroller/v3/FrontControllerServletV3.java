@@ -1,6 +1,7 @@
 package hello.springcoremvc.web.frontcontroller.v3;
 
 import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.MemberListStreamView;
 import hello.springcoremvc.web.frontcontroller.MyView;
 import hello.springcoremvc.web.frontcontroller.v3.controller.MemberFormControllerV3;
 import hello.springcoremvc.web.frontcontroller.v3.controller.MemberListControllerV3;
@@ -53,7 +54,7 @@ public class FrontControllerServletV3 extends HttpServlet {
      * HttpServletRequest에서 파라미터 정보를 꺼내서 Map으로 반환한다.
      * 그리고 해당 Map을 컨트롤러에 전달하면서 호출한다.
      */
-    private Map<String, String> createParamMap(HttpServletRequest req) {
+    public Map<String, String> createParamMap(HttpServletRequest req) {
         Map<String, String> paramMap = new HashMap<>();
 
         req.getParameterNames().asIterator()
@@ -70,7 +71,10 @@ public class FrontControllerServletV3 extends HttpServlet {
      * @param viewName
      * @return "/WEB-INF/views/" + viewName + ".jsp"
      */
-    private MyView viewResolver(String viewName) {
+    public MyView viewResolver(String viewName) {
+        if (MemberListStreamView.VIEW_NAME.equals(viewName)) {
+            return new MemberListStreamView();
+        }
         return new MyView("/WEB-INF/views/" + viewName + ".jsp");
     }
 }
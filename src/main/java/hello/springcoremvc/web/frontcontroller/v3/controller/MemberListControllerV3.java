@@ -2,6 +2,7 @@ package hello.springcoremvc.web.frontcontroller.v3.controller;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.MemberListStreamView;
 import hello.springcoremvc.web.frontcontroller.ModelView;
 import hello.springcoremvc.web.frontcontroller.v3.ControllerV3;
 
@@ -15,6 +16,11 @@ public class MemberListControllerV3 implements ControllerV3 {
     public ModelView process(
             Map<String, String> paramMap
     ) {
+        // 스트리밍 모드: 목록을 모델에 담지 않고, 뷰가 저장소를 순회하면서 바로 출력한다.
+        if (paramMap.containsKey("stream")) {
+            return new ModelView(MemberListStreamView.VIEW_NAME);
+        }
+
         List<Member> members = memberRepository.findAll();
         ModelView mv = new ModelView("members");
         mv.getModel().put("members", members);
@@ -1,5 +1,7 @@
 package hello.springcoremvc.web.frontcontroller.v3.controller;
 
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
 import hello.springcoremvc.web.frontcontroller.ModelView;
@@ -8,16 +10,15 @@ import hello.springcoremvc.web.frontcontroller.v3.ControllerV3;
 import java.util.Map;
 
 public class MemberSaveControllerV3 implements ControllerV3 {
+    private static final ParamBinder<Member> MEMBER_BINDER = ParamBinders.get(Member.class);
+
     private MemberRepository memberRepository = MemberRepository.getInstance();
 
     @Override
     public ModelView process(
             Map<String, String> paramMap
     ) {
-        String username = paramMap.get("username");
-        int age = Integer.parseInt(paramMap.get("age"));
-
-        Member member = new Member(username, age);
+        Member member = MEMBER_BINDER.bind(paramMap::get);
         memberRepository.save(member);
 
         ModelView mv = new ModelView("save-result");
@@ -1,9 +1,11 @@
 package hello.springcoremvc.web.frontcontroller.v4;
 
+import hello.springcoremvc.web.frontcontroller.MemberListStreamView;
 import hello.springcoremvc.web.frontcontroller.MyView;
 import hello.springcoremvc.web.frontcontroller.v4.controller.MemberFormControllerV4;
 import hello.springcoremvc.web.frontcontroller.v4.controller.MemberListControllerV4;
 import hello.springcoremvc.web.frontcontroller.v4.controller.MemberSaveControllerV4;
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -20,6 +22,7 @@ import java.util.Map;
 )
 public class FrontControllerServletV4 extends HttpServlet {
     private Map<String, ControllerV4> controllerMap = new HashMap<>();
+    private AsyncLog log = AsyncLog.getInstance();
 
     public FrontControllerServletV4() {
         controllerMap.put("/front-controller/v4/members/new-form", new MemberFormControllerV4());
@@ -32,7 +35,7 @@ public class FrontControllerServletV4 extends HttpServlet {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        System.out.println("FrontControllerServletV4.service");
+        log.info("FrontControllerServletV4.service");
         String requestURI = req.getRequestURI();
 
         ControllerV4 controller = controllerMap.get(requestURI);
@@ -60,6 +63,9 @@ public class FrontControllerServletV4 extends HttpServlet {
     }
 
     public MyView viewResolver(String viewName) {
+        if (MemberListStreamView.VIEW_NAME.equals(viewName)) {
+            return new MemberListStreamView();
+        }
         return new MyView("/WEB-INF/views/" + viewName + ".jsp");
     }
 }
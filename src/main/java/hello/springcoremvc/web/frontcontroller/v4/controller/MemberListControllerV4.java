@@ -2,6 +2,7 @@ package hello.springcoremvc.web.frontcontroller.v4.controller;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.MemberListStreamView;
 import hello.springcoremvc.web.frontcontroller.v4.ControllerV4;
 
 import java.util.List;
@@ -15,6 +16,11 @@ public class MemberListControllerV4 implements ControllerV4 {
             Map<String, String> paramMap,
             Map<String, Object> model
     ) {
+        // 스트리밍 모드: 목록을 모델에 담지 않고, 뷰가 저장소를 순회하면서 바로 출력한다.
+        if (paramMap.containsKey("stream")) {
+            return MemberListStreamView.VIEW_NAME;
+        }
+
         List<Member> members = memberRepository.findAll();
         model.put("members", members);
         return "members";
@@ -1,5 +1,7 @@
 package hello.springcoremvc.web.frontcontroller.v4.controller;
 
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
 import hello.springcoremvc.web.frontcontroller.v4.ControllerV4;
@@ -7,6 +9,8 @@ import hello.springcoremvc.web.frontcontroller.v4.ControllerV4;
 import java.util.Map;
 
 public class MemberSaveControllerV4 implements ControllerV4 {
+    private static final ParamBinder<Member> MEMBER_BINDER = ParamBinders.get(Member.class);
+
     private MemberRepository memberRepository = MemberRepository.getInstance();
 
     @Override
@@ -14,10 +18,7 @@ public class MemberSaveControllerV4 implements ControllerV4 {
             Map<String, String> paramMap,
             Map<String, Object> model
     ) {
-        String username = paramMap.get("username");
-        int age = Integer.parseInt(paramMap.get("age"));
-
-        Member member = new Member(username, age);
+        Member member = MEMBER_BINDER.bind(paramMap::get);
         memberRepository.save(member);
 
         model.put("member", member);
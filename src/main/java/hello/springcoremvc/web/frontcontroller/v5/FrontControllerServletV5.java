@@ -1,30 +1,46 @@
 package hello.springcoremvc.web.frontcontroller.v5;
 
 import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.MemberListStreamView;
 import hello.springcoremvc.web.frontcontroller.MyView;
+import hello.springcoremvc.web.frontcontroller.api.controller.MemberListApiController;
+import hello.springcoremvc.web.frontcontroller.api.controller.MemberSaveApiController;
+import hello.springcoremvc.web.frontcontroller.async.controller.MemberFormAsyncController;
+import hello.springcoremvc.web.frontcontroller.async.controller.MemberListAsyncController;
+import hello.springcoremvc.web.frontcontroller.async.controller.MemberSaveAsyncController;
 import hello.springcoremvc.web.frontcontroller.v3.controller.MemberFormControllerV3;
 import hello.springcoremvc.web.frontcontroller.v3.controller.MemberListControllerV3;
 import hello.springcoremvc.web.frontcontroller.v3.controller.MemberSaveControllerV3;
 import hello.springcoremvc.web.frontcontroller.v4.controller.MemberFormControllerV4;
 import hello.springcoremvc.web.frontcontroller.v4.controller.MemberListControllerV4;
 import hello.springcoremvc.web.frontcontroller.v4.controller.MemberSaveControllerV4;
+import hello.springcoremvc.web.frontcontroller.v5.adapter.ApiControllerHandlerAdapter;
+import hello.springcoremvc.web.frontcontroller.v5.adapter.AsyncControllerHandlerAdapter;
 import hello.springcoremvc.web.frontcontroller.v5.adapter.ControllerV3HandlerAdapter;
 import hello.springcoremvc.web.frontcontroller.v5.adapter.ControllerV4HandlerAdapter;
+import hello.springcoremvc.web.frontcontroller.v5.adapter.ControllerV6HandlerAdapter;
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethodScanner;
+import hello.springcoremvc.web.frontcontroller.v6.MemberFormArgumentResolverV6;
+import hello.springcoremvc.web.frontcontroller.v6.ParamBinderArgumentResolverV6;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @WebServlet(
         name = "frontControllerServletV5",
-        urlPatterns = "/front-controller/v5/*"
+        urlPatterns = "/front-controller/v5/*",
+        asyncSupported = true
 )
 public class FrontControllerServletV5 extends HttpServlet {
     /**
@@ -36,6 +52,27 @@ public class FrontControllerServletV5 extends HttpServlet {
     private final Map<String, Object> handlerMappingMap = new HashMap<>();
     private final List<MyHandlerAdapter> handlerAdapters = new ArrayList<>();
 
+    private static final long ASYNC_TIMEOUT_MILLIS = 10_000;
+
+    /**
+     * 단계별 처리 시간 측정 설정 (컨텍스트 파라미터)
+     * phase-timing-sample-rate   : 측정할 요청 비율 (0 ~ 1, 기본 0)
+     * phase-timing-server-timing : 측정한 요청에 Server-Timing 헤더를 붙일지 여부 (기본 false)
+     */
+    public static final String PHASE_TIMING_SAMPLE_RATE_PARAM = "phase-timing-sample-rate";
+    public static final String PHASE_TIMING_SERVER_TIMING_PARAM = "phase-timing-server-timing";
+
+    private final PhaseTimings phaseTimings = PhaseTimings.getInstance();
+
+    /**
+     * 비동기 컨트롤러의 백엔드 호출을 실행하는 쓰레드 풀
+     * 톰캣 워커 쓰레드와 분리해서, 백엔드가 느려도 워커 쓰레드는 다른 요청을 처리할 수 있다.
+     */
+    private final ExecutorService asyncExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            asyncThreadFactory()
+    );
+
     public FrontControllerServletV5() {
         initHandlerMappingMap();
         initHandlerAdapter();
@@ -54,6 +91,22 @@ public class FrontControllerServletV5 extends HttpServlet {
         handlerMappingMap.put("/front-controller/v5/v4/members/new-form", new MemberFormControllerV4());
         handlerMappingMap.put("/front-controller/v5/v4/members/save", new MemberSaveControllerV4());
         handlerMappingMap.put("/front-controller/v5/v4/members", new MemberListControllerV4());
+
+        // V6 URL 매핑 - @MyController 스캔, Member 와 @BindParams 타입 파라미터는 리졸버로 바인딩 (WebMvcConfig 와 같은 구성)
+        HandlerMethodScanner scanner = new HandlerMethodScanner(List.of(
+                new MemberFormArgumentResolverV6(),
+                new ParamBinderArgumentResolverV6()
+        ));
+        handlerMappingMap.putAll(scanner.scan("hello.springcoremvc.web.frontcontroller"));
+
+        // 비동기 URL 매핑
+        handlerMappingMap.put("/front-controller/v5/async/members/new-form", new MemberFormAsyncController());
+        handlerMappingMap.put("/front-controller/v5/async/members/save", new MemberSaveAsyncController(asyncExecutor));
+        handlerMappingMap.put("/front-controller/v5/async/members", new MemberListAsyncController(asyncExecutor));
+
+        // API(JSON) URL 매핑
+        handlerMappingMap.put("/front-controller/v5/api/members/save", new MemberSaveApiController());
+        handlerMappingMap.put("/front-controller/v5/api/members", new MemberListApiController());
     }
 
     /**
@@ -62,6 +115,30 @@ public class FrontControllerServletV5 extends HttpServlet {
     private void initHandlerAdapter() {
         handlerAdapters.add(new ControllerV3HandlerAdapter());
         handlerAdapters.add(new ControllerV4HandlerAdapter());
+        handlerAdapters.add(new ControllerV6HandlerAdapter());
+        handlerAdapters.add(new AsyncControllerHandlerAdapter(this::viewResolver, ASYNC_TIMEOUT_MILLIS));
+        handlerAdapters.add(new ApiControllerHandlerAdapter());
+    }
+
+    private static CustomizableThreadFactory asyncThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("front-controller-v5-async-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @Override
+    public void init() throws ServletException {
+        String sampleRate = getServletContext().getInitParameter(PHASE_TIMING_SAMPLE_RATE_PARAM);
+        String serverTiming = getServletContext().getInitParameter(PHASE_TIMING_SERVER_TIMING_PARAM);
+        phaseTimings.configure(
+                sampleRate == null ? 0 : Double.parseDouble(sampleRate),
+                Boolean.parseBoolean(serverTiming)
+        );
+    }
+
+    @Override
+    public void destroy() {
+        asyncExecutor.shutdown();
     }
 
     @Override
@@ -69,8 +146,11 @@ public class FrontControllerServletV5 extends HttpServlet {
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
+        PhaseTimer timer = phaseTimings.start();
+
         // Handler 매핑
         Object handler = getHandler(req);
+        timer.mark(Phase.MAPPING);
         if(handler == null) {
             resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
             return ;
@@ -78,6 +158,7 @@ public class FrontControllerServletV5 extends HttpServlet {
 
         // Handler를 처리할 수 있는 어댑터 조회
         MyHandlerAdapter adapter = getHandlerAdapter(handler);
+        timer.mark(Phase.ADAPTER);
         /**
          * Adapter 호출
          * 어댑터의 handle() 메서드를 통해 실제 어댑터가 호출된다.
@@ -85,9 +166,18 @@ public class FrontControllerServletV5 extends HttpServlet {
          * ControllerV3HandlerAdapter의 경우 어댑터의 모양과 컨트롤러의 모양이 유사해서 변환 로직이 단순하다.
          */
         ModelView mv = adapter.handle(req, resp, handler);
+        timer.mark(Phase.HANDLE);
+        if(mv == null) {
+            // 어댑터가 응답을 직접 처리한 경우 (비동기, API)
+            return ;
+        }
 
         MyView view = viewResolver(mv.getViewName());
+        timer.mark(Phase.RESOLVE);
+        timer.writeHeader(resp);
+
         view.render(mv.getModel(), req, resp);
+        timer.mark(Phase.RENDER);
     }
 
     /**
@@ -114,6 +204,9 @@ public class FrontControllerServletV5 extends HttpServlet {
     }
 
     private MyView viewResolver(String viewName) {
+        if (MemberListStreamView.VIEW_NAME.equals(viewName)) {
+            return new MemberListStreamView();
+        }
         return new MyView("/WEB-INF/views/" + viewName + ".jsp");
     }
 }
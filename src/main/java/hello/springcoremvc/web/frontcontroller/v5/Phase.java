@@ -0,0 +1,23 @@
+package hello.springcoremvc.web.frontcontroller.v5;
+
+/**
+ * FrontControllerServletV5.service() 의 처리 단계
+ * name 은 Server-Timing 헤더와 메트릭 라벨에 쓴다.
+ */
+public enum Phase {
+    MAPPING("mapping"),   // getHandler
+    ADAPTER("adapter"),   // getHandlerAdapter
+    HANDLE("handle"),     // adapter.handle
+    RESOLVE("resolve"),   // viewResolver
+    RENDER("render");     // view.render
+
+    private final String metricName;
+
+    Phase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+}
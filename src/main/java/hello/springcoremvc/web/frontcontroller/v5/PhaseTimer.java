@@ -0,0 +1,92 @@
+package hello.springcoremvc.web.frontcontroller.v5;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Map;
+
+/**
+ * 요청 하나의 단계별 처리 시간 측정
+ * mark(phase) 는 직전 mark 이후 지난 시간을 그 단계의 시간으로 기록한다.
+ *
+ * Server-Timing
+ *  - 헤더: 렌더링 전까지의 단계 (mapping, adapter, handle, resolve)
+ *  - 트레일러: render, total
+ *    JSP forward 는 반환하기 전에 응답을 커밋하므로 렌더링 시간은 헤더에 넣을 수 없다.
+ *    청크 응답이면 HTTP/1.1 트레일러로 보낸다. 트레일러를 보낼 수 없는 응답에는 빠진다.
+ */
+public class PhaseTimer {
+    static final PhaseTimer NOOP = new PhaseTimer(null, false);
+
+    private static final String HEADER = "Server-Timing";
+
+    private final PhaseTimings timings;
+    private final boolean serverTimingHeader;
+    private final long[] durations;
+    private final long start;
+    private long last;
+
+    PhaseTimer(PhaseTimings timings, boolean serverTimingHeader) {
+        this.timings = timings;
+        this.serverTimingHeader = serverTimingHeader;
+        this.durations = timings == null ? null : new long[Phase.values().length];
+        this.start = timings == null ? 0 : System.nanoTime();
+        this.last = start;
+    }
+
+    public void mark(Phase phase) {
+        if (timings == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        durations[phase.ordinal()] = now - last;
+        timings.record(phase, now - last);
+        last = now;
+    }
+
+    /**
+     * 렌더링 전에 호출한다.
+     */
+    public void writeHeader(HttpServletResponse resp) {
+        if (timings == null || !serverTimingHeader || resp.isCommitted()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder(96);
+        for (Phase phase : new Phase[]{Phase.MAPPING, Phase.ADAPTER, Phase.HANDLE, Phase.RESOLVE}) {
+            append(sb, phase.metricName(), durations[phase.ordinal()]);
+        }
+        resp.setHeader(HEADER, sb.toString());
+
+        try {
+            resp.setTrailerFields(() -> Map.of(HEADER, renderTiming()));
+        } catch (IllegalStateException e) {
+            // HTTP/1.0 등 트레일러를 지원하지 않는 응답
+        }
+    }
+
+    private String renderTiming() {
+        StringBuilder sb = new StringBuilder(48);
+        append(sb, Phase.RENDER.metricName(), durations[Phase.RENDER.ordinal()]);
+        append(sb, "total", last - start);
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String name, long nanos) {
+        if (!sb.isEmpty()) {
+            sb.append(", ");
+        }
+        // 밀리초, 소수점 3자리
+        sb.append(name).append(";dur=").append(nanos / 1_000_000).append('.');
+        long micros = nanos / 1_000 % 1_000;
+        if (micros < 100) {
+            sb.append('0');
+        }
+        if (micros < 10) {
+            sb.append('0');
+        }
+        sb.append(micros);
+    }
+
+    long duration(Phase phase) {
+        return durations[phase.ordinal()];
+    }
+}
@@ -0,0 +1,75 @@
+package hello.springcoremvc.web.frontcontroller.v5;
+
+import hello.springcoremvc.web.metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * FrontControllerServletV5 단계별 처리 시간 히스토그램
+ * sampleRate 비율의 요청만 측정한다. 측정하지 않는 요청은 난수 하나를 뽑는 비용만 든다.
+ * 설정은 FrontControllerServletV5.init() 이 컨텍스트 파라미터로 정한다.
+ *
+ * 싱글톤 패턴 적용
+ */
+public class PhaseTimings {
+    /**
+     * instance 보다 먼저 초기화해야 생성자에서 쓸 수 있다.
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final PhaseTimings instance = new PhaseTimings();
+
+    public static PhaseTimings getInstance() {
+        return instance;
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private volatile double sampleRate = 0;
+    private volatile boolean serverTimingHeader = false;
+
+    private PhaseTimings() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * @param sampleRate         측정할 요청 비율 (0 ~ 1)
+     * @param serverTimingHeader 측정한 요청에 Server-Timing 헤더를 붙일지 여부
+     */
+    public void configure(double sampleRate, boolean serverTimingHeader) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate 는 0 ~ 1 이어야 합니다. sampleRate = " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.serverTimingHeader = serverTimingHeader;
+    }
+
+    /**
+     * 측정하지 않는 요청이면 아무것도 하지 않는 PhaseTimer.NOOP 을 반환한다.
+     */
+    public PhaseTimer start() {
+        double rate = sampleRate;
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return PhaseTimer.NOOP;
+        }
+        return new PhaseTimer(this, serverTimingHeader);
+    }
+
+    void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos, false);
+    }
+
+    /**
+     * @return 단계 순서대로 정렬한 스냅샷, key: Phase.metricName()
+     */
+    public Map<String, LatencyHistogram.Snapshot> snapshot() {
+        Map<String, LatencyHistogram.Snapshot> snapshot = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            snapshot.put(phase.metricName(), histograms[phase.ordinal()].snapshot());
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,81 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.api.ApiController;
+import hello.springcoremvc.web.frontcontroller.v5.MyHandlerAdapter;
+import hello.springcoremvc.web.support.AcceptHeader;
+import hello.springcoremvc.web.support.JsonBodyException;
+import hello.springcoremvc.web.support.JsonBodyReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ApiControllerHandlerAdapter implements MyHandlerAdapter {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonBodyReader jsonBodyReader = new JsonBodyReader();
+
+    public ApiControllerHandlerAdapter() {
+        // 응답 스트림은 컨테이너가 닫는다.
+        objectMapper.getFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public boolean supports(Object handler) {
+        return (handler instanceof ApiController);
+    }
+
+    /**
+     * Accept 헤더가 JSON 을 허용하면 컨트롤러가 반환한 객체를 JsonGenerator 로 응답 스트림에 바로 쓴다.
+     * 문자열로 한 번 만든 다음 Writer 로 다시 인코딩하는 ResponseJsonServlet 방식과 달리 중간 String 이 없다.
+     * JSON 을 허용하지 않으면 406 으로 응답한다. JSON 을 포함하는 가장 구체적인 범위의 q 값을 따르므로
+     * "application/json;q=0, *\/*" 도 406 이다.
+     * 요청 바디가 JSON 이면 바디의 필드를 요청 파라미터와 함께 paramMap 으로 넘긴다. 잘못된 바디는 400, 너무 크면 413.
+     * 응답은 어댑터가 직접 처리하므로 null 을 반환한다.
+     */
+    @Override
+    public ModelView handle(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            Object handler
+    ) throws IOException {
+        if (!AcceptHeader.accepts(req.getHeader("Accept"), MediaType.APPLICATION_JSON)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_ACCEPTABLE);
+            return null;
+        }
+
+        Map<String, String> paramMap;
+        try {
+            paramMap = createParamMap(req);
+        } catch (JsonBodyException e) {
+            e.writeTo(resp);
+            return null;
+        }
+
+        ApiController controller = (ApiController) handler;
+        Object result = controller.process(paramMap);
+
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("utf-8");
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(resp.getOutputStream(), JsonEncoding.UTF8)) {
+            objectMapper.writeValue(gen, result);
+        }
+        return null;
+    }
+
+    private Map<String, String> createParamMap(HttpServletRequest req) throws IOException {
+        Map<String, String> paramMap = new HashMap<>();
+        req.getParameterNames().asIterator()
+                .forEachRemaining(paramName -> paramMap.put(paramName, req.getParameter(paramName)));
+        if (JsonBodyReader.isJson(req.getContentType())) {
+            paramMap.putAll(jsonBodyReader.readFields(req));
+        }
+        return paramMap;
+    }
+}
@@ -0,0 +1,139 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.MyView;
+import hello.springcoremvc.web.frontcontroller.async.AsyncController;
+import hello.springcoremvc.web.frontcontroller.v5.MyHandlerAdapter;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+public class AsyncControllerHandlerAdapter implements MyHandlerAdapter {
+    private final Function<String, MyView> viewResolver;
+    private final long timeoutMillis;
+
+    /**
+     * @param viewResolver  프론트 컨트롤러의 viewResolver
+     * @param timeoutMillis future 가 이 시간 안에 완료되지 않으면 503 으로 응답한다.
+     */
+    public AsyncControllerHandlerAdapter(
+            Function<String, MyView> viewResolver,
+            long timeoutMillis
+    ) {
+        this.viewResolver = viewResolver;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public boolean supports(Object handler) {
+        return (handler instanceof AsyncController);
+    }
+
+    /**
+     * req.startAsync() 로 요청을 비동기 모드로 바꾸고 워커 쓰레드는 바로 반환한다.
+     * future 가 완료되면 그 쓰레드에서 AsyncContext.dispatch() 로 뷰를 렌더링한다.
+     * future 가 실패하거나, null 로 완료되거나, 뷰를 찾거나 렌더링하다 예외가 나면 로그를 남기고 500 으로 완료한다.
+     * (whenComplete 안의 예외는 CompletableFuture 가 삼키므로 여기서 처리하지 않으면 컨테이너 타임아웃까지 응답이 없다.)
+     * 응답은 어댑터가 직접 처리하므로 null 을 반환한다.
+     */
+    @Override
+    public ModelView handle(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            Object handler
+    ) {
+        AsyncController controller = (AsyncController) handler;
+        Map<String, String> paramMap = createParamMap(req);
+
+        AsyncContext asyncContext = req.startAsync(req, resp);
+        asyncContext.setTimeout(timeoutMillis);
+
+        // 타임아웃과 future 완료 중 먼저 도착한 쪽만 응답한다.
+        AtomicBoolean completed = new AtomicBoolean();
+        asyncContext.addListener(new TimeoutListener(completed));
+
+        CompletableFuture<ModelView> future;
+        try {
+            future = controller.process(paramMap);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((mv, ex) -> {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            if (ex != null) {
+                fail(asyncContext, resp, ex);
+                return;
+            }
+            try {
+                if (mv == null) {
+                    throw new IllegalStateException("비동기 컨트롤러가 ModelView 없이 완료되었습니다. handler = " + handler);
+                }
+                MyView view = viewResolver.apply(mv.getViewName());
+                view.render(mv.getModel(), asyncContext);
+            } catch (RuntimeException e) {
+                fail(asyncContext, resp, e);
+            }
+        });
+        return null;
+    }
+
+    private void fail(AsyncContext asyncContext, HttpServletResponse resp, Throwable ex) {
+        asyncContext.getRequest().getServletContext().log("비동기 요청 처리 실패", ex);
+        if (!resp.isCommitted()) {
+            resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException alreadyCompleted) {
+            // 템플릿 렌더러는 실패해도 응답을 완료한 뒤 예외를 던진다.
+        }
+    }
+
+    private Map<String, String> createParamMap(HttpServletRequest req) {
+        Map<String, String> paramMap = new HashMap<>();
+        req.getParameterNames().asIterator()
+                .forEachRemaining(paramName -> paramMap.put(paramName, req.getParameter(paramName)));
+        return paramMap;
+    }
+
+    private static class TimeoutListener implements AsyncListener {
+        private final AtomicBoolean completed;
+
+        TimeoutListener(AtomicBoolean completed) {
+            this.completed = completed;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (completed.compareAndSet(false, true)) {
+                AsyncContext asyncContext = event.getAsyncContext();
+                ((HttpServletResponse) asyncContext.getResponse()).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            completed.set(true);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.v5.MyHandlerAdapter;
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethod;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ControllerV6HandlerAdapter implements MyHandlerAdapter {
+    /**
+     * 스캔으로 등록된 HandlerMethod 를 처리하는 어댑터이다.
+     */
+    @Override
+    public boolean supports(Object handler) {
+        return (handler instanceof HandlerMethod);
+    }
+
+    /**
+     * 핸들러 메서드가 ModelView 를 반환하면 그대로, viewName 을 반환하면 ModelView 로 변환한다.
+     */
+    @Override
+    public ModelView handle(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            Object handler
+    ) throws ServletException, IOException {
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        Map<String, Object> model = new HashMap<>();
+
+        Object result = invoke(handlerMethod, req, resp, model);
+        if (result instanceof ModelView mv) {
+            return mv;
+        }
+
+        ModelView mv = new ModelView((String) result);
+        mv.setModel(model);
+        return mv;
+    }
+
+    private Object invoke(
+            HandlerMethod handlerMethod,
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            Map<String, Object> model
+    ) throws ServletException, IOException {
+        try {
+            return handlerMethod.invoke(req, resp, model);
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException("핸들러 호출 중 예외가 발생했습니다. handler = " + handlerMethod, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * 스캔된 핸들러 메서드 하나
+ * 컨트롤러 객체, 미리 생성한 호출기, 파라미터별 ArgumentResolver 를 함께 들고 있다.
+ * 요청마다 어노테이션을 다시 읽지 않는다.
+ */
+@Getter
+public class HandlerMethod {
+    private final Object bean;
+    private final Method method;
+    private final HandlerMethodInvoker invoker;
+    private final ArgumentResolver[] argumentResolvers;
+
+    public HandlerMethod(
+            Object bean,
+            Method method,
+            HandlerMethodInvoker invoker,
+            ArgumentResolver[] argumentResolvers
+    ) {
+        this.bean = bean;
+        this.method = method;
+        this.invoker = invoker;
+        this.argumentResolvers = argumentResolvers;
+    }
+
+    /**
+     * @return viewName 또는 ModelView
+     */
+    public Object invoke(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            Map<String, Object> model
+    ) throws Exception {
+        Object[] args = new Object[argumentResolvers.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = argumentResolvers[i].resolve(req, resp, model);
+        }
+        return invoker.invoke(bean, args);
+    }
+
+    @Override
+    public String toString() {
+        return method.toString();
+    }
+
+    @FunctionalInterface
+    public interface ArgumentResolver {
+        Object resolve(
+                HttpServletRequest req,
+                HttpServletResponse resp,
+                Map<String, Object> model
+        ) throws IOException;
+    }
+}
@@ -0,0 +1,10 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+/**
+ * 핸들러 메서드 호출기
+ * 리플렉션(Method.invoke) 대신 LambdaMetafactory 로 생성한 구현체를 사용한다.
+ */
+@FunctionalInterface
+public interface HandlerMethodInvoker {
+    Object invoke(Object bean, Object[] args) throws Exception;
+}
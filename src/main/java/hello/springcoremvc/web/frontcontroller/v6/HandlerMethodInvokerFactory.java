@@ -0,0 +1,56 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 핸들러 메서드를 직접 호출하는 HandlerMethodInvoker 를 생성한다.
+ *
+ * 핸들러 메서드마다 HandlerMethodInvokerTemplate 을 복사한 히든 클래스를 하나씩 만들고, 그 메서드의 MethodHandle 을 상수로 넣는다.
+ * 호출기 클래스가 핸들러마다 다르므로, 같은 arity 의 핸들러가 하나의 람다 클래스를 나눠 쓸 때처럼
+ * 호출기 안의 호출 지점이 메가모픽이 되지 않는다. JIT 는 핸들러 메서드까지 인라이닝하고, 리플렉션의 인자 검사 비용이 없다.
+ * 기본형 파라미터는 래퍼 타입에서 언박싱된다.
+ */
+public class HandlerMethodInvokerFactory {
+    private static final byte[] TEMPLATE = loadTemplate();
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    public HandlerMethodInvoker create(Method method) {
+        if (!Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            throw new IllegalStateException("핸들러 메서드는 public 이어야 합니다. method = " + method);
+        }
+        if (method.getReturnType() == void.class) {
+            throw new IllegalStateException("핸들러 메서드는 viewName 또는 ModelView 를 반환해야 합니다. method = " + method);
+        }
+
+        try {
+            MethodHandle target = lookup.unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            Class<?> invokerClass = lookup.defineHiddenClassWithClassData(TEMPLATE, target, true).lookupClass();
+            return (HandlerMethodInvoker) invokerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("핸들러 호출기를 생성할 수 없습니다. method = " + method, e);
+        }
+    }
+
+    private static byte[] loadTemplate() {
+        String name = HandlerMethodInvokerTemplate.class.getSimpleName() + ".class";
+        try (InputStream in = HandlerMethodInvokerFactory.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("호출기 템플릿 클래스가 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
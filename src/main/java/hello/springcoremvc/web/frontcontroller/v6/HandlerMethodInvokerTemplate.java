@@ -0,0 +1,39 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * HandlerMethodInvokerFactory 가 핸들러 메서드마다 복사해서 만드는 호출기 클래스의 원본, 직접 사용하지 않는다.
+ *
+ * 복사본(히든 클래스)은 각자 TARGET 에 자기 핸들러 메서드의 MethodHandle 을 class data 로 받는다.
+ * static final 이라 JIT 는 TARGET 을 상수로 보고 핸들러 메서드 호출까지 인라이닝한다.
+ * 클래스가 핸들러마다 다르므로 핸들러 수가 많아도 이 안의 호출 지점은 한 메서드만 부른다.
+ */
+final class HandlerMethodInvokerTemplate implements HandlerMethodInvoker {
+    /**
+     * (Object bean, Object[] args) -> Object
+     */
+    private static final MethodHandle TARGET;
+
+    static {
+        try {
+            TARGET = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object bean, Object[] args) throws Exception {
+        try {
+            return (Object) TARGET.invokeExact(bean, args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
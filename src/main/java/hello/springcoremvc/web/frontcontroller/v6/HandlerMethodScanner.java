@@ -0,0 +1,163 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethod.ArgumentResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * basePackage 아래의 @MyController 를 찾아서 URL -> HandlerMethod 매핑을 만든다.
+ * 서블릿 생성 시점에 한 번만 실행된다.
+ *
+ * Map(모델), HttpServletRequest, HttpServletResponse, @MyRequestParam 은 기본으로 처리한다.
+ * 그 외 타입은 생성자로 받은 MyArgumentResolver 에 순서대로 물어본다. (WebMvcConfig.addArgumentResolvers 와 같은 방식)
+ */
+public class HandlerMethodScanner {
+    private final HandlerMethodInvokerFactory invokerFactory = new HandlerMethodInvokerFactory();
+    private final List<MyArgumentResolver> argumentResolvers;
+
+    public HandlerMethodScanner() {
+        this(List.of());
+    }
+
+    public HandlerMethodScanner(List<MyArgumentResolver> argumentResolvers) {
+        this.argumentResolvers = List.copyOf(argumentResolvers);
+    }
+
+    public Map<String, HandlerMethod> scan(String basePackage) {
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.addIncludeFilter(new AnnotationTypeFilter(MyController.class));
+
+        List<Class<?>> controllerClasses = new ArrayList<>();
+        for (BeanDefinition candidate : provider.findCandidateComponents(basePackage)) {
+            controllerClasses.add(ClassUtils.resolveClassName(
+                    candidate.getBeanClassName(), getClass().getClassLoader()
+            ));
+        }
+        return scan(controllerClasses);
+    }
+
+    /**
+     * 주어진 컨트롤러 클래스만 등록한다. @MyController 는 확인하지 않는다.
+     */
+    Map<String, HandlerMethod> scan(List<Class<?>> controllerClasses) {
+        Map<String, HandlerMethod> handlerMethods = new HashMap<>();
+        for (Class<?> controllerClass : controllerClasses) {
+            register(controllerClass, handlerMethods);
+        }
+        return handlerMethods;
+    }
+
+    private void register(
+            Class<?> controllerClass,
+            Map<String, HandlerMethod> handlerMethods
+    ) {
+        Object bean = BeanUtils.instantiateClass(controllerClass);
+        String basePath = pathOf(controllerClass.getAnnotation(MyRequestMapping.class));
+
+        for (Method method : controllerClass.getMethods()) {
+            MyRequestMapping mapping = method.getAnnotation(MyRequestMapping.class);
+            if (mapping == null) {
+                continue;
+            }
+
+            String url = basePath + pathOf(mapping);
+            HandlerMethod handlerMethod = new HandlerMethod(
+                    bean, method, invokerFactory.create(method), createArgumentResolvers(method)
+            );
+
+            HandlerMethod existing = handlerMethods.putIfAbsent(url, handlerMethod);
+            if (existing != null) {
+                throw new IllegalStateException("URL 매핑이 중복되었습니다. url = " + url
+                        + ", " + existing + ", " + handlerMethod);
+            }
+        }
+    }
+
+    private String pathOf(MyRequestMapping mapping) {
+        return mapping == null ? "" : mapping.value();
+    }
+
+    private ArgumentResolver[] createArgumentResolvers(Method method) {
+        Parameter[] parameters = method.getParameters();
+        ArgumentResolver[] resolvers = new ArgumentResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = createArgumentResolver(method, parameters[i]);
+        }
+        return resolvers;
+    }
+
+    /**
+     * 파라미터 타입별 값 추출 방법을 시작 시점에 미리 정해둔다.
+     */
+    private ArgumentResolver createArgumentResolver(Method method, Parameter parameter) {
+        Class<?> type = parameter.getType();
+
+        MyRequestParam requestParam = parameter.getAnnotation(MyRequestParam.class);
+        if (requestParam != null) {
+            return requestParamResolver(requestParam.value(), type, method);
+        }
+
+        if (type == Map.class) {
+            return (req, resp, model) -> model;
+        }
+        if (type == HttpServletRequest.class) {
+            return (req, resp, model) -> req;
+        }
+        if (type == HttpServletResponse.class) {
+            return (req, resp, model) -> resp;
+        }
+        for (MyArgumentResolver argumentResolver : argumentResolvers) {
+            if (argumentResolver.supportsParameter(parameter)) {
+                return argumentResolver.createResolver(parameter);
+            }
+        }
+
+        throw new IllegalStateException("지원하지 않는 파라미터입니다. parameter = " + parameter + ", method = " + method);
+    }
+
+    private ArgumentResolver requestParamResolver(String name, Class<?> type, Method method) {
+        if (type == String.class) {
+            return (req, resp, model) -> req.getParameter(name);
+        }
+        if (type == int.class || type == Integer.class) {
+            boolean required = type.isPrimitive();
+            return (req, resp, model) -> {
+                String value = requiredParameter(req, name, required);
+                return value == null ? null : Integer.valueOf(value);
+            };
+        }
+        if (type == long.class || type == Long.class) {
+            boolean required = type.isPrimitive();
+            return (req, resp, model) -> {
+                String value = requiredParameter(req, name, required);
+                return value == null ? null : Long.valueOf(value);
+            };
+        }
+
+        throw new IllegalStateException("지원하지 않는 파라미터 타입입니다. type = " + type + ", method = " + method);
+    }
+
+    private static String requiredParameter(
+            HttpServletRequest req,
+            String name,
+            boolean required
+    ) {
+        String value = req.getParameter(name);
+        if (value == null && required) {
+            throw new IllegalArgumentException("필수 파라미터가 없습니다. name = " + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethod.ArgumentResolver;
+import hello.springcoremvc.web.support.MemberFormBinder;
+
+import java.lang.reflect.Parameter;
+
+/**
+ * Member 파라미터를 MemberFormBinder 로 폼 바디에서 바로 바인딩한다. (getParameter() 를 거치지 않는다)
+ */
+public class MemberFormArgumentResolverV6 implements MyArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(Parameter parameter) {
+        return parameter.getType() == Member.class;
+    }
+
+    @Override
+    public ArgumentResolver createResolver(Parameter parameter) {
+        return (req, resp, model) -> MemberFormBinder.bind(req);
+    }
+}
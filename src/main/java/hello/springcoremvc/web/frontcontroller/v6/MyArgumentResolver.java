@@ -0,0 +1,17 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethod.ArgumentResolver;
+
+import java.lang.reflect.Parameter;
+
+/**
+ * HandlerMethodScanner 가 기본으로 처리하지 않는 파라미터를 바인딩한다. (스프링 MVC 의 HandlerMethodArgumentResolver 에 해당)
+ * 시작 시점에 파라미터마다 한 번 확인하고, 지원하는 파라미터면 요청마다 호출할 ArgumentResolver 를 만든다.
+ *
+ * 등록: HandlerMethodScanner 생성자 (FrontControllerServletV5)
+ */
+public interface MyArgumentResolver {
+    boolean supportsParameter(Parameter parameter);
+
+    ArgumentResolver createResolver(Parameter parameter);
+}
@@ -0,0 +1,16 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * V6 컨트롤러 표시
+ * FrontControllerServletV5 가 시작할 때 한 번 스캔해서 핸들러로 등록한다.
+ * 컨트롤러는 기본 생성자가 있어야 한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MyController {
+}
@@ -0,0 +1,17 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * URL 매핑
+ * 클래스에 붙이면 공통 경로, 메서드에 붙이면 세부 경로가 된다.
+ * 최종 URL = 클래스 경로 + 메서드 경로
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MyRequestMapping {
+    String value() default "";
+}
@@ -0,0 +1,16 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 파라미터 바인딩
+ * String, int, long 과 그 래퍼 타입을 지원한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MyRequestParam {
+    String value();
+}
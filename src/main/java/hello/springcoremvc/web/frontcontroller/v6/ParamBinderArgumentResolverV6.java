@@ -0,0 +1,24 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethod.ArgumentResolver;
+
+import java.lang.reflect.Parameter;
+
+/**
+ * @BindParams 로 바인더가 생성된 타입의 파라미터를 생성된 바인더로 바인딩한다.
+ */
+public class ParamBinderArgumentResolverV6 implements MyArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(Parameter parameter) {
+        return ParamBinders.find(parameter.getType()) != null;
+    }
+
+    @Override
+    public ArgumentResolver createResolver(Parameter parameter) {
+        ParamBinder<?> paramBinder = ParamBinders.get(parameter.getType());
+        return (req, resp, model) -> paramBinder.bind(req::getParameter);
+    }
+}
@@ -0,0 +1,45 @@
+package hello.springcoremvc.web.frontcontroller.v6.controller;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.frontcontroller.v6.MyController;
+import hello.springcoremvc.web.frontcontroller.v6.MyRequestMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * V6
+ *  - 컨트롤러 하나에 여러 URL 매핑
+ *  - @MyRequestMapping, @MyRequestParam 사용
+ *  - Member 파라미터는 MemberFormArgumentResolverV6 가 폼 바디에서 바로 바인딩
+ *  - FrontControllerServletV5 가 시작할 때 스캔해서 등록
+ */
+@MyController
+@MyRequestMapping("/front-controller/v5/v6/members")
+public class MemberControllerV6 {
+    private MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @MyRequestMapping("/new-form")
+    public String newForm() {
+        return "new-form";
+    }
+
+    @MyRequestMapping("/save")
+    public String save(
+            Member member,
+            Map<String, Object> model
+    ) {
+        memberRepository.save(member);
+
+        model.put("member", member);
+        return "save-result";
+    }
+
+    @MyRequestMapping
+    public String members(Map<String, Object> model) {
+        List<Member> members = memberRepository.findAll();
+        model.put("members", members);
+        return "members";
+    }
+}
@@ -0,0 +1,212 @@
+package hello.springcoremvc.web.logging;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 요청 경로용 비동기 로그
+ * 요청 쓰레드는 다 만든 문자열을 링 버퍼에 넣기만 하고, 백그라운드 쓰레드 하나가 모아서 System.out 에 쓴다.
+ * System.out.println 은 stdout 락을 잡고 콘솔에 쓸 때까지 기다리므로, 콘솔이 느리면 요청 쓰레드가 모두 막힌다.
+ *
+ * - 버퍼가 가득 차면 기다리지 않고 버린 뒤 dropped 를 센다.
+ * - 요청 내용 덤프(디버그)는 초당 debugPerSecond 개까지만 남긴다. shouldDumpDebug() 가 true 일 때만 문자열을 만든다.
+ * - async=false 이면 예전처럼 요청 쓰레드에서 바로 System.out 에 쓴다.
+ * - 버퍼가 비면 쓰기 쓰레드는 시간 제한 없이 잠들고, 잠든 동안 이벤트를 넣은 요청 쓰레드가 깨운다. 한가할 때 깨어나지 않는다.
+ *
+ * 설정은 AsyncLogConfig 가 app.async-log.* 로 정한다.
+ *
+ * 싱글톤 패턴 적용
+ */
+public class AsyncLog {
+    static final int DEFAULT_CAPACITY = 8192;
+    private static final long FLUSH_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MAX_BATCH_CHARS = 64 * 1024;
+
+    private static final AsyncLog instance = new AsyncLog(DEFAULT_CAPACITY, () -> System.out);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(instance::flush, "async-log-flush"));
+    }
+
+    public static AsyncLog getInstance() {
+        return instance;
+    }
+
+    private final LogRingBuffer buffer;
+    private final Supplier<PrintStream> sink;
+    private final Thread writer;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder debugSuppressed = new LongAdder();
+    /**
+     * 다음 디버그 덤프를 남길 수 있는 이론적 시각 (GCRA, TokenBucket 과 같은 방식)
+     */
+    private final AtomicLong debugTat = new AtomicLong(Long.MIN_VALUE);
+
+    private volatile boolean async = true;
+    private volatile long debugIntervalNanos;
+    private volatile long debugBurstNanos;
+    private volatile boolean running = true;
+    private volatile boolean writing = false;
+    /**
+     * 쓰기 쓰레드가 잠들기 직전에 true. 생산자는 넣은 뒤 이 값을 보고 깨운다.
+     * 쓰기 쓰레드는 true 로 바꾼 다음 버퍼를 다시 확인하므로, 둘 중 하나는 반드시 상대의 쓰기를 본다.
+     */
+    private volatile boolean sleeping = false;
+
+    /**
+     * @param sink 출력할 스트림, 배치마다 다시 가져오므로 System.setOut 으로 바꾼 스트림에도 쓴다.
+     */
+    AsyncLog(int capacity, Supplier<PrintStream> sink) {
+        this.buffer = new LogRingBuffer(capacity);
+        this.sink = sink;
+        configure(true, 10);
+        this.writer = new Thread(this::drainLoop, "async-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * @param async          false 이면 요청 쓰레드에서 바로 쓴다.
+     * @param debugPerSecond 초당 남기는 디버그 덤프 수 (0 이면 남기지 않는다)
+     */
+    public void configure(boolean async, double debugPerSecond) {
+        if (debugPerSecond < 0) {
+            throw new IllegalArgumentException("debugPerSecond 는 0 이상이어야 합니다. debugPerSecond = " + debugPerSecond);
+        }
+        this.async = async;
+        if (debugPerSecond == 0) {
+            this.debugIntervalNanos = 0;
+            return;
+        }
+        long interval = (long) (1_000_000_000L / debugPerSecond);
+        this.debugBurstNanos = interval * Math.max(1, (long) debugPerSecond);
+        this.debugIntervalNanos = interval;
+    }
+
+    /**
+     * 한 줄을 남긴다. 여러 줄 문자열도 하나의 이벤트로 함께 출력된다.
+     */
+    public void info(String line) {
+        if (!async) {
+            sink.get().println(line);
+            written.increment();
+            return;
+        }
+        if (!buffer.offer(line)) {
+            dropped.increment();
+            return;
+        }
+        if (sleeping) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * shouldDumpDebug() 가 true 일 때 만든 요청 덤프를 남긴다.
+     */
+    public void debug(String dump) {
+        info(dump);
+    }
+
+    /**
+     * 이번 요청의 덤프를 남겨도 되는지 (초당 debugPerSecond 개까지)
+     * 락 없이 CAS 한 번으로 판단한다.
+     */
+    public boolean shouldDumpDebug() {
+        long interval = debugIntervalNanos;
+        if (interval <= 0) {
+            debugSuppressed.increment();
+            return false;
+        }
+        long burst = debugBurstNanos;
+        long now = System.nanoTime();
+        while (true) {
+            long current = debugTat.get();
+            long next = Math.max(current, now) + interval;
+            if (next - now > burst) {
+                debugSuppressed.increment();
+                return false;
+            }
+            if (debugTat.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 남은 이벤트를 모두 쓸 때까지 기다린다. (최대 5초)
+     */
+    public void flush() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((!buffer.isEmpty() || writing) && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+    }
+
+    public AsyncLogStats stats() {
+        return new AsyncLogStats(async, buffer.capacity(), written.sum(), dropped.sum(), debugSuppressed.sum());
+    }
+
+    /**
+     * 버퍼가 비어 있으면 시간 제한 없이 잠들어 WAITING 이다. (테스트용)
+     */
+    Thread.State writerState() {
+        return writer.getState();
+    }
+
+    /**
+     * 남은 이벤트를 쓰고 쓰기 쓰레드를 멈춘다. 테스트에서 따로 만든 인스턴스를 정리할 때 쓴다.
+     */
+    void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 버퍼가 빌 때까지 모아서 한 번에 쓴다. 콘솔에 쓰고 flush 하는 비용을 이벤트가 아니라 배치마다 낸다.
+     */
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder(MAX_BATCH_CHARS);
+        while (true) {
+            writing = true;
+            String line = buffer.poll();
+            if (line == null) {
+                writing = false;
+                if (!running && buffer.isEmpty()) {
+                    return;
+                }
+                sleeping = true;
+                if (running && buffer.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                sleeping = false;
+                continue;
+            }
+
+            int count = 0;
+            do {
+                batch.append(line);
+                if (!line.endsWith("\n")) {
+                    batch.append(System.lineSeparator());
+                }
+                count++;
+            } while (batch.length() < MAX_BATCH_CHARS && (line = buffer.poll()) != null);
+
+            PrintStream out = sink.get();
+            out.print(batch);
+            out.flush();
+            written.add(count);
+            batch.setLength(0);
+            if (batch.capacity() > MAX_BATCH_CHARS * 4) {
+                batch.trimToSize();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package hello.springcoremvc.web.logging;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 비동기 로그 통계 조회
+ */
+@RestController
+public class AsyncLogController {
+    private final AsyncLog log = AsyncLog.getInstance();
+
+    @GetMapping("/async-log/stats")
+    public AsyncLogStats stats() {
+        return log.stats();
+    }
+}
@@ -0,0 +1,15 @@
+package hello.springcoremvc.web.logging;
+
+/**
+ * @param written         출력한 줄(이벤트) 수
+ * @param dropped         버퍼가 가득 차서 버린 이벤트 수
+ * @param debugSuppressed 샘플링 한도를 넘어서 남기지 않은 디버그 덤프 수
+ */
+public record AsyncLogStats(
+        boolean async,
+        int capacity,
+        long written,
+        long dropped,
+        long debugSuppressed
+) {
+}
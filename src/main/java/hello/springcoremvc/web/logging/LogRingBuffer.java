@@ -0,0 +1,81 @@
+package hello.springcoremvc.web.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없는 고정 크기 링 버퍼 (생산자 여럿, 소비자 하나)
+ * 칸마다 시퀀스 번호를 둬서 생산자는 tail 을 CAS 로 차지한 뒤 값을 쓰고 시퀀스로 발행한다.
+ * 소비자는 시퀀스가 발행된 칸만 읽고, 한 바퀴 뒤의 번호로 칸을 돌려준다.
+ *
+ * 가득 차면 기다리지 않고 false 를 반환한다. 요청 쓰레드가 로그 때문에 막히지 않게 하기 위해서다.
+ */
+class LogRingBuffer {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<String> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    /**
+     * 소비자만 쓴다. isEmpty() 를 다른 쓰레드에서 부를 수 있어서 volatile 이다.
+     */
+    private volatile long head;
+
+    LogRingBuffer(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 가득 차서 넣지 못하면 false
+     */
+    boolean offer(String line) {
+        while (true) {
+            long t = tail.get();
+            int index = (int) t & mask;
+            long sequence = sequences.getAcquire(index);
+            if (sequence == t) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    slots.setPlain(index, line);
+                    sequences.setRelease(index, t + 1);
+                    return true;
+                }
+            } else if (sequence < t) {
+                return false;
+            }
+            // 다른 생산자가 먼저 차지했다. 다시 시도한다.
+        }
+    }
+
+    /**
+     * 소비자 쓰레드에서만 부른다.
+     *
+     * @return 비어 있으면 null
+     */
+    String poll() {
+        long h = head;
+        int index = (int) h & mask;
+        if (sequences.getAcquire(index) != h + 1) {
+            return null;
+        }
+        String line = slots.getPlain(index);
+        slots.setPlain(index, null);
+        sequences.setRelease(index, h + capacity);
+        head = h + 1;
+        return line;
+    }
+
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,95 @@
+package hello.springcoremvc.web.metrics;
+
+import hello.springcoremvc.web.warmup.WarmUpRequests;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 요청 지연 시간을 경로(요청 URI)별 히스토그램에 기록한다.
+ * 오류는 5xx 응답이거나 체인에서 예외가 난 요청이다. 404 는 RouteMetrics.UNMATCHED 로 모은다.
+ *
+ * 동기 요청은 할당 없이 기록한다. 비동기 요청은 AsyncListener 를 하나 붙여서 완료 시점에 기록한다.
+ * REQUEST 디스패치에만 등록하므로 JSP forward 는 따로 세지 않는다.
+ * 시작할 때 워밍업 요청(WarmUpRequests)은 기록하지 않는다.
+ *
+ * 등록: MetricsConfig
+ */
+public class LatencyFilter extends HttpFilter {
+    private final RouteMetrics metrics;
+
+    public LatencyFilter(RouteMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        if (WarmUpRequests.isWarmUp(req)) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(req, resp);
+            failed = false;
+        } finally {
+            if (!failed && req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new RecordOnComplete(req, resp, start));
+            } else {
+                record(req, resp, start, failed);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest req, HttpServletResponse resp, long start, boolean failed) {
+        long elapsed = System.nanoTime() - start;
+        int status = resp.getStatus();
+        String route = status == HttpServletResponse.SC_NOT_FOUND ? RouteMetrics.UNMATCHED : req.getRequestURI();
+        metrics.record(route, elapsed, failed || status >= 500);
+    }
+
+    private class RecordOnComplete implements AsyncListener {
+        private final HttpServletRequest req;
+        private final HttpServletResponse resp;
+        private final long start;
+        private volatile boolean failed;
+
+        RecordOnComplete(HttpServletRequest req, HttpServletResponse resp, long start) {
+            this.req = req;
+            this.resp = resp;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(req, resp, start, failed);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
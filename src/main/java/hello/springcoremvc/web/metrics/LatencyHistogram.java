@@ -0,0 +1,88 @@
+package hello.springcoremvc.web.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 버킷 지연 시간 히스토그램 (나노초)
+ * 2 의 거듭제곱 구간마다 16 개의 같은 폭 버킷으로 나눈다. 버킷 폭은 값의 1/16 이하라서 백분위 오차는 6.25% 이내다.
+ * long 전체 범위를 960 개 버킷으로 덮으므로 범위를 벗어나는 값이 없다.
+ *
+ * 기록은 비트 연산으로 버킷을 찾고 AtomicLongArray 를 하나 올릴 뿐이라 락도, 할당도 없다.
+ * 스냅샷은 버킷을 하나씩 읽으므로 기록과 동시에 만들면 몇 건 어긋날 수 있다.
+ */
+public class LatencyHistogram {
+    static final int SUB_BITS = 4;
+    static final int SUB_COUNT = 1 << SUB_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sumNanos = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long nanos, boolean error) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets.incrementAndGet(index(nanos));
+        sumNanos.add(nanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, sumNanos.sum(), errors.sum());
+    }
+
+    static int index(long nanos) {
+        if (nanos < SUB_COUNT) {
+            return (int) nanos;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((nanos >>> shift) & (SUB_COUNT - 1));
+    }
+
+    /**
+     * 버킷에 들어가는 가장 큰 값
+     */
+    static long upperBound(int index) {
+        if (index < 2 * SUB_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_COUNT - 1;
+        long lower = (long) (SUB_COUNT + index % SUB_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public record Snapshot(long[] counts, long count, long sumNanos, long errors) {
+        /**
+         * @param quantile 0 ~ 1
+         * @return 해당 백분위가 들어있는 버킷의 최댓값 (나노초), 기록이 없으면 0
+         */
+        public long percentile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length - 1);
+        }
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package hello.springcoremvc.web.metrics;
+
+import hello.springcoremvc.web.frontcontroller.v5.PhaseTimings;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 경로별 지연 시간을 Prometheus 텍스트 형식으로 응답한다.
+ *  - http_server_requests_seconds            : summary (p50, p90, p99, p999, count, sum)
+ *  - http_server_requests_errors_total       : 오류 수
+ *  - http_server_requests_error_ratio        : 오류 비율
+ *  - front_controller_v5_phase_seconds       : /front-controller/v5 단계별 처리 시간 summary (샘플링한 요청만)
+ * 백분위는 히스토그램 버킷의 최댓값이므로 실제 값보다 최대 6.25% 크다.
+ */
+@RestController
+public class MetricsController {
+    static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final RouteMetrics metrics;
+
+    public MetricsController(RouteMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String metrics() {
+        Map<String, LatencyHistogram.Snapshot> snapshot = metrics.snapshot();
+        StringBuilder sb = new StringBuilder(1024 + snapshot.size() * 512);
+
+        sb.append("# HELP http_server_requests_seconds Request latency by route\n");
+        summary(sb, "http_server_requests_seconds", "route", snapshot);
+
+        sb.append("# HELP http_server_requests_errors_total Requests that failed with 5xx or an exception\n");
+        sb.append("# TYPE http_server_requests_errors_total counter\n");
+        snapshot.forEach((route, s) -> sb.append("http_server_requests_errors_total{route=\"").append(escape(route))
+                .append("\"} ").append(s.errors()).append('\n'));
+
+        sb.append("# HELP http_server_requests_error_ratio Errors divided by requests since start\n");
+        sb.append("# TYPE http_server_requests_error_ratio gauge\n");
+        snapshot.forEach((route, s) -> sb.append("http_server_requests_error_ratio{route=\"").append(escape(route))
+                .append("\"} ").append(s.errorRate()).append('\n'));
+
+        sb.append("# HELP front_controller_v5_phase_seconds FrontControllerServletV5 time per phase, sampled\n");
+        summary(sb, "front_controller_v5_phase_seconds", "phase", PhaseTimings.getInstance().snapshot());
+        return sb.toString();
+    }
+
+    private static void summary(
+            StringBuilder sb,
+            String name,
+            String labelName,
+            Map<String, LatencyHistogram.Snapshot> snapshot
+    ) {
+        sb.append("# TYPE ").append(name).append(" summary\n");
+        snapshot.forEach((labelValue, s) -> {
+            String label = labelName + "=\"" + escape(labelValue) + "\"";
+            for (double quantile : QUANTILES) {
+                sb.append(name).append('{').append(label)
+                        .append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(s.percentile(quantile) / NANOS_PER_SECOND).append('\n');
+            }
+            sb.append(name).append("_count{").append(label).append("} ").append(s.count()).append('\n');
+            sb.append(name).append("_sum{").append(label).append("} ").append(s.sumNanos() / NANOS_PER_SECOND).append('\n');
+        });
+    }
+
+    /**
+     * 라벨 값의 \, ", 줄바꿈을 이스케이프한다.
+     */
+    static String escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '"' -> "\\\"";
+                case '\n' -> "\\n";
+                default -> null;
+            };
+            if (replacement == null) {
+                if (sb != null) {
+                    sb.append(c);
+                }
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            sb.append(replacement);
+        }
+        return sb == null ? value : sb.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package hello.springcoremvc.web.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로별 지연 시간 히스토그램 보관소
+ * 경로 수는 maxRoutes 로 제한하고, 넘치는 경로는 OTHER 하나로 모은다.
+ * 이미 있는 경로는 ConcurrentHashMap.get 한 번으로 찾으므로 기록 경로에서 할당이 없다.
+ */
+public class RouteMetrics {
+    /**
+     * 경로 수 제한을 넘은 요청
+     */
+    public static final String OTHER = "other";
+    /**
+     * 매핑되지 않은 요청 (404). 임의의 URL 로 경로가 늘어나지 않도록 하나로 모은다.
+     */
+    public static final String UNMATCHED = "unmatched";
+
+    private final ConcurrentHashMap<String, LatencyHistogram> routes = new ConcurrentHashMap<>();
+    private final int maxRoutes;
+
+    public RouteMetrics(int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    public void record(String route, long nanos, boolean error) {
+        histogram(route).record(nanos, error);
+    }
+
+    LatencyHistogram histogram(String route) {
+        LatencyHistogram histogram = routes.get(route);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (routes.size() >= maxRoutes) {
+            route = OTHER;
+        }
+        return routes.computeIfAbsent(route, r -> new LatencyHistogram());
+    }
+
+    /**
+     * @return 경로 이름 순으로 정렬한 스냅샷
+     */
+    public Map<String, LatencyHistogram.Snapshot> snapshot() {
+        Map<String, LatencyHistogram.Snapshot> snapshot = new TreeMap<>();
+        routes.forEach((route, histogram) -> snapshot.put(route, histogram.snapshot()));
+        return snapshot;
+    }
+}
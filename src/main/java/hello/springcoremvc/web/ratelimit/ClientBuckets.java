@@ -0,0 +1,112 @@
+package hello.springcoremvc.web.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클라이언트별 토큰 버킷 보관소
+ * 클라이언트 ID 해시로 나눈 stripe 마다 접근 순서 LinkedHashMap 과 락을 둔다. 서로 다른 stripe 는 경합하지 않는다.
+ *
+ * - 크기 제한: stripe 마다 maxClients / stripes 개를 넘으면 가장 오래 쓰지 않은 버킷을 버린다.
+ * - 유휴 제거: 접근할 때마다 가장 오래된 버킷부터 idleTimeout 이 지난 것을 버린다.
+ * 버려진 클라이언트는 다음 요청에서 가득 찬 버킷으로 다시 시작한다.
+ *
+ * 가상 쓰레드가 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+class ClientBuckets {
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double ratePerSecond;
+    private final int burst;
+    private final long idleTimeoutNanos;
+    private final LongAdder evictions = new LongAdder();
+
+    ClientBuckets(int stripeCount, int maxClients, double ratePerSecond, int burst, long idleTimeoutNanos) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[size];
+        this.mask = size - 1;
+        int perStripe = Math.max(1, maxClients / size);
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    /**
+     * @return 허용하면 0, 거부하면 기다려야 하는 나노초
+     */
+    long tryAcquire(String clientId, long nowNanos) {
+        return bucket(clientId, nowNanos).tryAcquire(nowNanos);
+    }
+
+    private TokenBucket bucket(String clientId, long nowNanos) {
+        int h = clientId.hashCode();
+        Stripe stripe = stripes[(h ^ (h >>> 16)) & mask];
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(nowNanos);
+            TokenBucket bucket = stripe.buckets.get(clientId);
+            if (bucket == null) {
+                bucket = new TokenBucket(ratePerSecond, burst, nowNanos);
+                stripe.buckets.put(clientId, bucket);
+            }
+            return bucket;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    private class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, TokenBucket> buckets;
+
+        Stripe(int maxSize) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * 접근 순서로 정렬되어 있으므로 앞에서부터 유휴 버킷이 아닌 것을 만날 때까지만 본다.
+         */
+        void evictIdle(long nowNanos) {
+            Iterator<TokenBucket> it = buckets.values().iterator();
+            while (it.hasNext()) {
+                if (nowNanos - it.next().lastAccessNanos() < idleTimeoutNanos) {
+                    return;
+                }
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
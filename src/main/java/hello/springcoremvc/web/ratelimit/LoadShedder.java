@@ -0,0 +1,53 @@
+package hello.springcoremvc.web.ratelimit;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기 시간 기반 부하 차단
+ * 동시에 처리하는 저장 요청을 maxConcurrent 개로 제한하고, 나머지는 자리가 날 때까지 기다린다.
+ * 이 대기 시간(큐 대기)이 SLO 를 넘으면 그 요청을 거부하고 shedInterval 동안 차단 모드로 들어간다.
+ * 차단 모드에서는 기다리지 않고 바로 거부해서 워커 쓰레드를 붙잡지 않는다. 차단 모드가 끝나면 다시 받아 보고 판단한다.
+ */
+class LoadShedder {
+    private final Semaphore permits;
+    private final long queueSloNanos;
+    private final long shedIntervalNanos;
+    private volatile long shedUntilNanos;
+
+    LoadShedder(int maxConcurrent, long queueSloNanos, long shedIntervalNanos) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.queueSloNanos = queueSloNanos;
+        this.shedIntervalNanos = shedIntervalNanos;
+        this.shedUntilNanos = System.nanoTime();
+    }
+
+    /**
+     * @return 자리를 얻었으면 true. true 면 처리 후 반드시 release() 를 호출해야 한다.
+     */
+    boolean tryAdmit() throws InterruptedException {
+        if (isShedding()) {
+            return false;
+        }
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (permits.tryAcquire(queueSloNanos, TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        shedUntilNanos = System.nanoTime() + shedIntervalNanos;
+        return false;
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    boolean isShedding() {
+        return System.nanoTime() - shedUntilNanos < 0;
+    }
+
+    long shedIntervalNanos() {
+        return shedIntervalNanos;
+    }
+}
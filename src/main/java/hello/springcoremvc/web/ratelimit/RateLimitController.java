@@ -0,0 +1,21 @@
+package hello.springcoremvc.web.ratelimit;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 저장 요청 제한, 부하 차단 통계 조회
+ */
+@RestController
+public class RateLimitController {
+    private final RateLimitMetrics metrics;
+
+    public RateLimitController(RateLimitMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @GetMapping("/rate-limit/stats")
+    public RateLimitStats stats() {
+        return metrics.stats();
+    }
+}
@@ -0,0 +1,118 @@
+package hello.springcoremvc.web.ratelimit;
+
+import hello.springcoremvc.web.warmup.WarmUpRequests;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 회원 저장 요청 보호
+ *  1. 클라이언트별 토큰 버킷: 토큰이 없으면 429 + Retry-After (토큰이 생길 때까지의 초)
+ *  2. 부하 차단: 처리 대기 시간이 SLO 를 넘으면 503 + Retry-After (차단 모드 시간)
+ *
+ * 클라이언트 ID 는 clientIdHeader 가 있으면 그 헤더 값, 없으면 원격 주소다.
+ * 헤더는 클라이언트가 마음대로 바꿀 수 있으므로 앞단 프록시가 설정하는 헤더(X-Forwarded-For 등)만 지정해야 한다.
+ *
+ * 비동기 요청은 handle 이 반환된 시점에 자리를 돌려준다.
+ * 시작할 때 워밍업 요청(WarmUpRequests)은 제한하지 않는다.
+ */
+public class RateLimitFilter extends HttpFilter {
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ClientBuckets buckets;
+    private final LoadShedder loadShedder;
+    private final String clientIdHeader;
+    private final RateLimitMetrics metrics;
+
+    public RateLimitFilter(
+            double ratePerSecond,
+            int burst,
+            int maxClients,
+            long idleTimeoutNanos,
+            int maxConcurrent,
+            long queueSloNanos,
+            long shedIntervalNanos,
+            String clientIdHeader,
+            RateLimitMetrics metrics
+    ) {
+        this.buckets = new ClientBuckets(
+                Runtime.getRuntime().availableProcessors() * 4, maxClients, ratePerSecond, burst, idleTimeoutNanos
+        );
+        this.loadShedder = new LoadShedder(maxConcurrent, queueSloNanos, shedIntervalNanos);
+        this.clientIdHeader = clientIdHeader == null || clientIdHeader.isBlank() ? null : clientIdHeader;
+        this.metrics = metrics;
+        metrics.register(this);
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        if (WarmUpRequests.isWarmUp(req)) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        long waitNanos = buckets.tryAcquire(clientId(req), System.nanoTime());
+        if (waitNanos > 0) {
+            metrics.recordRateLimited();
+            reject(resp, SC_TOO_MANY_REQUESTS, waitNanos);
+            return;
+        }
+
+        boolean admitted;
+        try {
+            admitted = loadShedder.tryAdmit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            metrics.recordShed();
+            reject(resp, HttpServletResponse.SC_SERVICE_UNAVAILABLE, loadShedder.shedIntervalNanos());
+            return;
+        }
+
+        try {
+            metrics.recordAdmitted();
+            chain.doFilter(req, resp);
+        } finally {
+            loadShedder.release();
+        }
+    }
+
+    private String clientId(HttpServletRequest req) {
+        if (clientIdHeader != null) {
+            String id = req.getHeader(clientIdHeader);
+            if (id != null && !id.isEmpty()) {
+                return id;
+            }
+        }
+        return req.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse resp, int status, long retryAfterNanos) {
+        resp.setStatus(status);
+        // 초 단위로 올림
+        resp.setHeader("Retry-After", Long.toString((retryAfterNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+    }
+
+    int clients() {
+        return buckets.size();
+    }
+
+    long evictions() {
+        return buckets.evictions();
+    }
+
+    boolean isShedding() {
+        return loadShedder.isShedding();
+    }
+}
@@ -0,0 +1,38 @@
+package hello.springcoremvc.web.ratelimit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class RateLimitMetrics {
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private volatile RateLimitFilter filter;
+
+    void register(RateLimitFilter filter) {
+        this.filter = filter;
+    }
+
+    void recordAdmitted() {
+        admitted.increment();
+    }
+
+    void recordRateLimited() {
+        rateLimited.increment();
+    }
+
+    void recordShed() {
+        shed.increment();
+    }
+
+    public RateLimitStats stats() {
+        RateLimitFilter f = filter;
+        return new RateLimitStats(
+                admitted.sum(),
+                rateLimited.sum(),
+                shed.sum(),
+                f != null && f.isShedding(),
+                f == null ? 0 : f.clients(),
+                f == null ? 0 : f.evictions()
+        );
+    }
+}
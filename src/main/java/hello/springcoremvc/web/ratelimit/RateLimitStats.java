@@ -0,0 +1,19 @@
+package hello.springcoremvc.web.ratelimit;
+
+/**
+ * admitted    : 처리한 요청 수
+ * rateLimited : 토큰이 없어서 429 로 거부한 요청 수
+ * shed        : 대기 시간 SLO 초과로 503 으로 거부한 요청 수
+ * shedding    : 지금 차단 모드인지
+ * clients     : 보관 중인 클라이언트 버킷 수
+ * evictions   : 크기 제한, 유휴 시간으로 버린 버킷 수
+ */
+public record RateLimitStats(
+        long admitted,
+        long rateLimited,
+        long shed,
+        boolean shedding,
+        int clients,
+        long evictions
+) {
+}
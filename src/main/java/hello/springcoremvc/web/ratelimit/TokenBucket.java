@@ -0,0 +1,44 @@
+package hello.springcoremvc.web.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 (GCRA 방식)
+ * 토큰 수와 마지막 충전 시각 대신 "다음 토큰이 생기는 이론적 시각(tat)" 하나만 AtomicLong 으로 보관한다.
+ * 초당 rate 개가 충전되고 최대 burst 개까지 쌓이는 토큰 버킷과 같은 결과를 낸다.
+ * 락 없이 CAS 한 번으로 판단한다.
+ */
+class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+    private volatile long lastAccessNanos;
+
+    TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * @return 허용하면 0, 거부하면 토큰이 생길 때까지 기다려야 하는 나노초
+     */
+    long tryAcquire(long nowNanos) {
+        lastAccessNanos = nowNanos;
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+}
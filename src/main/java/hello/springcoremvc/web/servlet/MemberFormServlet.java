@@ -1,18 +1,36 @@
 package hello.springcoremvc.web.servlet;
 
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 
 @WebServlet(
         name = "memberFormServlet",
         urlPatterns = "/servlet/members/new-form"
 )
 public class MemberFormServlet extends HttpServlet {
+    /**
+     * 동적인 값이 없으므로 페이지 전체를 미리 인코딩해 둔다.
+     */
+    private static final byte[] PAGE = Utf8ResponseWriter.encode("<!DOCTYPE html>\n" +
+            "<html>\n" +
+            "<head>\n" +
+            " <meta charset=\"UTF-8\">\n" +
+            " <title>Title</title>\n" +
+            "</head>\n" +
+            "<body>\n" +
+            "<form action=\"/servlet/members/save\" method=\"post\">\n" +
+            " username: <input type=\"text\" name=\"username\" />\n" +
+            " age: <input type=\"text\" name=\"age\" />\n" +
+            " <button type=\"submit\">전송</button>\n" +
+            "</form>\n" +
+            "</body>\n" +
+            "</html>\n");
+
     @Override
     protected void service(
             HttpServletRequest req,
@@ -20,21 +38,8 @@ public class MemberFormServlet extends HttpServlet {
     ) throws IOException {
         resp.setContentType("text/html");
         resp.setCharacterEncoding("utf-8");
+        resp.setContentLength(PAGE.length);
 
-        PrintWriter w = resp.getWriter();
-        w.write("<!DOCTYPE html>\n" +
-                "<html>\n" +
-                "<head>\n" +
-                " <meta charset=\"UTF-8\">\n" +
-                " <title>Title</title>\n" +
-                "</head>\n" +
-                "<body>\n" +
-                "<form action=\"/servlet/members/save\" method=\"post\">\n" +
-                " username: <input type=\"text\" name=\"username\" />\n" +
-                " age: <input type=\"text\" name=\"age\" />\n" +
-                " <button type=\"submit\">전송</button>\n" +
-                "</form>\n" +
-                "</body>\n" +
-                "</html>\n");
+        resp.getOutputStream().write(PAGE);
     }
 }
@@ -2,6 +2,7 @@ package hello.springcoremvc.web.servlet;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -9,7 +10,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.List;
 
 @WebServlet(
@@ -17,6 +17,28 @@ import java.util.List;
         urlPatterns = "/servlet/members"
 )
 public class MemberListServlet extends HttpServlet {
+    private static final byte[] HEAD = Utf8ResponseWriter.encode("<html>" +
+            "<head>" +
+            " <meta charset=\"UTF-8\">" +
+            " <title>Title</title>" +
+            "</head>" +
+            "<body>" +
+            "<a href=\"/index.html\">메인</a>" +
+            "<table>" +
+            " <thead>" +
+            " <th>id</th>" +
+            " <th>username</th>" +
+            " <th>age</th>" +
+            " </thead>" +
+            " <tbody>");
+    private static final byte[] ROW_START = Utf8ResponseWriter.encode(" <tr> <td>");
+    private static final byte[] CELL = Utf8ResponseWriter.encode("</td> <td>");
+    private static final byte[] ROW_END = Utf8ResponseWriter.encode("</td> </tr>");
+    private static final byte[] TAIL = Utf8ResponseWriter.encode(" </tbody>" +
+            "</table>" +
+            "</body>" +
+            "</html>");
+
     MemberRepository memberRepository = MemberRepository.getInstance();
 
     @Override
@@ -29,33 +51,18 @@ public class MemberListServlet extends HttpServlet {
 
         List<Member> members = memberRepository.findAll();
 
-        PrintWriter w = resp.getWriter();
-        w.write("<html>");
-        w.write("<head>");
-        w.write(" <meta charset=\"UTF-8\">");
-        w.write(" <title>Title</title>");
-        w.write("</head>");
-        w.write("<body>");
-        w.write("<a href=\"/index.html\">메인</a>");
-        w.write("<table>");
-        w.write(" <thead>");
-        w.write(" <th>id</th>");
-        w.write(" <th>username</th>");
-        w.write(" <th>age</th>");
-        w.write(" </thead>");
-        w.write(" <tbody>");
-
-        for (Member member : members) {
-            w.write(" <tr>");
-            w.write(" <td>" + member.getId() + "</td>");
-            w.write(" <td>" + member.getUsername() + "</td>");
-            w.write(" <td>" + member.getAge() + "</td>");
-            w.write(" </tr>");
-        }
+        try (Utf8ResponseWriter w = Utf8ResponseWriter.pooled(resp.getOutputStream())) {
+            w.write(HEAD);
 
-        w.write(" </tbody>");
-        w.write("</table>");
-        w.write("</body>");
-        w.write("</html>");
+            for (Member member : members) {
+                w.write(ROW_START).write(member.getId());
+                w.write(CELL).write(String.valueOf(member.getUsername()));
+                w.write(CELL).write(member.getAge());
+                w.write(ROW_END);
+            }
+
+            w.write(TAIL);
+            w.flush();
+        }
     }
 }
@@ -2,6 +2,12 @@ package hello.springcoremvc.web.servlet;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.logging.AsyncLog;
+import hello.springcoremvc.web.support.JsonBodyException;
+import hello.springcoremvc.web.support.JsonBodyReader;
+import hello.springcoremvc.web.support.JsonFieldBinder;
+import hello.springcoremvc.web.support.MemberFormBinder;
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -9,46 +15,82 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 
 @WebServlet(
         name = "memberSaveServlet",
         urlPatterns = "/servlet/members/save"
 )
 public class MemberSaveServlet extends HttpServlet {
+    private static final byte[] RESULT_ID = Utf8ResponseWriter.encode("<html>\n" +
+            "<head>\n" +
+            " <meta charset=\"UTF-8\">\n" +
+            "</head>\n" +
+            "<body>\n" +
+            "성공\n" +
+            "<ul>\n" +
+            " <li>id=");
+    private static final byte[] RESULT_USERNAME = Utf8ResponseWriter.encode("</li>\n" +
+            " <li>username=");
+    private static final byte[] RESULT_AGE = Utf8ResponseWriter.encode("</li>\n" +
+            " <li>age=");
+    private static final byte[] RESULT_END = Utf8ResponseWriter.encode("</li>\n" +
+            "</ul>\n" +
+            "<a href=\"/servlet/members/new-form\">등록</a>\n" +
+            "<a href=\"/servlet/members\">회원 목록</a>\n" +
+            "</body>\n" +
+            "</html>");
+
+    /**
+     * {"username": "hello", "age": 20}
+     */
+    static final JsonFieldBinder<Member> MEMBER_BINDER = (member, fieldName, parser) -> switch (fieldName) {
+        case "username" -> {
+            member.setUsername(JsonBodyReader.text(parser));
+            yield true;
+        }
+        case "age" -> {
+            member.setAge(JsonBodyReader.intValue(parser));
+            yield true;
+        }
+        default -> false;
+    };
+
     private MemberRepository memberRepository = MemberRepository.getInstance();
+    private JsonBodyReader jsonBodyReader = new JsonBodyReader();
+    private AsyncLog log = AsyncLog.getInstance();
 
     @Override
     protected void service(
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        System.out.println("MemberSaveServlet.service");
-        String username = req.getParameter("username");
-        int age = Integer.parseInt(req.getParameter("age"));
-
-        Member member = new Member(username, age);
-        System.out.println("member = " + member);
+        log.info("MemberSaveServlet.service");
+        Member member;
+        if (JsonBodyReader.isJson(req.getContentType())) {
+            // JSON 바디는 입력 스트림에서 바로 Member 로 읽는다.
+            try {
+                member = jsonBodyReader.read(req, Member::new, MEMBER_BINDER);
+            } catch (JsonBodyException e) {
+                e.writeTo(resp);
+                return;
+            }
+        } else {
+            member = MemberFormBinder.bind(req);
+        }
+        if (log.shouldDumpDebug()) {
+            log.debug("member = " + member);
+        }
         memberRepository.save(member);
 
         resp.setContentType("text/html");
         resp.setCharacterEncoding("utf-8");
 
-        PrintWriter w = resp.getWriter();
-        w.write("<html>\n" +
-                "<head>\n" +
-                " <meta charset=\"UTF-8\">\n" +
-                "</head>\n" +
-                "<body>\n" +
-                "성공\n" +
-                "<ul>\n" +
-                " <li>id="+member.getId()+"</li>\n" +
-                " <li>username="+member.getUsername()+"</li>\n" +
-                " <li>age="+member.getAge()+"</li>\n" +
-                "</ul>\n" +
-                "<a href=\"/servlet/members/new-form\">등록</a>\n" +
-                "<a href=\"/servlet/members\">회원 목록</a>\n" +
-                "</body>\n" +
-                "</html>");
+        try (Utf8ResponseWriter w = Utf8ResponseWriter.pooled(resp.getOutputStream())) {
+            w.write(RESULT_ID).write(member.getId());
+            w.write(RESULT_USERNAME).write(String.valueOf(member.getUsername()));
+            w.write(RESULT_AGE).write(member.getAge());
+            w.write(RESULT_END);
+            w.flush();
+        }
     }
 }
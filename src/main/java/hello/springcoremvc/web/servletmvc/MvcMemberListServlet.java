@@ -2,6 +2,7 @@ package hello.springcoremvc.web.servletmvc;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -18,13 +19,14 @@ import java.util.List;
 )
 public class MvcMemberListServlet extends HttpServlet {
     private MemberRepository memberRepository = MemberRepository.getInstance();
+    private AsyncLog log = AsyncLog.getInstance();
 
     @Override
     protected void service(
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        System.out.println("MvcMemberListServlet.service");
+        log.info("MvcMemberListServlet.service");
         List<Member> members = memberRepository.findAll();
 
         req.setAttribute("members", members);
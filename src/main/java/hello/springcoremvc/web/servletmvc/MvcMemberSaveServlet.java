@@ -2,6 +2,8 @@ package hello.springcoremvc.web.servletmvc;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.logging.AsyncLog;
+import hello.springcoremvc.web.support.MemberFormBinder;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -17,17 +19,17 @@ import java.io.IOException;
 )
 public class MvcMemberSaveServlet extends HttpServlet {
     private MemberRepository memberRepository = MemberRepository.getInstance();
+    private AsyncLog log = AsyncLog.getInstance();
 
     @Override
     protected void service(
             HttpServletRequest req,
             HttpServletResponse resp
     ) throws ServletException, IOException {
-        String username = req.getParameter("username");
-        int age = Integer.parseInt(req.getParameter("age"));
-
-        Member member = new Member(username, age);
-        System.out.println("member = " + member);
+        Member member = MemberFormBinder.bind(req);
+        if (log.shouldDumpDebug()) {
+            log.debug("member = " + member);
+        }
         memberRepository.save(member);
 
         req.setAttribute("member", member);
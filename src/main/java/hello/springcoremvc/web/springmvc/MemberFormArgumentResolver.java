@@ -0,0 +1,35 @@
+package hello.springcoremvc.web.springmvc;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.web.support.MemberFormBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 어노테이션 없는 Member 파라미터를 MemberFormBinder 로 바인딩한다.
+ * @ModelAttribute 의 WebDataBinder (파라미터 맵 -> 프로퍼티별 변환) 를 거치지 않는다.
+ * @ModelAttribute 를 명시하면 스프링 기본 바인딩을 사용한다.
+ */
+public class MemberFormArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == Member.class
+                && !parameter.hasParameterAnnotation(ModelAttribute.class);
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) throws Exception {
+        return MemberFormBinder.bind(webRequest.getNativeRequest(HttpServletRequest.class));
+    }
+}
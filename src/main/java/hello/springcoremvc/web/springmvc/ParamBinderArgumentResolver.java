@@ -0,0 +1,43 @@
+package hello.springcoremvc.web.springmvc;
+
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @BindParams 로 바인더가 생성된 타입의 파라미터를 생성된 바인더로 바인딩한다.
+ * @ModelAttribute 의 WebDataBinder (BeanWrapper, ConversionService) 를 거치지 않는다.
+ * @ModelAttribute 를 명시하면 스프링 기본 바인딩을 사용한다.
+ * 값을 변환할 수 없으면 400 (ServletRequestBindingException)
+ */
+public class ParamBinderArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return !parameter.hasParameterAnnotation(ModelAttribute.class)
+                && ParamBinders.find(parameter.getParameterType()) != null;
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) throws Exception {
+        ParamBinder<?> binder = ParamBinders.get(parameter.getParameterType());
+        HttpServletRequest req = webRequest.getNativeRequest(HttpServletRequest.class);
+        try {
+            return binder.bind(req::getParameter);
+        } catch (IllegalArgumentException e) {
+            throw new ServletRequestBindingException(e.getMessage(), e);
+        }
+    }
+}
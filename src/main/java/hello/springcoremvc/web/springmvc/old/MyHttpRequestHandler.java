@@ -1,5 +1,6 @@
 package hello.springcoremvc.web.springmvc.old;
 
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,11 +11,13 @@ import java.io.IOException;
 
 @Component("/springmvc/request-handler")
 public class MyHttpRequestHandler implements HttpRequestHandler {
+    private AsyncLog log = AsyncLog.getInstance();
+
     @Override
     public void handleRequest(
             HttpServletRequest request,
             HttpServletResponse response
     ) throws ServletException, IOException {
-        System.out.println("MyHttpRequestHandler.handleRequest");
+        log.info("MyHttpRequestHandler.handleRequest");
     }
 }
@@ -1,5 +1,6 @@
 package hello.springcoremvc.web.springmvc.old;
 
+import hello.springcoremvc.web.logging.AsyncLog;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Component;
@@ -8,12 +9,14 @@ import org.springframework.web.servlet.mvc.Controller;
 
 @Component("/springmvc/old-controller")
 public class OldController implements Controller {
+    private AsyncLog log = AsyncLog.getInstance();
+
     @Override
     public ModelAndView handleRequest(
             HttpServletRequest request,
             HttpServletResponse response
     ) throws Exception {
-        System.out.println("OldController.handleRequest");
+        log.info("OldController.handleRequest");
         return new ModelAndView("new-form");
     }
 }
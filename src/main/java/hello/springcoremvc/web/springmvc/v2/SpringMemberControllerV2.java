@@ -2,12 +2,14 @@ package hello.springcoremvc.web.springmvc.v2;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.support.MemberFormBinder;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.io.IOException;
 import java.util.List;
 
 @Controller
@@ -24,11 +26,8 @@ public class SpringMemberControllerV2 {
     public ModelAndView save(
             HttpServletRequest req,
             HttpServletResponse resp
-    ) {
-        String username = req.getParameter("username");
-        int age = Integer.parseInt(req.getParameter("age"));
-
-        Member member = new Member(username, age);
+    ) throws IOException {
+        Member member = MemberFormBinder.bind(req);
         memberRepository.save(member);
 
         ModelAndView mv = new ModelAndView("save-result");
@@ -2,26 +2,33 @@ package hello.springcoremvc.web.springmvc.v3;
 
 import hello.springcoremvc.model.Member;
 import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.streaming.MemberListStreamWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * V3
  *  - Model 도입
  *  - ViewName 직접 반환
- *  - @RequestParam 사용
+ *  - @RequestParam 사용 (members 의 format)
+ *  - save 는 @RequestParam 대신 Member 파라미터로 받는다. MemberFormArgumentResolver 가 폼 바디에서 바로 바인딩
  *  - @RequestMapping -> @GetMapping, @PostMapping
  */
 @Controller
 @RequestMapping("/springmvc/v3/members")
 public class SpringMemberControllerV3 {
     private MemberRepository memberRepository = MemberRepository.getInstance();
+    private MemberListStreamWriter streamWriter = new MemberListStreamWriter();
 
     @GetMapping("/new-form")
     public String newForm() {
@@ -30,11 +37,9 @@ public class SpringMemberControllerV3 {
 
     @PostMapping("/save")
     public String save(
-            @RequestParam("username") String username,
-            @RequestParam("age") int age,
+            Member member,
             Model model
     ) {
-        Member member = new Member(username, age);
         memberRepository.save(member);
 
         model.addAttribute("member", member);
@@ -47,4 +52,22 @@ public class SpringMemberControllerV3 {
         model.addAttribute("members", members);
         return "members";
     }
+
+    /**
+     * 스트리밍 모드: /springmvc/v3/members?stream[&format=json]
+     * 목록을 모델에 담지 않고 저장소를 순회하면서 응답에 바로 쓴다.
+     */
+    @GetMapping(params = "stream")
+    public ResponseEntity<StreamingResponseBody> membersStream(
+            @RequestParam(value = "format", required = false) String format
+    ) {
+        if (MemberListStreamWriter.isJson(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(streamWriter::writeJson);
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(streamWriter::writeHtml);
+    }
 }
@@ -0,0 +1,118 @@
+package hello.springcoremvc.web.staticresource;
+
+import hello.springcoremvc.web.support.ETags;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.zip.CRC32;
+
+/**
+ * 시작할 때 읽어 둔 정적 파일
+ * 내용, ETag(내용의 CRC32), Last-Modified 는 읽은 뒤로 바뀌지 않는 것으로 본다.
+ * 파일을 바꾸면 애플리케이션을 다시 시작해야 한다.
+ */
+public class StaticResource {
+    /**
+     * 캐시는 하되 매번 재검증한다. 바뀌지 않았으면 304 로 응답한다.
+     */
+    public static final String CACHE_CONTROL = "no-cache";
+
+    private final String path;
+    private final byte[] body;
+    private final String contentType;
+    private final String etag;
+    private final long lastModified;
+    private final String realPath;
+
+    private StaticResource(String path, byte[] body, String contentType, long lastModified, String realPath) {
+        this.path = path;
+        this.body = body;
+        this.contentType = contentType;
+        this.lastModified = lastModified / 1000 * 1000; // HTTP 날짜는 초 단위
+        this.realPath = realPath;
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        this.etag = "\"static-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    /**
+     * 파일이 없으면 null
+     */
+    public static StaticResource load(ServletContext servletContext, String path) throws IOException {
+        URL url = servletContext.getResource(path);
+        if (url == null) {
+            return null;
+        }
+
+        URLConnection connection = url.openConnection();
+        byte[] body;
+        try (InputStream in = connection.getInputStream()) {
+            body = in.readAllBytes();
+        }
+
+        String contentType = servletContext.getMimeType(path);
+        if (contentType == null) {
+            contentType = "application/octet-stream";
+        } else if (contentType.startsWith("text/")) {
+            contentType += ";charset=UTF-8";
+        }
+        return new StaticResource(path, body, contentType, connection.getLastModified(), servletContext.getRealPath(path));
+    }
+
+    /**
+     * If-None-Match 가 있으면 ETag 로만 비교하고, 없으면 If-Modified-Since 와 비교한다.
+     */
+    public boolean isNotModified(HttpServletRequest req) {
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return ETags.matchingTag(ifNoneMatch, etag) != null;
+        }
+        try {
+            long ifModifiedSince = req.getDateHeader("If-Modified-Since");
+            return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * ETag 는 표현(Content-Encoding)마다 달라서 호출하는 쪽에서 정한다.
+     */
+    public void writeCacheHeaders(HttpServletResponse resp) {
+        resp.setDateHeader("Last-Modified", lastModified);
+        resp.setHeader("Cache-Control", CACHE_CONTROL);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * 파일 시스템 경로, war 안에 있는 등 파일로 접근할 수 없으면 null
+     */
+    public String getRealPath() {
+        return realPath;
+    }
+}
@@ -0,0 +1,97 @@
+package hello.springcoremvc.web.staticresource;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * webapp 정적 페이지 서블릿
+ * 시작할 때 파일을 읽어 두고, 요청마다 파일 시스템을 보지 않는다.
+ * Last-Modified, ETag, Cache-Control 을 붙이고, 조건부 요청이 일치하면 304 로 응답한다.
+ *
+ * 큰 파일(SENDFILE_MIN_SIZE 이상)은 커넥터가 sendfile 을 지원하면 파일을 커널에서 바로 소켓으로 보낸다. (zero-copy)
+ * 작은 파일은 sendfile 준비 비용이 복사보다 크므로 읽어 둔 바이트를 그대로 쓴다.
+ * (Tomcat DefaultServlet 의 sendfileSize 기본값과 같은 기준)
+ *
+ * gzip, deflate 를 허용하는 요청은 CompressionFilter 가 미리 압축한 본문으로 먼저 응답한다.
+ */
+public class StaticResourceServlet extends HttpServlet {
+    public static final String[] PATHS = {"/index.html", "/basic.html", "/basic/hello-form.html"};
+
+    static final int SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * key: 서블릿 경로
+     */
+    private final Map<String, StaticResource> resources = new HashMap<>();
+
+    @Override
+    public void init() throws ServletException {
+        for (String path : PATHS) {
+            try {
+                StaticResource resource = StaticResource.load(getServletContext(), path);
+                if (resource != null) {
+                    resources.put(path, resource);
+                }
+            } catch (IOException e) {
+                throw new ServletException("정적 파일을 읽을 수 없습니다: " + path, e);
+            }
+        }
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        serve(req, resp, true);
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        serve(req, resp, false);
+    }
+
+    private void serve(HttpServletRequest req, HttpServletResponse resp, boolean content) throws IOException {
+        StaticResource resource = resources.get(req.getServletPath());
+        if (resource == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        resp.setHeader("ETag", resource.getEtag());
+        resource.writeCacheHeaders(resp);
+        if (resource.isNotModified(req)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = resource.getBody();
+        resp.setContentType(resource.getContentType());
+        resp.setContentLength(body.length);
+        if (!content) {
+            return;
+        }
+
+        if (canSendfile(req, resource)) {
+            req.setAttribute(SENDFILE_FILENAME, resource.getRealPath());
+            req.setAttribute(SENDFILE_START, 0L);
+            req.setAttribute(SENDFILE_END, (long) body.length);
+            return;
+        }
+        resp.getOutputStream().write(body);
+    }
+
+    private boolean canSendfile(HttpServletRequest req, StaticResource resource) {
+        return resource.getBody().length >= SENDFILE_MIN_SIZE
+                && resource.getRealPath() != null
+                && Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORT));
+    }
+}
@@ -0,0 +1,100 @@
+package hello.springcoremvc.web.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 목록 스트리밍 출력
+ * 저장소를 순회하면서 CHUNK_ROWS 행마다 flush 한다.
+ * 목록 전체를 메모리에 만들지 않으므로 회원 수와 관계없이 메모리 사용량이 일정하고, 첫 바이트가 바로 나간다.
+ */
+public class MemberListStreamWriter {
+    public static final String FORMAT_JSON = "json";
+    public static final int CHUNK_ROWS = 512;
+
+    private static final String HTML_HEAD = "<html>\n" +
+            "<head>\n" +
+            " <meta charset=\"UTF-8\">\n" +
+            " <title>Title</title>\n" +
+            "</head>\n" +
+            "<body>\n" +
+            "<a href=\"/index.html\">메인</a>\n" +
+            "<table>\n" +
+            " <thead>\n" +
+            " <th>id</th>\n" +
+            " <th>username</th>\n" +
+            " <th>age</th>\n" +
+            " </thead>\n" +
+            " <tbody>\n";
+    private static final String HTML_TAIL = " </tbody>\n" +
+            "</table>\n" +
+            "</body>\n" +
+            "</html>\n";
+
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public static boolean isJson(String format) {
+        return FORMAT_JSON.equals(format);
+    }
+
+    public void writeHtml(OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write(HTML_HEAD);
+        w.flush();
+
+        int rows = 0;
+        for (Member member : memberRepository.iterateAll()) {
+            w.write(" <tr><td>");
+            w.write(String.valueOf(member.getId()));
+            w.write("</td><td>");
+            w.write(HtmlUtils.htmlEscape(String.valueOf(member.getUsername())));
+            w.write("</td><td>");
+            w.write(String.valueOf(member.getAge()));
+            w.write("</td></tr>\n");
+
+            if (++rows % CHUNK_ROWS == 0) {
+                w.flush();
+            }
+        }
+
+        w.write(HTML_TAIL);
+        w.flush();
+    }
+
+    /**
+     * [{"id":1,"username":"...","age":20}, ...]
+     */
+    public void writeJson(OutputStream out) throws IOException {
+        JsonGenerator gen = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        gen.writeStartArray();
+        gen.flush();
+
+        int rows = 0;
+        for (Member member : memberRepository.iterateAll()) {
+            gen.writeStartObject();
+            gen.writeNumberField("id", member.getId());
+            gen.writeStringField("username", member.getUsername());
+            gen.writeNumberField("age", member.getAge());
+            gen.writeEndObject();
+
+            if (++rows % CHUNK_ROWS == 0) {
+                gen.flush();
+            }
+        }
+
+        gen.writeEndArray();
+        gen.flush();
+    }
+}
@@ -0,0 +1,55 @@
+package hello.springcoremvc.web.support;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Accept 헤더 해석
+ * 응답 타입을 포함하는 범위 중 가장 구체적인 범위의 q 값을 따른다. (RFC 9110 12.5.1)
+ * 예) "application/json;q=0, *\/*" -> application/json 거부, text/html 허용
+ */
+public final class AcceptHeader {
+
+    private AcceptHeader() {
+    }
+
+    /**
+     * Accept 헤더가 없으면 모든 타입을 허용한다. 해석할 수 없는 헤더는 거부한다.
+     */
+    public static boolean accepts(String accept, MediaType type) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+
+        List<MediaType> ranges;
+        try {
+            ranges = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+
+        MediaType best = null;
+        for (MediaType range : ranges) {
+            if (range.includes(type) && (best == null || specificity(range) > specificity(best))) {
+                best = range;
+            }
+        }
+        return best != null && best.getQualityValue() > 0;
+    }
+
+    /**
+     * *\/* < type/* < type/subtype < type/subtype;파라미터
+     */
+    private static int specificity(MediaType range) {
+        if (range.isWildcardType()) {
+            return 0;
+        }
+        if (range.isWildcardSubtype()) {
+            return 1;
+        }
+        int params = range.getParameters().size() - (range.getParameter("q") != null ? 1 : 0);
+        return 2 + params;
+    }
+}
@@ -0,0 +1,51 @@
+package hello.springcoremvc.web.support;
+
+/**
+ * ETag 유틸리티
+ * 같은 리소스라도 Content-Encoding 이 다르면 다른 표현이므로 강한 ETag 도 달라야 한다.
+ */
+public final class ETags {
+    public static final String[] CODINGS = {"gzip", "deflate"};
+
+    private ETags() {
+    }
+
+    /**
+     * "\"members-3\"" + gzip -> "\"members-3-gzip\""
+     * 약한 ETag 는 그대로 반환한다.
+     */
+    public static String encodedVariant(String etag, String coding) {
+        if (etag == null || !etag.startsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + coding + "\"";
+    }
+
+    /**
+     * If-None-Match 는 약한 비교를 사용한다. (W/ 접두사 무시, * 는 항상 일치)
+     * etag 자신이나 압축된 표현의 ETag 중 일치한 것을 반환하고, 일치하지 않으면 null
+     */
+    public static String matchingTag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return etag;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return tag;
+            }
+            for (String coding : CODINGS) {
+                if (tag.equals(encodedVariant(etag, coding))) {
+                    return tag;
+                }
+            }
+        }
+        return null;
+    }
+}
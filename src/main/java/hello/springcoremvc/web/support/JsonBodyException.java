@@ -0,0 +1,32 @@
+package hello.springcoremvc.web.support;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * JSON 요청 바디를 받을 수 없을 때 발생한다.
+ * 응답할 상태 코드(400, 413)를 함께 가진다.
+ */
+public class JsonBodyException extends RuntimeException {
+    private final int status;
+
+    public JsonBodyException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 상태 코드와 메시지를 text/plain 으로 응답한다.
+     */
+    public void writeTo(HttpServletResponse resp) throws IOException {
+        resp.setStatus(status);
+        resp.setContentType("text/plain");
+        resp.setCharacterEncoding("utf-8");
+        resp.getWriter().write(getMessage());
+    }
+}
@@ -0,0 +1,179 @@
+package hello.springcoremvc.web.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * JSON 요청 바디를 req.getInputStream() 에서 바로 읽어 객체로 바인딩한다.
+ * StreamUtils.copyToString 처럼 바디 전체를 String 으로 복사하지 않고, 토큰 단위로 읽으면서 필드를 채운다.
+ *
+ * - Content-Length 가 최대 크기를 넘으면 바디를 읽지 않고 413
+ * - Content-Length 가 없으면(chunked) 읽은 바이트가 최대 크기를 넘는 순간 413
+ * - 문법 오류, 모르는 필드, 타입이 맞지 않는 값은 그 토큰에서 바로 400
+ */
+public class JsonBodyReader {
+    public static final int DEFAULT_MAX_BYTES = 64 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final long maxBytes;
+
+    public JsonBodyReader() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public JsonBodyReader(long maxBytes) {
+        this.maxBytes = maxBytes;
+        // 요청 스트림은 컨테이너가 닫는다.
+        this.jsonFactory = new JsonFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    public static boolean isJson(String contentType) {
+        return contentType != null && contentType.regionMatches(true, 0, "application/json", 0, 16);
+    }
+
+    /**
+     * 최상위 JSON 객체를 읽어 factory 가 만든 객체에 binder 로 필드를 채운다.
+     */
+    public <T> T read(
+            HttpServletRequest req,
+            Supplier<T> factory,
+            JsonFieldBinder<T> binder
+    ) throws IOException {
+        try (JsonParser parser = createParser(req)) {
+            T target = factory.get();
+            while (nextField(parser)) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (!binder.bind(target, fieldName, parser)) {
+                    throw badRequest("알 수 없는 필드입니다: " + fieldName);
+                }
+            }
+            return target;
+        } catch (JsonProcessingException e) {
+            throw badRequest(e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * 값이 문자열, 숫자, boolean, null 인 평평한 JSON 객체를 paramMap 형태로 읽는다.
+     */
+    public Map<String, String> readFields(HttpServletRequest req) throws IOException {
+        return read(req, HashMap::new, (fields, fieldName, parser) -> {
+            if (!parser.currentToken().isScalarValue() && parser.currentToken() != JsonToken.VALUE_NULL) {
+                throw badRequest("값이 객체나 배열인 필드는 받을 수 없습니다: " + fieldName);
+            }
+            fields.put(fieldName, parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getText());
+            return true;
+        });
+    }
+
+    /**
+     * 문자열 또는 null 값
+     */
+    public static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw badRequest(parser.currentName() + " 은(는) 문자열이어야 합니다.");
+        }
+        return parser.getText();
+    }
+
+    /**
+     * int 범위의 정수 값
+     */
+    public static int intValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw badRequest(parser.currentName() + " 은(는) 정수여야 합니다.");
+        }
+        return parser.getIntValue();
+    }
+
+    private JsonParser createParser(HttpServletRequest req) throws IOException {
+        long contentLength = req.getContentLengthLong();
+        if (contentLength > maxBytes) {
+            throw tooLarge();
+        }
+
+        JsonParser parser = jsonFactory.createParser(new LimitedInputStream(req.getInputStream(), maxBytes));
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw badRequest("요청 바디는 JSON 객체여야 합니다.");
+        }
+        return parser;
+    }
+
+    /**
+     * 다음 필드 이름으로 이동한다. 객체가 끝나면 뒤에 다른 값이 없는지 확인하고 false 를 반환한다.
+     */
+    private static boolean nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.FIELD_NAME) {
+            return true;
+        }
+        if (parser.nextToken() != null) {
+            throw badRequest("JSON 객체 뒤에 다른 값이 있습니다.");
+        }
+        return false;
+    }
+
+    private static JsonBodyException badRequest(String message) {
+        return new JsonBodyException(HttpServletResponse.SC_BAD_REQUEST, message);
+    }
+
+    private JsonBodyException tooLarge() {
+        return new JsonBodyException(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                "요청 바디가 최대 크기(" + maxBytes + " bytes)를 넘었습니다.");
+    }
+
+    /**
+     * 최대 크기를 넘어서 읽으려고 하면 413 예외를 던진다.
+     */
+    private class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            // 한도보다 1 바이트 더 읽어 봐야 바디가 정확히 한도일 때와 넘었을 때를 구분할 수 있다.
+            int n = super.read(b, off, (int) Math.min(len, remaining + 1));
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            remaining -= n;
+            if (remaining < 0) {
+                throw tooLarge();
+            }
+        }
+    }
+}
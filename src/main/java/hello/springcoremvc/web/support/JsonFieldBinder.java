@@ -0,0 +1,18 @@
+package hello.springcoremvc.web.support;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * JSON 필드 하나를 대상 객체에 바인딩한다.
+ * 호출될 때 parser 는 필드 값 토큰에 위치한다. 모르는 필드면 false 를 반환한다.
+ */
+@FunctionalInterface
+public interface JsonFieldBinder<T> {
+    boolean bind(
+            T target,
+            String fieldName,
+            JsonParser parser
+    ) throws IOException;
+}
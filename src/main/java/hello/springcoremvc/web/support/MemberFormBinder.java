@@ -0,0 +1,214 @@
+package hello.springcoremvc.web.support;
+
+import hello.springcoremvc.model.Member;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 저장 폼(application/x-www-form-urlencoded) 을 Member 로 바인딩한다.
+ *
+ * req.getParameter() 는 컨테이너가 바디의 모든 파라미터를 디코딩해서 String 맵을 만든 다음에 값을 꺼낸다.
+ * 여기서는 바디 바이트를 직접 훑으면서 username 만 디코딩하고, age 는 바이트에서 바로 숫자로 읽는다.
+ *
+ * 바디를 직접 읽으므로, 바인딩한 뒤에는 req.getParameter() 로 바디의 파라미터를 볼 수 없다.
+ * 폼 POST 가 아니거나 이미 누군가 파라미터를 읽어서 바디가 비어 있으면 req.getParameter() 로 바인딩한다.
+ */
+public final class MemberFormBinder {
+    public static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private static final byte[] USERNAME = {'u', 's', 'e', 'r', 'n', 'a', 'm', 'e'};
+    private static final byte[] AGE = {'a', 'g', 'e'};
+
+    private MemberFormBinder() {
+    }
+
+    public static boolean isForm(String contentType) {
+        return contentType != null
+                && contentType.regionMatches(true, 0, "application/x-www-form-urlencoded", 0, 33);
+    }
+
+    public static Member bind(HttpServletRequest req) throws IOException {
+        int contentLength = req.getContentLength();
+        if (!"POST".equals(req.getMethod()) || !isForm(req.getContentType())
+                || contentLength <= 0 || contentLength > MAX_BODY_BYTES) {
+            return bindParameters(req);
+        }
+
+        byte[] body = new byte[contentLength];
+        int length = readFully(req.getInputStream(), body);
+        if (length == 0) {
+            // 파라미터가 이미 파싱되어 바디가 소비된 경우
+            return bindParameters(req);
+        }
+
+        Member member = new Member();
+        Charset charset = charset(req.getCharacterEncoding());
+        boolean hasAge = false;
+        // getParameter() 와 같이 쿼리 스트링의 값이 먼저다.
+        String queryString = req.getQueryString();
+        if (queryString != null) {
+            byte[] query = queryString.getBytes(StandardCharsets.ISO_8859_1);
+            hasAge = bind(query, query.length, charset, member, false);
+        }
+        hasAge = bind(body, length, charset, member, hasAge);
+        if (!hasAge) {
+            throw new NumberFormatException("age 파라미터가 없습니다.");
+        }
+        return member;
+    }
+
+    /**
+     * username, age 외의 필드는 디코딩하지 않고 건너뛴다.
+     * 이미 값이 정해진 필드는 덮어쓰지 않는다.
+     *
+     * @return age 를 읽었으면 true
+     */
+    static boolean bind(
+            byte[] form,
+            int length,
+            Charset charset,
+            Member member,
+            boolean hasAge
+    ) {
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(form, (byte) '&', start, length);
+            int eq = indexOf(form, (byte) '=', start, end);
+            if (eq < end) {
+                if (member.getUsername() == null && regionEquals(form, start, eq, USERNAME)) {
+                    member.setUsername(decode(form, eq + 1, end, charset));
+                } else if (!hasAge && regionEquals(form, start, eq, AGE)) {
+                    member.setAge(parseInt(form, eq + 1, end));
+                    hasAge = true;
+                }
+            }
+            start = end + 1;
+        }
+        return hasAge;
+    }
+
+    private static Member bindParameters(HttpServletRequest req) {
+        String username = req.getParameter("username");
+        int age = Integer.parseInt(req.getParameter("age"));
+        return new Member(username, age);
+    }
+
+    private static int readFully(InputStream in, byte[] buf) throws IOException {
+        int count = 0;
+        while (count < buf.length) {
+            int n = in.read(buf, count, buf.length - count);
+            if (n < 0) {
+                break;
+            }
+            count += n;
+        }
+        return count;
+    }
+
+    private static Charset charset(String encoding) {
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+
+    private static int indexOf(byte[] bytes, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static boolean regionEquals(byte[] bytes, int from, int to, byte[] name) {
+        if (to - from != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (bytes[from + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * %XX 와 + 를 디코딩한다. 인코딩할 문자가 없으면 복사 없이 바로 String 을 만든다.
+     */
+    static String decode(byte[] bytes, int from, int to, Charset charset) {
+        int i = from;
+        while (i < to && bytes[i] != '%' && bytes[i] != '+') {
+            i++;
+        }
+        if (i == to) {
+            return new String(bytes, from, to - from, charset);
+        }
+
+        byte[] decoded = new byte[to - from];
+        int count = i - from;
+        System.arraycopy(bytes, from, decoded, 0, count);
+        while (i < to) {
+            byte b = bytes[i];
+            if (b == '+') {
+                decoded[count++] = ' ';
+                i++;
+            } else if (b == '%') {
+                if (i + 2 >= to) {
+                    throw new IllegalArgumentException("잘못된 퍼센트 인코딩입니다.");
+                }
+                decoded[count++] = (byte) ((hex(bytes[i + 1]) << 4) | hex(bytes[i + 2]));
+                i += 3;
+            } else {
+                decoded[count++] = b;
+                i++;
+            }
+        }
+        return new String(decoded, 0, count, charset);
+    }
+
+    private static int hex(byte b) {
+        int digit = Character.digit(b, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("잘못된 퍼센트 인코딩입니다.");
+        }
+        return digit;
+    }
+
+    /**
+     * Integer.parseInt 와 같은 규칙으로 바이트에서 바로 읽는다. (부호, int 범위 검사)
+     */
+    static int parseInt(byte[] bytes, int from, int to) {
+        if (from == to) {
+            throw new NumberFormatException("age 값이 비어 있습니다.");
+        }
+        boolean negative = false;
+        int i = from;
+        if (bytes[i] == '-' || bytes[i] == '+') {
+            negative = bytes[i] == '-';
+            if (++i == to) {
+                throw numberFormat(bytes, from, to);
+            }
+        }
+
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw numberFormat(bytes, from, to);
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                throw numberFormat(bytes, from, to);
+            }
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private static NumberFormatException numberFormat(byte[] bytes, int from, int to) {
+        return new NumberFormatException("For input string: \""
+                + new String(bytes, from, to - from, StandardCharsets.ISO_8859_1) + "\"");
+    }
+}
@@ -0,0 +1,89 @@
+package hello.springcoremvc.web.support;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빌드할 때 미리 컴파일한 JSP 서블릿 목록 (./gradlew precompileJsp)
+ * JspC -webinc 가 만든 web.xml 조각(<servlet>, <servlet-mapping> 나열)을 읽는다.
+ */
+public final class PrecompiledJsps {
+    public static final String LOCATION = "META-INF/jspc/servlets.xml";
+
+    /**
+     * @param name      서블릿 이름
+     * @param className 생성된 서블릿 클래스 (org.apache.jsp...)
+     * @param path      JSP 경로 (/WEB-INF/views/members.jsp)
+     */
+    public record Jsp(String name, String className, String path) {
+    }
+
+    private PrecompiledJsps() {
+    }
+
+    /**
+     * @return 목록 파일이 없으면 (미리 컴파일하지 않은 빌드) 빈 목록
+     */
+    public static List<Jsp> load(ClassLoader classLoader) {
+        try (InputStream in = classLoader.getResourceAsStream(LOCATION)) {
+            if (in == null) {
+                return List.of();
+            }
+            return parse(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Jsp> parse(byte[] fragment) throws IOException {
+        // 조각에는 루트 요소가 없으므로 감싸서 읽는다.
+        byte[] document = ("<jspc>" + new String(fragment, StandardCharsets.UTF_8) + "</jspc>")
+                .getBytes(StandardCharsets.UTF_8);
+        Document doc;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            doc = factory.newDocumentBuilder().parse(new ByteArrayInputStream(document));
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("미리 컴파일한 JSP 목록을 읽을 수 없습니다. " + LOCATION, e);
+        }
+
+        Map<String, String> classNames = new HashMap<>();
+        NodeList servlets = doc.getElementsByTagName("servlet");
+        for (int i = 0; i < servlets.getLength(); i++) {
+            Element servlet = (Element) servlets.item(i);
+            classNames.put(text(servlet, "servlet-name"), text(servlet, "servlet-class"));
+        }
+
+        List<Jsp> jsps = new ArrayList<>();
+        NodeList mappings = doc.getElementsByTagName("servlet-mapping");
+        for (int i = 0; i < mappings.getLength(); i++) {
+            Element mapping = (Element) mappings.item(i);
+            String name = text(mapping, "servlet-name");
+            String className = classNames.get(name);
+            if (className == null) {
+                throw new IOException("서블릿 매핑에 해당하는 서블릿이 없습니다. servlet-name = " + name);
+            }
+            jsps.add(new Jsp(name, className, text(mapping, "url-pattern")));
+        }
+        return jsps;
+    }
+
+    private static String text(Element parent, String tagName) {
+        return parent.getElementsByTagName(tagName).item(0).getTextContent().trim();
+    }
+}
@@ -0,0 +1,208 @@
+package hello.springcoremvc.web.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * UTF-8 응답 writer
+ * 고정된 HTML 조각은 미리 인코딩한 byte[] 로, 동적인 값은 내부 버퍼에 바로 인코딩해서 출력 스트림에 큰 블록으로 쓴다.
+ * PrintWriter 처럼 문자열마다 인코더를 거치거나, 문자열 더하기로 중간 String 을 만들지 않는다.
+ *
+ * 내부 버퍼는 요청 하나 동안 재사용된다. 마지막에 flush() 를 호출해야 한다.
+ *
+ * pooled() 로 만들면 버퍼를 요청마다 새로 잡지 않고 크기가 정해진 풀에서 빌려 쓰고, close() 에서 반납한다.
+ * 쓰레드마다 두지 않는 이유는 DeflaterPool 과 같다. 가상 쓰레드 모드에서는 요청마다 쓰레드가 새로 만들어진다.
+ * close() 는 버퍼를 반납만 하고 쓰지 않으므로, 예외로 빠져나가도 렌더링하다 만 내용이 나가지 않는다.
+ */
+public class Utf8ResponseWriter implements AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * 풀에 보관하는 최대 버퍼 수 (톰캣 기본 쓰레드 200개 + 여유, 최대 2MB)
+     */
+    static final int POOL_CAPACITY = 256;
+    private static final BlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(POOL_CAPACITY);
+
+    /**
+     * 한 문자가 차지할 수 있는 최대 바이트 (HTML 엔티티 &quot; 포함)
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private final OutputStream out;
+    private final boolean pooled;
+    private byte[] buf;
+    private int count;
+
+    public Utf8ResponseWriter(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8ResponseWriter(OutputStream out, int bufferSize) {
+        this(out, new byte[bufferSize], false);
+    }
+
+    private Utf8ResponseWriter(OutputStream out, byte[] buf, boolean pooled) {
+        this.out = out;
+        this.buf = buf;
+        this.pooled = pooled;
+    }
+
+    /**
+     * 풀에서 DEFAULT_BUFFER_SIZE 버퍼를 빌려서 만든다. 풀이 비어 있으면 새로 잡는다.
+     * try-with-resources 로 쓰고, 블록 안에서 flush() 를 호출해야 한다.
+     */
+    public static Utf8ResponseWriter pooled(OutputStream out) {
+        byte[] buf = POOL.poll();
+        return new Utf8ResponseWriter(out, buf != null ? buf : new byte[DEFAULT_BUFFER_SIZE], true);
+    }
+
+    /**
+     * 고정 조각을 미리 인코딩할 때 사용한다.
+     */
+    public static byte[] encode(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 미리 인코딩한 조각을 쓴다. 버퍼보다 큰 조각은 복사하지 않고 바로 내보낸다.
+     */
+    public Utf8ResponseWriter write(byte[] chunk) throws IOException {
+        if (chunk.length > buf.length - count) {
+            flushBuffer();
+            if (chunk.length > buf.length) {
+                out.write(chunk);
+                return this;
+            }
+        }
+        System.arraycopy(chunk, 0, buf, count, chunk.length);
+        count += chunk.length;
+        return this;
+    }
+
+    public Utf8ResponseWriter write(String s) throws IOException {
+        encode(s, false);
+        return this;
+    }
+
+    /**
+     * &, <, >, ", ' 를 HTML 엔티티로 바꿔서 쓴다.
+     */
+    public Utf8ResponseWriter writeEscaped(String s) throws IOException {
+        encode(s, true);
+        return this;
+    }
+
+    public Utf8ResponseWriter write(int value) throws IOException {
+        return write((long) value);
+    }
+
+    /**
+     * 숫자를 String 으로 바꾸지 않고 버퍼에 바로 쓴다.
+     */
+    public Utf8ResponseWriter write(long value) throws IOException {
+        if (count + MAX_LONG_DIGITS > buf.length) {
+            flushBuffer();
+        }
+        if (value == Long.MIN_VALUE) {
+            return write(String.valueOf(value));
+        }
+        if (value < 0) {
+            buf[count++] = '-';
+            value = -value;
+        }
+
+        int start = count;
+        do {
+            buf[count++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+
+        for (int i = start, j = count - 1; i < j; i++, j--) {
+            byte tmp = buf[i];
+            buf[i] = buf[j];
+            buf[j] = tmp;
+        }
+        return this;
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * 버퍼를 풀에 반납한다. 버퍼에 남은 내용은 쓰지 않고 버린다.
+     * 반납한 뒤에는 다른 요청이 같은 버퍼를 쓰므로 이 writer 를 더 쓰면 안 된다.
+     */
+    @Override
+    public void close() {
+        byte[] released = buf;
+        buf = null;
+        count = 0;
+        if (pooled && released != null) {
+            POOL.offer(released);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buf, 0, count);
+            count = 0;
+        }
+    }
+
+    private void encode(String s, boolean escape) throws IOException {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            if (count + MAX_CHAR_BYTES > buf.length) {
+                flushBuffer();
+            }
+
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (escape && appendEntity(c)) {
+                    continue;
+                }
+                buf[count++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[count++] = (byte) (0xC0 | (c >> 6));
+                buf[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buf[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 서로게이트는 String.getBytes() 와 같이 '?' 로 바꾼다.
+                buf[count++] = '?';
+            } else {
+                buf[count++] = (byte) (0xE0 | (c >> 12));
+                buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private boolean appendEntity(char c) {
+        String entity = switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#39;";
+            default -> null;
+        };
+        if (entity == null) {
+            return false;
+        }
+        for (int i = 0; i < entity.length(); i++) {
+            buf[count++] = (byte) entity.charAt(i);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package hello.springcoremvc.web.warmup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 준비 상태 조회 (로드 밸런서 헬스 체크용)
+ * 워밍업이 끝나고 스프링 부트가 ACCEPTING_TRAFFIC 을 알리기 전까지는 503 으로 응답한다.
+ */
+@RestController
+public class ReadinessController {
+    private final ApplicationAvailability availability;
+    private final ObjectProvider<WarmUpRunner> warmUpRunner;
+
+    public ReadinessController(ApplicationAvailability availability, ObjectProvider<WarmUpRunner> warmUpRunner) {
+        this.availability = availability;
+        this.warmUpRunner = warmUpRunner;
+    }
+
+    @GetMapping("/ready")
+    public ResponseEntity<Readiness> ready() {
+        ReadinessState state = availability.getReadinessState();
+        WarmUpRunner runner = warmUpRunner.getIfAvailable();
+        Readiness body = new Readiness(state, runner == null ? null : runner.getResult());
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(body);
+    }
+
+    /**
+     * @param warmUp 워밍업을 끄면 null, 워밍업 중이면 null
+     */
+    public record Readiness(ReadinessState state, WarmUpResult warmUp) {
+    }
+}
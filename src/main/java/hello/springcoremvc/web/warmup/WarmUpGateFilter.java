@@ -0,0 +1,40 @@
+package hello.springcoremvc.web.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 워밍업이 끝날 때까지 워밍업 요청이 아닌 요청은 503 + Retry-After 로 거절한다.
+ * 웹 서버가 뜬 직후부터 막으므로, 워밍업이 임시 저장소(MemberRepository.useThrowawayStore)를 쓰는 동안 실제 요청이 섞이지 않는다.
+ * /ready 는 통과시켜서 준비 상태와 워밍업 결과를 조회할 수 있게 한다.
+ *
+ * 등록: WarmUpConfig (다른 필터보다 먼저 실행)
+ */
+public class WarmUpGateFilter extends HttpFilter {
+    static final String READY_PATH = "/ready";
+
+    private final WarmUpRunner runner;
+
+    public WarmUpGateFilter(WarmUpRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    protected void doFilter(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        if (runner.isFinished() || WarmUpRequests.isWarmUp(req) || READY_PATH.equals(req.getRequestURI())) {
+            chain.doFilter(req, resp);
+            return;
+        }
+        resp.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        resp.setHeader("Retry-After", "1");
+    }
+}
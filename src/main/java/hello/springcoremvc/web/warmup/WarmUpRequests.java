@@ -0,0 +1,34 @@
+package hello.springcoremvc.web.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.UUID;
+
+/**
+ * 워밍업 요청 식별
+ * 워밍업 동안에만 임의의 토큰을 만들고, 워밍업 요청은 X-Warm-Up 헤더에 토큰을 담는다.
+ * 요청 제한(RateLimitFilter)과 지연 시간 측정(LatencyFilter)은 워밍업 요청을 건너뛴다.
+ * 워밍업이 끝나면 토큰을 지우므로 이후에는 헤더가 있어도 일반 요청이다.
+ */
+public final class WarmUpRequests {
+    public static final String HEADER = "X-Warm-Up";
+
+    private static volatile String token;
+
+    private WarmUpRequests() {
+    }
+
+    static String begin() {
+        token = UUID.randomUUID().toString();
+        return token;
+    }
+
+    static void end() {
+        token = null;
+    }
+
+    public static boolean isWarmUp(HttpServletRequest req) {
+        String current = token;
+        return current != null && current.equals(req.getHeader(HEADER));
+    }
+}
@@ -0,0 +1,15 @@
+package hello.springcoremvc.web.warmup;
+
+/**
+ * 워밍업 결과
+ *
+ * @param skipped 웹 서버 포트를 알 수 없어서 (외부 톰캣에 war 로 배포) 건너뛰었는지 여부
+ */
+public record WarmUpResult(
+        boolean skipped,
+        int routes,
+        long requests,
+        long errors,
+        long elapsedMillis
+) {
+}
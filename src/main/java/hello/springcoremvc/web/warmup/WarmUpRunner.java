@@ -0,0 +1,160 @@
+package hello.springcoremvc.web.warmup;
+
+import hello.springcoremvc.model.MemberRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시작할 때 JIT 워밍업
+ * 웹 서버가 뜬 뒤, 준비 완료(ReadinessState.ACCEPTING_TRAFFIC) 전에 모든 회원 경로를 루프백 HTTP 로 반복 호출한다.
+ * 톰캣, 필터, 디스패처, 컨트롤러, 뷰까지 실제 요청과 같은 코드가 컴파일된 상태로 준비 완료된다.
+ *
+ * ApplicationRunner 가 모두 끝난 다음에 스프링 부트가 준비 완료를 알리므로 워밍업이 끝나야 /ready 가 200 이 된다.
+ * 워밍업 동안 저장소는 빈 임시 저장소로 바꿨다가 되돌린다. (MemberRepository.useThrowawayStore)
+ * 그동안 다른 요청은 WarmUpGateFilter 가 503 으로 거절하므로 실제 요청이 임시 저장소를 보거나 저장 내용을 잃지 않는다.
+ *
+ * 등록: WarmUpConfig, 결과 조회: /ready
+ */
+public class WarmUpRunner implements ApplicationRunner {
+    /**
+     * method, path
+     */
+    static final String[][] ROUTES = {
+            {"GET", "/servlet/members/new-form"}, {"POST", "/servlet/members/save"}, {"GET", "/servlet/members"},
+            {"GET", "/servlet-mvc/members/new-form"}, {"POST", "/servlet-mvc/members/save"}, {"GET", "/servlet-mvc/members"},
+            {"GET", "/front-controller/v1/members/new-form"}, {"POST", "/front-controller/v1/members/save"}, {"GET", "/front-controller/v1/members"},
+            {"GET", "/front-controller/v2/members/new-form"}, {"POST", "/front-controller/v2/members/save"}, {"GET", "/front-controller/v2/members"},
+            {"GET", "/front-controller/v3/members/new-form"}, {"POST", "/front-controller/v3/members/save"}, {"GET", "/front-controller/v3/members"},
+            {"GET", "/front-controller/v4/members/new-form"}, {"POST", "/front-controller/v4/members/save"}, {"GET", "/front-controller/v4/members"},
+            {"GET", "/front-controller/v5/v3/members/new-form"}, {"POST", "/front-controller/v5/v3/members/save"}, {"GET", "/front-controller/v5/v3/members"},
+            {"GET", "/front-controller/v5/v4/members/new-form"}, {"POST", "/front-controller/v5/v4/members/save"}, {"GET", "/front-controller/v5/v4/members"},
+            {"GET", "/front-controller/v5/v6/members/new-form"}, {"POST", "/front-controller/v5/v6/members/save"}, {"GET", "/front-controller/v5/v6/members"},
+            {"POST", "/front-controller/v5/async/members/save"}, {"GET", "/front-controller/v5/async/members"},
+            {"POST", "/front-controller/v5/api/members/save"}, {"GET", "/front-controller/v5/api/members"},
+            {"GET", "/springmvc/v1/members/new-form"}, {"POST", "/springmvc/v1/members/save"}, {"GET", "/springmvc/v1/members"},
+            {"GET", "/springmvc/v2/members/new-form"}, {"POST", "/springmvc/v2/members/save"}, {"GET", "/springmvc/v2/members"},
+            {"GET", "/springmvc/v3/members/new-form"}, {"POST", "/springmvc/v3/members/save"}, {"GET", "/springmvc/v3/members"},
+    };
+
+    private final ApplicationContext context;
+    private final int iterations;
+    private final int concurrency;
+    private final Duration timeout;
+    private final MemberRepository memberRepository = MemberRepository.getInstance();
+
+    private volatile WarmUpResult result;
+    private volatile boolean finished;
+
+    /**
+     * @param iterations  경로마다 보낼 요청 수
+     * @param concurrency 동시에 요청을 보내는 쓰레드 수
+     * @param timeout     이 시간이 지나면 남은 요청을 보내지 않고 끝낸다.
+     */
+    public WarmUpRunner(ApplicationContext context, int iterations, int concurrency, Duration timeout) {
+        this.context = context;
+        this.iterations = iterations;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!(context instanceof WebServerApplicationContext webContext) || webContext.getWebServer().getPort() <= 0) {
+            result = new WarmUpResult(true, 0, 0, 0, 0);
+            finished = true;
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<HttpRequest> requests = requests(webContext.getWebServer().getPort(), WarmUpRequests.begin());
+        Runnable restoreStore = memberRepository.useThrowawayStore();
+        AtomicLong sent = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            long deadline = start + timeout.toNanos();
+            int rounds = Math.max(1, iterations / concurrency);
+
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds && System.nanoTime() < deadline; round++) {
+                        for (HttpRequest request : requests) {
+                            if (!send(client, request)) {
+                                errors.incrementAndGet();
+                            }
+                            sent.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+            WarmUpRequests.end();
+            restoreStore.run();
+            finished = true;
+        }
+
+        result = new WarmUpResult(
+                false, ROUTES.length, sent.get(), errors.get(), (System.nanoTime() - start) / 1_000_000
+        );
+    }
+
+    public WarmUpResult getResult() {
+        return result;
+    }
+
+    /**
+     * 워밍업이 끝났는지 (실패, 시간 초과 포함), 끝나기 전에는 WarmUpGateFilter 가 다른 요청을 거절한다.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private static boolean send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    static List<HttpRequest> requests(int port, String token) {
+        List<HttpRequest> requests = new ArrayList<>(ROUTES.length);
+        for (String[] route : ROUTES) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + route[1]))
+                    .header(WarmUpRequests.HEADER, token);
+            if ("POST".equals(route[0])) {
+                builder.header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("username=warmup&age=20"));
+            }
+            requests.add(builder.build());
+        }
+        return requests;
+    }
+}
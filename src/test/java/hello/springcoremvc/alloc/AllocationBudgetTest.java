@@ -0,0 +1,94 @@
+package hello.springcoremvc.alloc;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.dispatch.Dispatchers;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 경로별 요청당 할당량 예산
+ * 톰캣 없이 목 요청으로 서블릿을 직접 호출하고, 요청을 처리하는 동안 현재 쓰레드가 할당한 바이트를 잰다.
+ * 목 요청과 응답은 측정 전에 만들어 두므로 포함되지 않는다. 응답 본문을 담는 목 응답 버퍼의 증가는 포함된다.
+ *
+ * 예산: src/test/resources/allocation-budgets.csv (method, path, 요청당 최대 바이트)
+ * list 는 회원 100명 목록이다. 측정값은 항상 출력하므로 예산을 조정할 때 참고한다.
+ * 예산은 측정값의 1.25배 (최소 +1KB) 를 KB 단위로 올린 값이다. 할당이 늘면 바로 실패하도록 넉넉히 잡지 않는다.
+ * 디스패처와 목 요청은 벤치마크와 같은 Dispatchers 로 만든다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AllocationBudgetTest {
+    static final int MEMBERS = 100;
+    static final int WARMUP = 2_000;
+    static final int ITERATIONS = 5_000;
+
+    final MemberRepository memberRepository = MemberRepository.getInstance();
+    /**
+     * 디스패처 -> 서블릿 (servlet, servlet-mvc 는 흐름마다 서블릿이 달라서 "디스패처 흐름" 을 키로 쓴다)
+     */
+    final Map<String, HttpServlet> servlets = new HashMap<>();
+
+    @AfterAll
+    void afterAll() {
+        servlets.values().forEach(HttpServlet::destroy);
+        memberRepository.clearStore();
+    }
+
+    @ParameterizedTest(name = "{0} {1} <= {2} B")
+    @CsvFileSource(resources = "/allocation-budgets.csv", numLinesToSkip = 1)
+    void withinBudget(String method, String path, long budgetBytes) throws Exception {
+        assumeThat(AllocationMeter.isSupported()).isTrue();
+        String workflow = Dispatchers.workflow(path);
+        HttpServlet servlet = servlet(Dispatchers.dispatcher(path), workflow);
+        resetMembers();
+
+        List<MockHttpServletRequest> requests = new ArrayList<>(WARMUP + ITERATIONS);
+        List<MockHttpServletResponse> responses = new ArrayList<>(WARMUP + ITERATIONS);
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            requests.add(Dispatchers.request(workflow, path));
+            responses.add(new MockHttpServletResponse());
+        }
+
+        int[] next = {0};
+        long bytes = AllocationMeter.bytesPerRun(WARMUP, ITERATIONS, () -> {
+            int i = next[0]++;
+            servlet.service(requests.get(i), responses.get(i));
+        });
+        resetMembers();
+
+        System.out.printf("%-4s %-45s %,8d B/req (budget %,d B)%n", method, path, bytes, budgetBytes);
+        assertThat(responses.get(0).getStatus()).as(path).isEqualTo(200);
+        assertThat(bytes).as(method + " " + path + " bytes/request").isLessThanOrEqualTo(budgetBytes);
+    }
+
+    HttpServlet servlet(String dispatcher, String workflow) throws ServletException {
+        String key = dispatcher.startsWith("servlet") ? dispatcher + " " + workflow : dispatcher;
+        HttpServlet servlet = servlets.get(key);
+        if (servlet == null) {
+            servlet = Dispatchers.create(dispatcher, workflow);
+            servlets.put(key, servlet);
+        }
+        return servlet;
+    }
+
+    void resetMembers() {
+        memberRepository.clearStore();
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+}
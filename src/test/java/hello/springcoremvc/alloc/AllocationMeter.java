@@ -0,0 +1,38 @@
+package hello.springcoremvc.alloc;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 현재 쓰레드가 할당한 바이트 측정 (com.sun.management.ThreadMXBean)
+ * 다른 쓰레드의 할당과 GC 는 결과에 영향을 주지 않는다.
+ */
+public class AllocationMeter {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * warmup 번 실행해서 JIT 컴파일과 지연 초기화를 끝낸 뒤 iterations 번 실행한다.
+     * @return 한 번 실행할 때 할당한 평균 바이트
+     */
+    public static long bytesPerRun(int warmup, int iterations, Action action) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            action.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        long after = THREADS.getThreadAllocatedBytes(threadId);
+        return (after - before) / iterations;
+    }
+}
@@ -0,0 +1,124 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.support.PrecompiledJsps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 컴파일한 JSP 를 쓰면 실행 중에 Jasper 가 JSP 를 컴파일하지 않는다.
+ * 톰캣 작업 디렉토리(server.tomcat.basedir/work)에 생성된 *_jsp 파일이 없는지로 확인한다.
+ * 미리 컴파일한 경우와 아닌 경우의 JSP 별 첫 요청 지연 시간을 출력한다.
+ */
+class JspPrecompileTest {
+    /**
+     * 요청 -> 렌더링되는 JSP
+     *  /servlet-mvc/members/new-form -> /WEB-INF/views/new-form.jsp
+     *  /servlet-mvc/members/save     -> /WEB-INF/views/save-result.jsp
+     *  /servlet-mvc/members          -> /WEB-INF/views/members.jsp
+     */
+    static final String[][] REQUESTS = {
+            {"GET", "/servlet-mvc/members/new-form"},
+            {"POST", "/servlet-mvc/members/save"},
+            {"GET", "/servlet-mvc/members"},
+            {"GET", "/jsp/members/new-form.jsp"},
+            {"POST", "/jsp/members/save.jsp"},
+            {"GET", "/jsp/members.jsp"},
+    };
+
+    HttpClient client = HttpClient.newHttpClient();
+
+    @AfterEach
+    void afterEach() {
+        MemberRepository.getInstance().clearStore();
+    }
+
+    @Test
+    void noRuntimeCompilation() throws Exception {
+        assertThat(getClass().getClassLoader().getResource(PrecompiledJsps.LOCATION))
+                .as("./gradlew precompileJsp 결과가 클래스패스에 있어야 한다.")
+                .isNotNull();
+
+        Result runtime = firstRequests(false);
+        Result precompiled = firstRequests(true);
+
+        precompiled.firstRequestMillis().forEach((request, millis) -> System.out.printf(
+                "%-40s runtime compile=%8.1f ms, precompiled=%8.1f ms%n",
+                request, runtime.firstRequestMillis().get(request), millis
+        ));
+        System.out.printf("compiled at runtime: runtime compile=%d, precompiled=%d%n",
+                runtime.compiledFiles(), precompiled.compiledFiles());
+
+        assertThat(runtime.compiledFiles()).isPositive();
+        assertThat(precompiled.compiledFiles()).isZero();
+    }
+
+    Result firstRequests(boolean precompile) throws Exception {
+        Path baseDir = Files.createTempDirectory("jsp-precompile");
+        Map<String, Double> firstRequestMillis = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServletApplication.class)
+                // properties() 는 기본값이라 application.properties 에 지므로 명령행 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.basedir=" + baseDir,
+                        "--app.jsp-precompile.enabled=" + precompile,
+                        // 워밍업이 JSP 를 먼저 요청하면 첫 요청을 잴 수 없다.
+                        "--app.warm-up.enabled=false"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            for (String[] request : REQUESTS) {
+                long start = System.nanoTime();
+                HttpResponse<String> response = client.send(request(port, request[0], request[1]), HttpResponse.BodyHandlers.ofString());
+                firstRequestMillis.put(request[0] + " " + request[1], (System.nanoTime() - start) / 1_000_000.0);
+
+                assertThat(response.statusCode()).as(request[1]).isEqualTo(200);
+            }
+            return new Result(firstRequestMillis, compiledFiles(baseDir));
+        }
+    }
+
+    static HttpRequest request(int port, String method, String path) {
+        URI uri = URI.create("http://localhost:" + port + path);
+        if ("GET".equals(method)) {
+            return HttpRequest.newBuilder(uri).GET().build();
+        }
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=kim&age=20"))
+                .build();
+    }
+
+    /**
+     * Jasper 가 작업 디렉토리에 생성한 JSP 서블릿 소스, 클래스 수
+     */
+    static long compiledFiles(Path baseDir) throws Exception {
+        Path work = baseDir.resolve("work");
+        if (!Files.exists(work)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(work)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith("_jsp.java") || name.endsWith("_jsp.class"))
+                    .count();
+        }
+    }
+
+    record Result(Map<String, Double> firstRequestMillis, long compiledFiles) {
+    }
+}
@@ -0,0 +1,351 @@
+package hello.springcoremvc.config;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블로킹 요청(100ms) 10,000개를 동시에 보냈을 때 platform / virtual 실행 모드 비교
+ *  - platform : 워커 쓰레드 200개
+ *  - virtual  : 요청마다 가상 쓰레드 (RequestExecutionConfig)
+ *
+ * 실제 애플리케이션을 app.request-execution.mode 만 바꿔서 띄우고 /springmvc/v3/members (컨트롤러, findAll, JSP 렌더링)를 요청한다.
+ * 블로킹은 SlowNetwork 가 JSP 가 응답 본문을 처음 내보낼 때 넣으므로 렌더링 도중에 일어난다.
+ * 페이지 캐시, 요청 합치기, 압축은 꺼서 모든 요청이 렌더링하게 한다.
+ *
+ * 가상 쓰레드는 JDK 21 이상에서만 쓸 수 있으므로, 그보다 낮은 JDK 에서는 비교하지 않고 실패한다.
+ * loadTest 태스크는 -PloadTestJava=21 이면 테스트 JVM 을 JDK 21 로 띄우고 -Djdk.tracePinnedThreads=short 를 붙인다.
+ * 이때 출력되는 pinning 스택을 세고, 애플리케이션 코드(hello.springcoremvc)가 모니터를 잡은 채 블로킹하면 실패한다.
+ * 힙 사용량은 같은 JVM 의 HTTP 클라이언트를 포함한 값이다.
+ *
+ * ./gradlew loadTest -PloadTestJava=21 --tests '*RequestExecutionModeLoadTest'
+ */
+@Tag("load")
+class RequestExecutionModeLoadTest {
+    static final int CONCURRENT_REQUESTS = 10_000;
+    static final long BLOCKING_MILLIS = 100;
+    static final int PLATFORM_THREADS = 200;
+    static final int MEMBERS = 100;
+    static final String PATH = "/springmvc/v3/members";
+    static final String APP_PACKAGE = "hello.springcoremvc.";
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @BeforeEach
+    void beforeEach() {
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        assertThat(VirtualThreads.isSupported())
+                .as("virtual 모드와 비교하려면 JDK 21 이상에서 실행해야 합니다. (-PloadTestJava=21) java.version = %s",
+                        System.getProperty("java.version"))
+                .isTrue();
+
+        BurstResult platform = run("platform");
+        System.out.println("platform : " + platform);
+        BurstResult virtual = run("virtual");
+        System.out.println("virtual  : " + virtual);
+        System.out.println("pinning trace : " + System.getProperty("jdk.tracePinnedThreads", "꺼짐"));
+
+        assertThat(platform.errors()).isZero();
+        assertThat(platform.virtualRequests()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(virtual.virtualRequests()).isEqualTo(virtual.renderedRequests());
+        assertThat(virtual.appPinnedFrames())
+                .as("애플리케이션 코드가 모니터를 잡은 채 블로킹했습니다.")
+                .isEmpty();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    BurstResult run(String mode) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServletApplication.class, SlowNetwork.class)
+                // application.properties 보다 우선하도록 명령행 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--app.request-execution.mode=" + mode,
+                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "--server.tomcat.threads.min-spare=" + PLATFORM_THREADS,
+                        "--server.tomcat.max-connections=" + CONCURRENT_REQUESTS * 2,
+                        "--server.tomcat.accept-count=" + CONCURRENT_REQUESTS * 2,
+                        "--app.page-cache.enabled=false",
+                        "--app.single-flight.enabled=false",
+                        "--app.compression.enabled=false"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            SlowNetworkFilter slowNetwork = context.getBean(SlowNetworkFilter.class);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            // pinning 스택은 System.out 으로 출력된다. 같은 스택은 한 번만 출력되므로 워밍업부터 모은다.
+            PrintStream out = System.out;
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(new TeeOutputStream(out, captured), true));
+            long errors;
+            long elapsed;
+            AtomicLong peakHeap = new AtomicLong();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            try {
+                burst(client, uri, PLATFORM_THREADS); // warm-up
+                slowNetwork.reset();
+
+                MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+                threads.resetPeakThreadCount();
+                sampler.scheduleAtFixedRate(
+                        () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                        0, 10, TimeUnit.MILLISECONDS
+                );
+
+                long start = System.nanoTime();
+                errors = burst(client, uri, CONCURRENT_REQUESTS);
+                elapsed = System.nanoTime() - start;
+            } finally {
+                sampler.shutdownNow();
+                System.setOut(out);
+            }
+
+            List<String> lines = captured.toString(StandardCharsets.UTF_8).lines().toList();
+            return new BurstResult(
+                    CONCURRENT_REQUESTS,
+                    errors,
+                    CONCURRENT_REQUESTS / (elapsed / 1_000_000_000.0),
+                    peakHeap.get() / (1024 * 1024),
+                    threads.getPeakThreadCount(),
+                    slowNetwork.requests.sum(),
+                    slowNetwork.virtualRequests.sum(),
+                    lines.stream().filter(line -> line.startsWith("Thread[")).count(),
+                    lines.stream().filter(line -> line.contains("<== monitors") && line.contains(APP_PACKAGE)).toList()
+            );
+        }
+    }
+
+    /**
+     * requests 개의 요청을 한 번에 보내고 모두 끝날 때까지 기다린다.
+     * @return 실패한 요청 수
+     */
+    long burst(HttpClient client, URI uri, int requests) {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        AtomicLong errors = new AtomicLong();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+        for (int i = 0; i < requests; i++) {
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, ex) -> {
+                        if (ex != null || response.statusCode() != HttpServletResponse.SC_OK) {
+                            errors.incrementAndGet();
+                        }
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        return errors.get();
+    }
+
+    /**
+     * JDK 17 로 컴파일하므로 Thread.isVirtual() 대신 클래스 이름으로 확인한다.
+     */
+    static boolean isVirtual(Thread thread) {
+        return thread.getClass().getName().equals("java.lang.VirtualThread");
+    }
+
+    record BurstResult(
+            int requests,
+            long errors,
+            double throughput,
+            long peakHeapMb,
+            int peakThreads,
+            long renderedRequests,
+            long virtualRequests,
+            long pinnedStacks,
+            List<String> appPinnedFrames
+    ) {
+        @Override
+        public String toString() {
+            return String.format(
+                    "requests=%d, errors=%d, throughput=%.1f req/s, peak heap=%d MB, peak threads=%d, "
+                            + "virtual thread requests=%d/%d, pinned stacks=%d (app frames=%d)",
+                    requests, errors, throughput, peakHeapMb, peakThreads,
+                    virtualRequests, renderedRequests, pinnedStacks, appPinnedFrames.size()
+            );
+        }
+    }
+
+    /**
+     * 테스트에서만 쓰는 빈, 실행할 때 소스로 직접 넘긴다.
+     * @Configuration 을 붙이지 않아서 다른 테스트가 띄우는 애플리케이션의 컴포넌트 스캔에 잡히지 않는다.
+     */
+    static class SlowNetwork {
+        @Bean
+        SlowNetworkFilter slowNetworkFilter() {
+            return new SlowNetworkFilter();
+        }
+
+        @Bean
+        FilterRegistrationBean<SlowNetworkFilter> slowNetworkFilterRegistration(SlowNetworkFilter filter) {
+            FilterRegistrationBean<SlowNetworkFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.addUrlPatterns(PATH);
+            registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    /**
+     * 느린 네트워크를 흉내낸다. 응답 본문을 처음 쓸 때 BLOCKING_MILLIS 동안 블로킹한다.
+     * JSP 는 버퍼가 차거나 페이지가 끝날 때 응답 Writer 로 내보내므로, 블로킹은 JSP 렌더링 도중에 일어난다.
+     * 요청을 실행한 쓰레드가 가상 쓰레드인지도 센다.
+     */
+    static class SlowNetworkFilter extends HttpFilter {
+        final LongAdder requests = new LongAdder();
+        final LongAdder virtualRequests = new LongAdder();
+
+        @Override
+        protected void doFilter(
+                HttpServletRequest req,
+                HttpServletResponse resp,
+                FilterChain chain
+        ) throws IOException, ServletException {
+            requests.increment();
+            if (isVirtual(Thread.currentThread())) {
+                virtualRequests.increment();
+            }
+            chain.doFilter(req, new HttpServletResponseWrapper(resp) {
+                private PrintWriter writer;
+
+                @Override
+                public PrintWriter getWriter() throws IOException {
+                    if (writer == null) {
+                        writer = new SlowWriter(super.getWriter());
+                    }
+                    return writer;
+                }
+            });
+        }
+
+        void reset() {
+            requests.reset();
+            virtualRequests.reset();
+        }
+    }
+
+    /**
+     * 처음 쓸 때 한 번 블로킹한다. 블로킹은 PrintWriter 의 락 밖에서 한다.
+     */
+    static class SlowWriter extends PrintWriter {
+        private boolean blocked;
+
+        SlowWriter(PrintWriter out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) {
+            block();
+            super.write(c);
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            block();
+            super.write(buf, off, len);
+        }
+
+        @Override
+        public void write(String s, int off, int len) {
+            block();
+            super.write(s, off, len);
+        }
+
+        private void block() {
+            if (blocked) {
+                return;
+            }
+            blocked = true;
+            try {
+                Thread.sleep(BLOCKING_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package hello.springcoremvc.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 닫힌 모델 부하 생성기
+ * clients 개의 쓰레드가 응답을 받자마자 다음 요청을 보낸다.
+ */
+public class ClosedLoopLoad {
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public LoadResult run(
+            URI uri,
+            int clients,
+            Duration duration
+    ) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        int[] counts = new int[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            long[] samples = new long[1 << 16];
+            latencies.add(samples);
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        if (!send(request)) {
+                            errors.incrementAndGet();
+                        }
+                        long micros = (System.nanoTime() - begin) / 1000;
+                        samples[counts[index]++ & (samples.length - 1)] = micros;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        return toResult(latencies, counts, errors.get(), elapsed);
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private LoadResult toResult(
+            List<long[]> latencies,
+            int[] counts,
+            long errors,
+            long elapsedNanos
+    ) {
+        long requests = Arrays.stream(counts).asLongStream().sum();
+        long[] all = new long[(int) Math.min(requests, (long) latencies.size() << 16)];
+        int pos = 0;
+        for (int i = 0; i < latencies.size(); i++) {
+            int n = Math.min(counts[i], latencies.get(i).length);
+            System.arraycopy(latencies.get(i), 0, all, pos, n);
+            pos += n;
+        }
+        Arrays.sort(all);
+
+        double throughput = requests / (elapsedNanos / 1_000_000_000.0);
+        return new LoadResult(requests, errors, throughput, percentile(all, 0.50), percentile(all, 0.99));
+    }
+
+    private long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,21 @@
+package hello.springcoremvc.load;
+
+/**
+ * 부하 테스트 결과
+ * 지연시간 단위는 마이크로초
+ */
+public record LoadResult(
+        long requests,
+        long errors,
+        double throughput,
+        long p50Micros,
+        long p99Micros
+) {
+    @Override
+    public String toString() {
+        return String.format(
+                "requests=%d, errors=%d, throughput=%.1f req/s, p50=%.2f ms, p99=%.2f ms",
+                requests, errors, throughput, p50Micros / 1000.0, p99Micros / 1000.0
+        );
+    }
+}
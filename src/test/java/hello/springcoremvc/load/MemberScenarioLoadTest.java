@@ -0,0 +1,130 @@
+package hello.springcoremvc.load;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 관리 시나리오(form -> save -> list 반복) 열린 모델 부하 테스트
+ * 애플리케이션을 임의 포트로 띄우고 경로마다 같은 도착률로 부하를 준 뒤 비교 보고서를 쓴다.
+ * 보정한 p99 가 예산을 넘거나 오류가 있으면 실패한다.
+ *
+ * ./gradlew scenarioLoadTest -Pload.rate=500 -Pload.duration=30 -Pload.p99-budget-ms=50
+ *  - load.rate          : 경로별 초당 요청 수 (기본 200)
+ *  - load.duration      : 경로별 측정 시간, 초 (기본 10)
+ *  - load.warmup        : 경로별 워밍업 시간, 초 (기본 5)
+ *  - load.p99-budget-ms : 보정한 p99 예산, 밀리초 (기본 50)
+ *  - load.report-dir    : 보고서 디렉토리 (기본 build/reports/load)
+ *
+ * 저장 요청이 초당 수십 건이라 요청 제한(app.rate-limit)은 끈다.
+ */
+@Tag("load")
+class MemberScenarioLoadTest {
+    static final String[] PATHS = {
+            "/servlet/members",
+            "/front-controller/v5/v3/members",
+            "/springmvc/v3/members",
+    };
+    static final int MAX_OUTSTANDING = 10_000;
+
+    final double rate = Double.parseDouble(System.getProperty("load.rate", "200"));
+    final Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 10));
+    final Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    final long p99BudgetMillis = Long.getLong("load.p99-budget-ms", 50);
+    final Path reportDir = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @Test
+    void memberScenario() throws Exception {
+        Map<String, OpenLoadResult> results = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServletApplication.class)
+                // application.properties 의 app.* 값을 덮어쓰도록 명령행 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--app.rate-limit.enabled=false"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            OpenLoopLoad load = new OpenLoopLoad(MAX_OUTSTANDING);
+
+            for (String path : PATHS) {
+                List<HttpRequest> scenario = scenario(URI.create("http://localhost:" + port + path));
+                load.run(scenario, rate, warmup);
+                memberRepository.clearStore();
+
+                OpenLoadResult result = load.run(scenario, rate, duration);
+                memberRepository.clearStore();
+                System.out.printf("%-35s %s%n", path, result);
+                results.put(path, result);
+            }
+        }
+
+        Path report = writeReport(results);
+        System.out.println("report: " + report.toAbsolutePath());
+
+        assertThat(results).allSatisfy((path, result) -> {
+            assertThat(result.errors()).as(path + " errors").isZero();
+            assertThat(result.p99Micros()).as(path + " p99 (us)").isLessThanOrEqualTo(p99BudgetMillis * 1_000);
+        });
+    }
+
+    /**
+     * 등록 폼 -> 저장 -> 목록
+     */
+    static List<HttpRequest> scenario(URI members) {
+        List<HttpRequest> scenario = new ArrayList<>();
+        scenario.add(HttpRequest.newBuilder(URI.create(members + "/new-form")).GET().build());
+        scenario.add(HttpRequest.newBuilder(URI.create(members + "/save"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=kim&age=20"))
+                .build());
+        scenario.add(HttpRequest.newBuilder(members).GET().build());
+        return scenario;
+    }
+
+    Path writeReport(Map<String, OpenLoadResult> results) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# 회원 시나리오 열린 모델 부하 테스트 ")
+                .append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n\n");
+        sb.append(String.format("도착률 %.0f req/s, 측정 %d s, 워밍업 %d s, p99 예산 %d ms, JDK %s%n%n",
+                rate, duration.toSeconds(), warmup.toSeconds(), p99BudgetMillis, System.getProperty("java.version")));
+        sb.append("보내지 못했거나 응답이 오지 않은 요청(unsent)은 측정이 끝난 시각에 응답한 오류로 지연 시간에 포함한다.\n\n");
+        sb.append("| path | throughput (req/s) | errors | unsent | p50 (ms) | p99 (ms) | p999 (ms) | service p99 (ms) | budget |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        results.forEach((path, r) -> sb.append(String.format("| %s | %.1f | %d | %d | %.2f | %.2f | %.2f | %.2f | %s |%n",
+                path, r.throughput(), r.errors(), r.unsent(),
+                r.p50Micros() / 1000.0, r.p99Micros() / 1000.0, r.p999Micros() / 1000.0, r.serviceP99Micros() / 1000.0,
+                r.errors() == 0 && r.p99Micros() <= p99BudgetMillis * 1_000 ? "ok" : "FAIL")));
+
+        Files.createDirectories(reportDir);
+        Path report = reportDir.resolve("member-scenario-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".md");
+        Files.writeString(report, sb.toString());
+        return report;
+    }
+}
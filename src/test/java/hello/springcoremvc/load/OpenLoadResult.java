@@ -0,0 +1,57 @@
+package hello.springcoremvc.load;
+
+import hello.springcoremvc.web.metrics.LatencyHistogram;
+
+/**
+ * 열린 모델 부하 테스트 결과
+ * corrected : 보냈어야 하는 시각부터 잰 지연 시간 (coordinated omission 보정, 모든 예정 요청 포함)
+ * service   : 실제로 보낸 시각부터 잰 지연 시간
+ * 백분위는 마이크로초
+ *
+ * @param unsent 보내지 못했거나 끝날 때까지 응답이 오지 않은 요청 수.
+ *               실행이 끝난 시각에 응답한 오류로 corrected 에 들어 있다.
+ */
+public record OpenLoadResult(
+        double targetRate,
+        long scheduled,
+        long unsent,
+        long elapsedNanos,
+        LatencyHistogram.Snapshot corrected,
+        LatencyHistogram.Snapshot service
+) {
+    public long errors() {
+        return corrected.errors();
+    }
+
+    /**
+     * 응답을 받은 요청 기준
+     */
+    public double throughput() {
+        return (corrected.count() - unsent) / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public long p50Micros() {
+        return corrected.percentile(0.50) / 1_000;
+    }
+
+    public long p99Micros() {
+        return corrected.percentile(0.99) / 1_000;
+    }
+
+    public long p999Micros() {
+        return corrected.percentile(0.999) / 1_000;
+    }
+
+    public long serviceP99Micros() {
+        return service.percentile(0.99) / 1_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "target=%.0f req/s, throughput=%.1f req/s, errors=%d, unsent=%d, p50=%.2f ms, p99=%.2f ms, p999=%.2f ms, service p99=%.2f ms",
+                targetRate, throughput(), errors(), unsent,
+                p50Micros() / 1000.0, p99Micros() / 1000.0, p999Micros() / 1000.0, serviceP99Micros() / 1000.0
+        );
+    }
+}
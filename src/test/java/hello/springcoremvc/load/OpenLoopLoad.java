@@ -0,0 +1,114 @@
+package hello.springcoremvc.load;
+
+import hello.springcoremvc.web.metrics.LatencyHistogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델 부하 생성기
+ * 응답을 기다리지 않고 일정한 도착률(ratePerSecond)로 요청을 보낸다. 요청은 scenario 를 순서대로 돌아가며 쓴다.
+ *
+ * 지연 시간은 실제로 보낸 시각이 아니라 보냈어야 하는 시각(start + i * interval)부터 잰다. (coordinated omission 보정)
+ * 서버가 느려져서 보내는 쪽이 밀리면 밀린 시간도 지연 시간에 들어간다. 보정하지 않은 값(service)도 함께 기록한다.
+ * 동시에 기다리는 요청이 maxOutstanding 을 넘으면 보내지 않고 오류로 센다.
+ * 보내지 못한 요청과 drain 시간(30초) 안에 응답이 오지 않은 요청도 버리지 않고, 보냈어야 하는 시각부터 실행이 끝난 시각까지를
+ * 지연 시간(오류)으로 기록한다. 빼고 계산하면 서버가 멈췄을 때 완료된 요청만 남아 백분위가 좋아 보인다.
+ */
+public class OpenLoopLoad {
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final int maxOutstanding;
+
+    public OpenLoopLoad(int maxOutstanding) {
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    public OpenLoadResult run(
+            List<HttpRequest> scenario,
+            double ratePerSecond,
+            Duration duration
+    ) throws InterruptedException {
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long total = duration.toNanos() / intervalNanos;
+
+        LatencyHistogram corrected = new LatencyHistogram();
+        LatencyHistogram service = new LatencyHistogram();
+        AtomicLong outstanding = new AtomicLong();
+        // 보내지 못한 요청의 보냈어야 하는 시각 (보내는 쓰레드만 쓴다)
+        long[] dropped = new long[(int) total];
+        int droppedCount = 0;
+        // 응답을 기다리는 요청. 응답과 drain 마감 중 먼저 remove 한 쪽만 기록한다.
+        Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (outstanding.incrementAndGet() > maxOutstanding) {
+                outstanding.decrementAndGet();
+                dropped[droppedCount++] = intended;
+                continue;
+            }
+
+            long id = i;
+            long sent = System.nanoTime();
+            pending.put(id, new Pending(intended, sent));
+            client.sendAsync(scenario.get((int) (i % scenario.size())), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        long now = System.nanoTime();
+                        outstanding.decrementAndGet();
+                        if (pending.remove(id) == null) {
+                            return;
+                        }
+                        boolean error = e != null || response.statusCode() >= 400;
+                        corrected.record(now - intended, error);
+                        service.record(now - sent, error);
+                    });
+        }
+
+        long sendEnd = System.nanoTime();
+        long drainDeadline = sendEnd + TimeUnit.SECONDS.toNanos(30);
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        long end = System.nanoTime();
+        long unfinished = 0;
+        for (Long id : pending.keySet()) {
+            Pending p = pending.remove(id);
+            if (p != null) {
+                corrected.record(end - p.intended(), true);
+                service.record(end - p.sent(), true);
+                unfinished++;
+            }
+        }
+        for (int i = 0; i < droppedCount; i++) {
+            corrected.record(end - dropped[i], true);
+        }
+
+        return new OpenLoadResult(
+                ratePerSecond,
+                total,
+                droppedCount + unfinished,
+                end - start,
+                corrected.snapshot(),
+                service.snapshot()
+        );
+    }
+
+    private record Pending(long intended, long sent) {
+    }
+}
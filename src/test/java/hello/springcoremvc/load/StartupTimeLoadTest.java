@@ -0,0 +1,140 @@
+package hello.springcoremvc.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 구성별로 새 JVM 을 띄워서 프로세스 시작부터 /springmvc/v3/members 가 처음 200 으로 응답할 때까지의 시간을 잰다.
+ *  - default      : 기본 설정 (워밍업은 WarmUpLoadTest 에서 따로 보므로 끈다)
+ *  - lazy         : fast-startup 프로파일 (지연 초기화)
+ *  - lazy+aot     : + AOT 처리한 빈 정의 (-Dspring.aot.enabled=true)
+ *  - lazy+aot+cds : + 학습 실행으로 만든 CDS 아카이브 (-XX:SharedArchiveFile)
+ *
+ * 모두 같은 build/fast-startup/app.jar 로 실행한다.
+ *
+ * ./gradlew startupBenchmark -Pstartup.runs=5
+ */
+@Tag("load")
+class StartupTimeLoadTest {
+    static final String PATH = "/springmvc/v3/members";
+    static final String FAST_STARTUP = "--spring.profiles.active=fast-startup";
+
+    int runs = Integer.getInteger("startup.runs", 5);
+    Path dir = Paths.get(System.getProperty("startup.dir", "build/fast-startup"));
+    Path reportDir = Paths.get(System.getProperty("startup.report-dir", "build/reports/startup"));
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        Path jar = dir.resolve("app.jar");
+        Path archive = dir.resolve("app.jsa");
+        assumeTrue(Files.exists(jar) && Files.exists(archive), "./gradlew cdsArchive 가 필요하다");
+
+        Map<String, List<String>> configurations = new LinkedHashMap<>();
+        configurations.put("default", List.of("-jar", jar.toString(), "--app.warm-up.enabled=false"));
+        configurations.put("lazy", List.of("-jar", jar.toString(), FAST_STARTUP));
+        configurations.put("lazy+aot", List.of("-Dspring.aot.enabled=true", "-jar", jar.toString(), FAST_STARTUP));
+        configurations.put("lazy+aot+cds", List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+                "-jar", jar.toString(), FAST_STARTUP));
+
+        Map<String, long[]> results = new LinkedHashMap<>();
+        configurations.forEach((name, args) -> results.put(name, new long[runs]));
+        // 구성을 번갈아 실행해서 디스크 캐시나 CPU 상태가 한 구성에만 유리하지 않게 한다.
+        for (int run = 0; run < runs; run++) {
+            for (Map.Entry<String, List<String>> configuration : configurations.entrySet()) {
+                results.get(configuration.getKey())[run] = firstRequestMillis(configuration.getValue());
+            }
+        }
+
+        results.forEach((name, millis) -> System.out.printf("%-14s median %5d ms, min %5d ms, runs %s%n",
+                name, median(millis), Arrays.stream(millis).min().orElseThrow(), Arrays.toString(millis)));
+        Path report = writeReport(results);
+        System.out.println("report: " + report.toAbsolutePath());
+
+        assertThat(median(results.get("lazy+aot+cds"))).isLessThan(median(results.get("default")));
+    }
+
+    long firstRequestMillis(List<String> args) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(args);
+        command.add("--server.port=" + port);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PATH)).GET().build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + Duration.ofMinutes(2).toNanos();
+            while (System.nanoTime() < deadline) {
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // 아직 포트를 열지 않았다.
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(command + ": no 200 from " + PATH);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    Path writeReport(Map<String, long[]> results) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# 시작 시간 (첫 성공 요청까지) ")
+                .append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n\n");
+        sb.append(String.format("GET %s, 구성마다 %d 번, JDK %s, %d CPUs%n%n",
+                PATH, runs, System.getProperty("java.version"), Runtime.getRuntime().availableProcessors()));
+        sb.append("| configuration | median (ms) | min (ms) | max (ms) |\n");
+        sb.append("|---|---:|---:|---:|\n");
+        results.forEach((name, millis) -> sb.append(String.format("| %s | %d | %d | %d |%n", name, median(millis),
+                Arrays.stream(millis).min().orElseThrow(), Arrays.stream(millis).max().orElseThrow())));
+
+        Files.createDirectories(reportDir);
+        Path report = reportDir.resolve("startup-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".md");
+        Files.writeString(report, sb.toString());
+        return report;
+    }
+
+    static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
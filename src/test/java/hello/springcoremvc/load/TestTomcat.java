@@ -0,0 +1,109 @@
+package hello.springcoremvc.load;
+
+import jakarta.servlet.Servlet;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 임베디드 톰캣
+ * 워커 쓰레드 수를 고정하고, 사용 중인 워커 쓰레드 수를 주기적으로 샘플링한다.
+ */
+public class TestTomcat implements AutoCloseable {
+    private final Tomcat tomcat = new Tomcat();
+    private final Context context;
+    private final int maxThreads;
+
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong busySum = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+
+    public TestTomcat(int maxThreads) throws IOException {
+        this.maxThreads = maxThreads;
+        tomcat.setBaseDir(Files.createTempDirectory("test-tomcat").toString());
+        tomcat.setPort(0);
+
+        Connector connector = tomcat.getConnector();
+        connector.setProperty("maxThreads", String.valueOf(maxThreads));
+        connector.setProperty("minSpareThreads", String.valueOf(maxThreads));
+
+        context = tomcat.addContext("", null);
+    }
+
+    /**
+     * 톰캣 워커 쓰레드 풀 대신 주어진 Executor 로 요청을 실행한다. (예: 가상 쓰레드)
+     */
+    public TestTomcat executor(Executor executor) {
+        tomcat.getConnector().getProtocolHandler().setExecutor(executor);
+        return this;
+    }
+
+    /**
+     * 동시에 열 수 있는 커넥션 수
+     */
+    public TestTomcat maxConnections(int maxConnections) {
+        Connector connector = tomcat.getConnector();
+        connector.setProperty("maxConnections", String.valueOf(maxConnections));
+        connector.setProperty("acceptCount", String.valueOf(maxConnections));
+        return this;
+    }
+
+    public TestTomcat addServlet(String path, Servlet servlet) {
+        String name = servlet.getClass().getSimpleName() + path;
+        Tomcat.addServlet(context, name, servlet).setAsyncSupported(true);
+        context.addServletMappingDecoded(path, name);
+        return this;
+    }
+
+    public TestTomcat start() throws LifecycleException {
+        tomcat.start();
+        sampler.scheduleAtFixedRate(this::sample, 10, 10, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    public URI uri(String path) {
+        return URI.create("http://localhost:" + tomcat.getConnector().getLocalPort() + path);
+    }
+
+    public int maxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * 마지막 reset 이후 평균 사용 중 워커 쓰레드 비율 (0.0 ~ 1.0)
+     */
+    public double workerUtilization() {
+        long n = samples.get();
+        return n == 0 ? 0 : (double) busySum.get() / n / maxThreads;
+    }
+
+    public void resetUtilization() {
+        busySum.set(0);
+        samples.set(0);
+    }
+
+    private void sample() {
+        if (tomcat.getConnector().getProtocolHandler().getExecutor() instanceof ThreadPoolExecutor executor) {
+            busySum.addAndGet(executor.getActiveCount());
+            samples.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() throws LifecycleException {
+        sampler.shutdownNow();
+        tomcat.stop();
+        tomcat.destroy();
+    }
+}
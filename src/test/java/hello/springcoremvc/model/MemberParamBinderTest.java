@@ -0,0 +1,60 @@
+package hello.springcoremvc.model;
+
+import hello.springcoremvc.basic.HelloData;
+import hello.springcoremvc.binder.ParamBinder;
+import hello.springcoremvc.binder.ParamBinders;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @BindParams 로 컴파일 시점에 생성된 바인더
+ */
+class MemberParamBinderTest {
+    ParamBinder<Member> binder = ParamBinders.get(Member.class);
+
+    @Test
+    void bind() {
+        // when
+        Member member = binder.bind(Map.of("username", "회원", "age", "20")::get);
+
+        // then
+        assertThat(member.getUsername()).isEqualTo("회원");
+        assertThat(member.getAge()).isEqualTo(20);
+    }
+
+    @Test
+    void excludedFieldIsNotBound() {
+        // when
+        Member member = binder.bind(Map.of("id", "7", "age", "20")::get);
+
+        // then
+        assertThat(member.getId()).isNull();
+        assertThat(member.getUsername()).isNull();
+        assertThat(member.getAge()).isEqualTo(20);
+    }
+
+    @Test
+    void missingPrimitiveFieldFails() {
+        // 예전 Integer.parseInt(paramMap.get("age")) 처럼 age 가 없으면 0 으로 저장하지 않고 실패한다.
+        assertThatThrownBy(() -> binder.bind(Map.of("username", "회원")::get))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void invalidNumber() {
+        assertThatThrownBy(() -> binder.bind(Map.of("age", "twenty")::get))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void generatedForAnnotatedTypesOnly() {
+        assertThat(ParamBinders.find(HelloData.class)).isNotNull();
+        assertThat(ParamBinders.find(MemberRepository.class)).isNull();
+        assertThat(ParamBinders.find(String.class)).isNull();
+    }
+}
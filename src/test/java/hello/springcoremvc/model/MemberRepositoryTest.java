@@ -45,4 +45,42 @@ class MemberRepositoryTest {
         assertThat(result.size()).isEqualTo(2);
         assertThat(result).contains(m1, m2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void version() {
+        // given
+        long before = memberRepository.getVersion();
+
+        // when
+        memberRepository.save(new Member("member1", 20));
+        long afterSave = memberRepository.getVersion();
+        memberRepository.findAll();
+        long afterFind = memberRepository.getVersion();
+        memberRepository.clearStore();
+
+        // then
+        assertThat(afterSave).isGreaterThan(before);
+        assertThat(afterFind).isEqualTo(afterSave);
+        assertThat(memberRepository.getVersion()).isGreaterThan(afterSave);
+    }
+
+    @Test
+    void useThrowawayStore() {
+        // given
+        Member kept = memberRepository.save(new Member("kept", 20));
+        long before = memberRepository.getVersion();
+
+        // when
+        Runnable restore = memberRepository.useThrowawayStore();
+        memberRepository.save(new Member("warmup", 20));
+        List<Member> during = memberRepository.findAll();
+        long versionDuring = memberRepository.getVersion();
+        restore.run();
+
+        // then
+        assertThat(during).extracting(Member::getUsername).containsExactly("warmup");
+        assertThat(memberRepository.findAll()).containsExactly(kept);
+        assertThat(versionDuring).isGreaterThan(before);
+        assertThat(memberRepository.getVersion()).isGreaterThan(versionDuring);
+    }
+}
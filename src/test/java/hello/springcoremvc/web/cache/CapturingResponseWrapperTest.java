@@ -0,0 +1,75 @@
+package hello.springcoremvc.web.cache;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CapturingResponseWrapperTest {
+
+    @Test
+    void writeListenerIsCalledRightAway() throws IOException {
+        // given
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(new MockHttpServletResponse());
+        ServletOutputStream out = wrapper.getOutputStream();
+
+        // when
+        out.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                if (out.isReady()) {
+                    out.write("hello".getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+
+        // then
+        assertThat(new String(wrapper.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThatThrownBy(() -> out.setWriteListener(new NoopListener()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void writeErrorGoesToOnError() throws IOException {
+        // given
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(new MockHttpServletResponse());
+        List<Throwable> errors = new ArrayList<>();
+
+        // when
+        wrapper.getOutputStream().setWriteListener(new NoopListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                throw new IOException("boom");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        // then
+        assertThat(errors).singleElement().satisfies(t -> assertThat(t).hasMessage("boom"));
+    }
+
+    static class NoopListener implements WriteListener {
+        @Override
+        public void onWritePossible() throws IOException {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package hello.springcoremvc.web.cache;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PageCacheFilterTest {
+    PageCache pageCache = new PageCache(1 << 20, 16, false, true);
+    PageCacheFilter filter = new PageCacheFilter(pageCache);
+    AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    void queryAndAcceptDoNotAddEntries() throws Exception {
+        // given
+        FilterChain chain = html();
+
+        // when
+        get("/servlet/members", null, "text/html", chain);
+        get("/servlet/members", "a=1", "text/html, */*;q=0.8", chain);
+        get("/servlet/members", "b=2", "*/*", chain);
+
+        // then
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(pageCache.stats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    void skipCacheWhenStoredTypeIsNotAcceptable() throws Exception {
+        // given
+        FilterChain chain = (req, resp) -> {
+            renders.incrementAndGet();
+            if (req.getParameter("reject") != null) {
+                ((MockHttpServletResponse) resp).setStatus(406);
+                return;
+            }
+            resp.setContentType("application/json");
+            resp.getOutputStream().write("[]".getBytes());
+        };
+        get("/front-controller/v5/api/members", null, "application/json", chain);
+
+        // when
+        MockHttpServletResponse hit = get("/front-controller/v5/api/members", null, "*/*", chain);
+        MockHttpServletResponse refused = get("/front-controller/v5/api/members", "reject", "text/html", chain);
+
+        // then
+        assertThat(hit.getContentAsString()).isEqualTo("[]");
+        assertThat(refused.getStatus()).isEqualTo(406);
+        assertThat(renders.get()).isEqualTo(2);
+        assertThat(pageCache.stats().entries()).isEqualTo(1);
+    }
+
+    FilterChain html() {
+        return (req, resp) -> {
+            renders.incrementAndGet();
+            resp.setContentType("text/html;charset=utf-8");
+            resp.getOutputStream().write("<html></html>".getBytes());
+        };
+    }
+
+    MockHttpServletResponse get(String uri, String query, String accept, FilterChain chain) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        if (query != null) {
+            req.setQueryString(query);
+            for (String param : query.split("&")) {
+                String[] pair = param.split("=", 2);
+                req.addParameter(pair[0], pair.length > 1 ? pair[1] : "");
+            }
+        }
+        req.addHeader("Accept", accept);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, chain);
+        return resp;
+    }
+}
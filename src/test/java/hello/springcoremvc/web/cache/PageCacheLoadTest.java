@@ -0,0 +1,82 @@
+package hello.springcoremvc.web.cache;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.load.ClosedLoopLoad;
+import hello.springcoremvc.load.LoadResult;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 1,000명 목록 요청의 처리량, 페이지 캐시 사용 / 미사용 비교
+ *
+ * ./gradlew loadTest --tests '*PageCacheLoadTest'
+ */
+@Tag("load")
+@SpringBootTest(classes = ServletApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PageCacheLoadTest {
+    static final int MEMBERS = 1_000;
+    static final int CLIENTS = 32;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    PageCache pageCache;
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @BeforeEach
+    void beforeEach() {
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+        pageCache.clear();
+        pageCache.setEnabled(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/servlet/members",
+            "/front-controller/v5/v3/members",
+            "/springmvc/v3/members",
+    })
+    void compareWithAndWithoutCache(String path) throws Exception {
+        pageCache.setEnabled(false);
+        LoadResult uncached = measure(path);
+        pageCache.setEnabled(true);
+        LoadResult cached = measure(path);
+
+        System.out.printf("%-35s uncached : %s%n", path, uncached);
+        System.out.printf("%-35s cached   : %s%n", path, cached);
+        System.out.printf("%-35s %s%n", path, pageCache.stats());
+
+        assertThat(cached.errors()).isZero();
+        assertThat(pageCache.stats().hitRatio()).isGreaterThan(0.99);
+        assertThat(cached.throughput()).isGreaterThan(uncached.throughput());
+    }
+
+    LoadResult measure(String path) throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + path);
+        ClosedLoopLoad load = new ClosedLoopLoad();
+        load.run(uri, CLIENTS, Duration.ofSeconds(3)); // warm-up
+        return load.run(uri, CLIENTS, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,143 @@
+package hello.springcoremvc.web.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PageCacheTest {
+
+    @Test
+    void hitOnlyWithSameVersion() {
+        // given
+        PageCache pageCache = new PageCache(1024, 16, false, true);
+        pageCache.put("/members", 2, "text/html", new byte[10]);
+
+        // when
+        CachedPage hit = pageCache.get("/members", 2);
+        CachedPage older = pageCache.get("/members", 1);
+
+        // then
+        assertThat(hit).isNotNull();
+        assertThat(older).isNull();
+        PageCacheStats stats = pageCache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+        assertThat(stats.entries()).isEqualTo(1);
+        assertThat(stats.bytesHeld()).isEqualTo(10);
+    }
+
+    @Test
+    void staleEntryIsRemovedOnGet() {
+        // given
+        PageCache pageCache = new PageCache(1024, 16, false, true);
+        pageCache.put("/members", 1, "text/html", new byte[10]);
+
+        // when: save 이후 요청
+        CachedPage page = pageCache.get("/members", 2);
+
+        // then
+        assertThat(page).isNull();
+        assertThat(pageCache.stats().entries()).isZero();
+        assertThat(pageCache.stats().bytesHeld()).isZero();
+    }
+
+    @Test
+    void newVersionRemovesOlderEntries() {
+        // given
+        PageCache pageCache = new PageCache(1024, 16, false, true);
+        pageCache.put("a", 1, "text/html", new byte[10]);
+        pageCache.put("b", 1, "text/html", new byte[10]);
+
+        // when
+        pageCache.put("c", 2, "text/html", new byte[10]);
+        pageCache.put("d", 1, "text/html", new byte[10]);
+
+        // then: 이전 버전 항목은 지우고, 이전 버전으로 렌더링한 페이지는 저장하지 않는다.
+        assertThat(pageCache.get("c", 2)).isNotNull();
+        assertThat(pageCache.stats().entries()).isEqualTo(1);
+        assertThat(pageCache.stats().bytesHeld()).isEqualTo(10);
+        assertThat(pageCache.stats().evictions()).isZero();
+    }
+
+    @Test
+    void evictWhenTooManyEntries() {
+        // given
+        PageCache pageCache = new PageCache(1024, 2, false, true);
+        pageCache.put("a", 1, "text/html", new byte[10]);
+        pageCache.put("b", 1, "text/html", new byte[10]);
+        pageCache.get("a", 1);
+
+        // when
+        pageCache.put("c", 1, "text/html", new byte[10]);
+
+        // then
+        assertThat(pageCache.get("b", 1)).isNull();
+        assertThat(pageCache.get("a", 1)).isNotNull();
+        assertThat(pageCache.get("c", 1)).isNotNull();
+        assertThat(pageCache.stats().entries()).isEqualTo(2);
+        assertThat(pageCache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        PageCache pageCache = new PageCache(100, 16, false, true);
+        pageCache.put("a", 1, "text/html", new byte[40]);
+        pageCache.put("b", 1, "text/html", new byte[40]);
+        pageCache.get("a", 1);
+
+        // when
+        pageCache.put("c", 1, "text/html", new byte[40]);
+
+        // then
+        assertThat(pageCache.get("a", 1)).isNotNull();
+        assertThat(pageCache.get("b", 1)).isNull();
+        assertThat(pageCache.get("c", 1)).isNotNull();
+        assertThat(pageCache.stats().bytesHeld()).isEqualTo(80);
+        assertThat(pageCache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void replaceKeepsBytesHeld() {
+        // given
+        PageCache pageCache = new PageCache(100, 16, false, true);
+        pageCache.put("a", 1, "text/html", new byte[40]);
+
+        // when
+        pageCache.put("a", 2, "text/html", new byte[30]);
+
+        // then
+        assertThat(pageCache.stats().bytesHeld()).isEqualTo(30);
+        assertThat(pageCache.stats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    void tooLargePageIsNotStored() {
+        PageCache pageCache = new PageCache(100, 16, false, true);
+
+        pageCache.put("a", 1, "text/html", new byte[101]);
+
+        assertThat(pageCache.stats().entries()).isZero();
+    }
+
+    @Test
+    void gzip() throws Exception {
+        // given
+        PageCache pageCache = new PageCache(1 << 20, 16, true, true);
+        byte[] body = "<tr><td>member</td></tr>".repeat(100).getBytes();
+
+        // when
+        pageCache.put("a", 1, "text/html", body);
+        CachedPage page = pageCache.get("a", 1);
+
+        // then
+        assertThat(page.gzipBody().length).isLessThan(body.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.gzipBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package hello.springcoremvc.web.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightFilterTest {
+    static final int FOLLOWERS = 8;
+
+    SingleFlightMetrics metrics = new SingleFlightMetrics();
+    ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    AtomicInteger renders = new AtomicInteger();
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsRenderOnce() throws Exception {
+        // given: 리더가 렌더링하는 동안 팔로워가 도착한다.
+        SingleFlightFilter filter = new SingleFlightFilter(Duration.ofSeconds(5), metrics);
+        CountDownLatch followersArrived = new CountDownLatch(FOLLOWERS);
+        FilterChain chain = (req, resp) -> {
+            renders.incrementAndGet();
+            awaitQuietly(followersArrived);
+            sleep(100);
+            HttpServletResponse http = (HttpServletResponse) resp;
+            http.setHeader("Cache-Control", "no-cache");
+            http.addHeader("X-Rendered-By", "jsp");
+            http.addHeader("X-Rendered-By", "v3");
+            http.addCookie(new Cookie("JSESSIONID", "leader"));
+            resp.setLocale(Locale.KOREA);
+            resp.setContentType("text/html;charset=UTF-8");
+            resp.getWriter().write("<html>회원 목록</html>");
+        };
+
+        // when
+        Future<MockHttpServletResponse> leader = executor.submit(() -> get(filter, chain));
+        while (renders.get() == 0) {
+            Thread.onSpinWait();
+        }
+        List<Future<MockHttpServletResponse>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> {
+                followersArrived.countDown();
+                return get(filter, chain);
+            }));
+        }
+
+        // then
+        String expected = leader.get(5, TimeUnit.SECONDS).getContentAsString();
+        assertThat(expected).isEqualTo("<html>회원 목록</html>");
+        for (Future<MockHttpServletResponse> follower : followers) {
+            MockHttpServletResponse resp = follower.get(5, TimeUnit.SECONDS);
+            assertThat(resp.getContentAsString()).isEqualTo(expected);
+            assertThat(resp.getContentType()).startsWith("text/html");
+            assertThat(resp.getHeader("Cache-Control")).isEqualTo("no-cache");
+            assertThat(resp.getHeaders("X-Rendered-By")).containsExactly("jsp", "v3");
+            assertThat(resp.getLocale()).isEqualTo(Locale.KOREA);
+            assertThat(resp.getCookies()).isEmpty();
+        }
+        assertThat(renders.get()).isEqualTo(1);
+        assertThat(metrics.stats().leaders()).isEqualTo(1);
+        assertThat(metrics.stats().followers()).isEqualTo(FOLLOWERS);
+    }
+
+    @Test
+    void sequentialRequestsAreNotCached() throws Exception {
+        // given
+        SingleFlightFilter filter = new SingleFlightFilter(Duration.ofSeconds(5), metrics);
+        FilterChain chain = (req, resp) -> {
+            renders.incrementAndGet();
+            resp.setContentType("text/html");
+            resp.getWriter().write("ok");
+        };
+
+        // when
+        get(filter, chain);
+        get(filter, chain);
+
+        // then
+        assertThat(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    void followerRendersItselfWhenLeaderFails() throws Exception {
+        // given: 리더 응답이 500
+        SingleFlightFilter filter = new SingleFlightFilter(Duration.ofSeconds(5), metrics);
+        CountDownLatch followerArrived = new CountDownLatch(1);
+        FilterChain chain = (req, resp) -> {
+            if (renders.incrementAndGet() == 1) {
+                awaitQuietly(followerArrived);
+                sleep(100);
+                ((HttpServletResponse) resp).setStatus(500);
+                return;
+            }
+            resp.setContentType("text/html");
+            resp.getWriter().write("ok");
+        };
+
+        // when
+        Future<MockHttpServletResponse> leader = executor.submit(() -> get(filter, chain));
+        while (renders.get() == 0) {
+            Thread.onSpinWait();
+        }
+        Future<MockHttpServletResponse> follower = executor.submit(() -> {
+            followerArrived.countDown();
+            return get(filter, chain);
+        });
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(500);
+        assertThat(follower.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("ok");
+        assertThat(renders.get()).isEqualTo(2);
+    }
+
+    @Test
+    void followerStopsWaitingAfterTimeout() throws Exception {
+        // given: 리더가 timeout 보다 오래 걸린다.
+        SingleFlightFilter filter = new SingleFlightFilter(Duration.ofMillis(50), metrics);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (req, resp) -> {
+            if (renders.incrementAndGet() == 1) {
+                awaitQuietly(release);
+            }
+            resp.setContentType("text/html");
+            resp.getWriter().write("ok");
+        };
+
+        // when
+        Future<MockHttpServletResponse> leader = executor.submit(() -> get(filter, chain));
+        while (renders.get() == 0) {
+            Thread.onSpinWait();
+        }
+        MockHttpServletResponse follower = get(filter, chain);
+        release.countDown();
+
+        // then
+        assertThat(follower.getContentAsString()).isEqualTo("ok");
+        assertThat(leader.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("ok");
+        assertThat(metrics.stats().timeouts()).isEqualTo(1);
+        assertThat(renders.get()).isEqualTo(2);
+    }
+
+    MockHttpServletResponse get(SingleFlightFilter filter, FilterChain chain) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/springmvc/v3/members");
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, chain);
+        return resp;
+    }
+
+    static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package hello.springcoremvc.web.cache;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 500 개 클라이언트가 /springmvc/v3/members 를 동시에 요청하는 버스트를 반복한다.
+ * 요청 합치기를 켰을 때와 껐을 때 MemberRepository.findAll() 호출 횟수와 요청당 CPU 시간을 비교한다.
+ * 페이지 캐시는 끄고 측정한다.
+ * findAll() 호출 횟수는 SingleFlightFilter 안쪽(가장 나중)에 등록한 ScanCountingFilter 를 통과한 요청 수로 센다.
+ * 통과한 요청은 모두 컨트롤러가 findAll() 을 한 번 호출한다. 필터의 리더 수와 따로 센다.
+ *
+ * ./gradlew loadTest --tests '*SingleFlightLoadTest'
+ */
+@Tag("load")
+class SingleFlightLoadTest {
+    static final int MEMBERS = 1_000;
+    static final int CLIENTS = 500;
+    static final int BURSTS = 40;
+    static final String PATH = "/springmvc/v3/members";
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @BeforeEach
+    void beforeEach() {
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @Test
+    void coalesceBursts() throws Exception {
+        Result off = measure(false);
+        Result on = measure(true);
+
+        System.out.println("single-flight off : " + off);
+        System.out.println("single-flight on  : " + on);
+
+        assertThat(off.errors()).isZero();
+        assertThat(on.errors()).isZero();
+        assertThat(off.scans()).isEqualTo(off.requests());
+        assertThat(on.scans()).isLessThan(off.scans() / 10);
+        assertThat(on.cpuMicrosPerRequest()).isLessThan(off.cpuMicrosPerRequest());
+    }
+
+    Result measure(boolean singleFlight) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServletApplication.class, ScanCounting.class)
+                // application.properties 보다 우선하도록 명령행 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + CLIENTS,
+                        "--app.page-cache.enabled=false",
+                        "--app.compression.enabled=false",
+                        "--app.single-flight.enabled=" + singleFlight,
+                        "--app.single-flight.urls=" + PATH
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            ScanCountingFilter scanCounter = context.getBean(ScanCountingFilter.class);
+            HttpClient client = HttpClient.newHttpClient();
+
+            burst(client, uri); // warm-up
+            long scansBefore = scanCounter.scans.sum();
+            long cpuBefore = processCpuNanos();
+
+            long errors = 0;
+            for (int i = 0; i < BURSTS; i++) {
+                errors += burst(client, uri);
+            }
+
+            long cpu = processCpuNanos() - cpuBefore;
+            long scans = scanCounter.scans.sum() - scansBefore;
+            long requests = (long) CLIENTS * BURSTS;
+            return new Result(requests, errors, scans, cpu / 1_000.0 / requests);
+        }
+    }
+
+    /**
+     * CLIENTS 개의 요청을 한꺼번에 보내고 모두 끝날 때까지 기다린다.
+     * @return 실패한 요청 수
+     */
+    long burst(HttpClient client, URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        return responses.stream()
+                .map(f -> f.handle((resp, e) -> e == null && resp.statusCode() == 200))
+                .filter(ok -> !ok.join())
+                .count();
+    }
+
+    static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    /**
+     * 테스트에서만 쓰는 빈, 실행할 때 소스로 직접 넘긴다.
+     * @Configuration 을 붙이지 않아서 다른 테스트가 띄우는 애플리케이션의 컴포넌트 스캔에 잡히지 않는다.
+     */
+    static class ScanCounting {
+        @Bean
+        ScanCountingFilter scanCountingFilter() {
+            return new ScanCountingFilter();
+        }
+
+        @Bean
+        FilterRegistrationBean<ScanCountingFilter> scanCountingFilterRegistration(ScanCountingFilter filter) {
+            FilterRegistrationBean<ScanCountingFilter> registration = new FilterRegistrationBean<>(filter);
+            registration.addUrlPatterns(PATH);
+            registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    /**
+     * 컨트롤러까지 간 요청 수 = findAll() 호출 수
+     */
+    static class ScanCountingFilter extends HttpFilter {
+        final LongAdder scans = new LongAdder();
+
+        @Override
+        protected void doFilter(
+                HttpServletRequest req,
+                HttpServletResponse resp,
+                FilterChain chain
+        ) throws IOException, ServletException {
+            scans.increment();
+            chain.doFilter(req, resp);
+        }
+    }
+
+    record Result(
+            long requests,
+            long errors,
+            long scans,
+            double cpuMicrosPerRequest
+    ) {
+        @Override
+        public String toString() {
+            return String.format("requests=%d, errors=%d, findAll scans=%d, cpu=%.1f us/req",
+                    requests, errors, scans, cpuMicrosPerRequest);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package hello.springcoremvc.web.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResourceLoader;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompressionFilterTest {
+    static final String LARGE = "<tr><td>member</td></tr>".repeat(1_000);
+
+    CompressionMetrics metrics = new CompressionMetrics();
+    CompressionFilter filter = new CompressionFilter(1024, 6, 4, metrics);
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        MockServletContext servletContext = new MockServletContext("src/main/webapp", new FileSystemResourceLoader());
+        filter.init(new MockFilterConfig(servletContext));
+    }
+
+    @Test
+    void gzip() throws Exception {
+        // when
+        MockHttpServletResponse resp = filter("/members", "gzip, deflate", new TextServlet(LARGE));
+
+        // then
+        assertThat(resp.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(resp.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(resp.getHeader("ETag")).isEqualTo("\"page-gzip\"");
+        assertThat(resp.getContentAsByteArray().length).isLessThan(LARGE.length());
+        assertThat(gunzip(resp.getContentAsByteArray())).isEqualTo(LARGE);
+
+        CompressionStats stats = metrics.stats();
+        assertThat(stats.compressedResponses()).isEqualTo(1);
+        assertThat(stats.bytesIn()).isEqualTo(LARGE.length());
+        assertThat(stats.bytesSavedPerResponse()).isPositive();
+    }
+
+    @Test
+    void deflate() throws Exception {
+        MockHttpServletResponse resp = filter("/members", "deflate", new TextServlet(LARGE));
+
+        assertThat(resp.getHeader("Content-Encoding")).isEqualTo("deflate");
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(resp.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LARGE);
+        }
+    }
+
+    @Test
+    void smallResponseIsNotCompressed() throws Exception {
+        MockHttpServletResponse resp = filter("/members", "gzip", new TextServlet("small"));
+
+        assertThat(resp.getHeader("Content-Encoding")).isNull();
+        assertThat(resp.getContentLength()).isEqualTo(5);
+        assertThat(resp.getContentAsString()).isEqualTo("small");
+    }
+
+    @Test
+    void notAccepted() throws Exception {
+        MockHttpServletResponse resp = filter("/members", "gzip;q=0", new TextServlet(LARGE));
+
+        assertThat(resp.getHeader("Content-Encoding")).isNull();
+        assertThat(resp.getContentAsString()).isEqualTo(LARGE);
+    }
+
+    @Test
+    void precompressedStaticPage() throws Exception {
+        // given
+        String original = Files.readString(Path.of("src/main/webapp/index.html"));
+        TextServlet servlet = new TextServlet("not used");
+
+        // when
+        MockHttpServletResponse resp = filter("/index.html", "gzip", servlet);
+
+        // then
+        assertThat(servlet.called).isFalse();
+        assertThat(resp.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gunzip(resp.getContentAsByteArray())).isEqualTo(original);
+        assertThat(metrics.stats().precompressedResponses()).isEqualTo(1);
+    }
+
+    @Test
+    void writeListenerGoesToUnderlyingStream() throws Exception {
+        // given
+        ListenerRecordingResponse underlying = new ListenerRecordingResponse();
+        CompressionResponseWrapper wrapper = new CompressionResponseWrapper(
+                underlying, ContentCoding.GZIP, 1024, new DeflaterPool(1, 6), metrics
+        );
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        };
+
+        // when
+        wrapper.getOutputStream().setWriteListener(listener);
+        underlying.ready = false;
+
+        // then
+        assertThat(underlying.listener).isSameAs(listener);
+        assertThat(wrapper.getOutputStream().isReady()).isFalse();
+    }
+
+    MockHttpServletResponse filter(String uri, String acceptEncoding, HttpServlet servlet) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        req.addHeader("Accept-Encoding", acceptEncoding);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, new MockFilterChain(servlet));
+        return resp;
+    }
+
+    String gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * MockHttpServletResponse 의 스트림은 setWriteListener 를 지원하지 않으므로 받은 리스너만 기록한다.
+     */
+    static class ListenerRecordingResponse extends MockHttpServletResponse {
+        WriteListener listener;
+        boolean ready = true;
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return ready;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    listener = writeListener;
+                }
+
+                @Override
+                public void write(int b) {
+                }
+            };
+        }
+    }
+
+    static class TextServlet extends HttpServlet {
+        final String body;
+        boolean called;
+
+        TextServlet(String body) {
+            this.body = body;
+        }
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            called = true;
+            resp.setContentType("text/html");
+            resp.setCharacterEncoding("utf-8");
+            resp.setHeader("ETag", "\"page\"");
+            resp.getWriter().write(body);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package hello.springcoremvc.web.dispatch;
+
+import hello.springcoremvc.config.WebMvcConfig;
+import hello.springcoremvc.web.frontcontroller.v1.FrontControllerServletV1;
+import hello.springcoremvc.web.frontcontroller.v2.FrontControllerServletV2;
+import hello.springcoremvc.web.frontcontroller.v3.FrontControllerServletV3;
+import hello.springcoremvc.web.frontcontroller.v4.FrontControllerServletV4;
+import hello.springcoremvc.web.frontcontroller.v5.FrontControllerServletV5;
+import hello.springcoremvc.web.servlet.MemberFormServlet;
+import hello.springcoremvc.web.servlet.MemberListServlet;
+import hello.springcoremvc.web.servlet.MemberSaveServlet;
+import hello.springcoremvc.web.servletmvc.MvcMemberFormServlet;
+import hello.springcoremvc.web.servletmvc.MvcMemberListServlet;
+import hello.springcoremvc.web.servletmvc.MvcMemberSaveServlet;
+import hello.springcoremvc.web.springmvc.v1.SpringMemberFormControllerV1;
+import hello.springcoremvc.web.springmvc.v1.SpringMemberListControllerV1;
+import hello.springcoremvc.web.springmvc.v1.SpringMemberSaveControllerV1;
+import hello.springcoremvc.web.springmvc.v2.SpringMemberControllerV2;
+import hello.springcoremvc.web.springmvc.v3.SpringMemberControllerV3;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.view.InternalResourceViewResolver;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 톰캣 없이 호출하는 세대별 디스패처 (벤치마크, 할당량 테스트 공용)
+ * 같은 회원 관리 흐름(form, save, list)을 처리하는 세대별 디스패처를 톰캣 없이 목 요청으로 호출한다.
+ * JSP 는 MockRequestDispatcher 가 forward 경로만 기록하므로 뷰 렌더링 비용은 JSP 실행 전까지다.
+ *
+ * src/jmh 는 jmh { includeTests = true } 로 테스트 클래스를 함께 컴파일하므로 여기에 하나만 둔다.
+ */
+public final class Dispatchers {
+    /**
+     * 디스패처 이름 -> 회원 목록 URL (form: + "/new-form", save: + "/save")
+     */
+    public static final String[][] MEMBER_URLS = {
+            {"servlet", "/servlet/members"},
+            {"servlet-mvc", "/servlet-mvc/members"},
+            {"front-controller-v1", "/front-controller/v1/members"},
+            {"front-controller-v2", "/front-controller/v2/members"},
+            {"front-controller-v3", "/front-controller/v3/members"},
+            {"front-controller-v4", "/front-controller/v4/members"},
+            {"front-controller-v5-v3", "/front-controller/v5/v3/members"},
+            {"front-controller-v5-v4", "/front-controller/v5/v4/members"},
+            {"front-controller-v5-v6", "/front-controller/v5/v6/members"},
+            {"springmvc-v1", "/springmvc/v1/members"},
+            {"springmvc-v2", "/springmvc/v2/members"},
+            {"springmvc-v3", "/springmvc/v3/members"},
+    };
+
+    private Dispatchers() {
+    }
+
+    public static String membersUrl(String dispatcher) {
+        for (String[] entry : MEMBER_URLS) {
+            if (entry[0].equals(dispatcher)) {
+                return entry[1];
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 디스패처입니다. dispatcher = " + dispatcher);
+    }
+
+    public static String url(String dispatcher, String workflow) {
+        String members = membersUrl(dispatcher);
+        return switch (workflow) {
+            case "form" -> members + "/new-form";
+            case "save" -> members + "/save";
+            case "list" -> members;
+            default -> throw new IllegalArgumentException("알 수 없는 흐름입니다. workflow = " + workflow);
+        };
+    }
+
+    /**
+     * url() 의 반대, URL 을 처리하는 디스패처 이름
+     */
+    public static String dispatcher(String url) {
+        for (String[] entry : MEMBER_URLS) {
+            if (url.equals(entry[1]) || url.startsWith(entry[1] + "/")) {
+                return entry[0];
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 URL 입니다. url = " + url);
+    }
+
+    /**
+     * url() 의 반대, URL 의 흐름 (form, save, list)
+     */
+    public static String workflow(String url) {
+        if (url.endsWith("/new-form")) {
+            return "form";
+        }
+        if (url.endsWith("/save")) {
+            return "save";
+        }
+        return "list";
+    }
+
+    /**
+     * 서블릿은 URL 마다 다른 클래스, 프론트 컨트롤러는 세대별로 하나, 스프링 MVC 는 DispatcherServlet 하나다.
+     */
+    public static HttpServlet create(String dispatcher, String workflow) throws ServletException {
+        return switch (dispatcher) {
+            case "servlet" -> switch (workflow) {
+                case "form" -> new MemberFormServlet();
+                case "save" -> new MemberSaveServlet();
+                default -> new MemberListServlet();
+            };
+            case "servlet-mvc" -> switch (workflow) {
+                case "form" -> new MvcMemberFormServlet();
+                case "save" -> new MvcMemberSaveServlet();
+                default -> new MvcMemberListServlet();
+            };
+            case "front-controller-v1" -> new FrontControllerServletV1();
+            case "front-controller-v2" -> new FrontControllerServletV2();
+            case "front-controller-v3" -> new FrontControllerServletV3();
+            case "front-controller-v4" -> new FrontControllerServletV4();
+            case "front-controller-v5-v3", "front-controller-v5-v4", "front-controller-v5-v6" ->
+                    new FrontControllerServletV5();
+            case "springmvc-v1", "springmvc-v2", "springmvc-v3" -> dispatcherServlet();
+            default -> throw new IllegalArgumentException("알 수 없는 디스패처입니다. dispatcher = " + dispatcher);
+        };
+    }
+
+    public static DispatcherServlet dispatcherServlet() throws ServletException {
+        MockServletContext servletContext = new MockServletContext();
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.register(SpringMvcConfig.class);
+        context.setServletContext(servletContext);
+
+        DispatcherServlet dispatcherServlet = new DispatcherServlet(context);
+        dispatcherServlet.init(new MockServletConfig(servletContext, "dispatcherServlet"));
+        return dispatcherServlet;
+    }
+
+    /**
+     * 실제 요청처럼 save 는 폼 본문과 파라미터를 모두 채운다.
+     * 목 요청의 본문 스트림은 한 번만 읽을 수 있으므로 요청마다 새로 만든다.
+     */
+    public static MockHttpServletRequest request(String workflow, String url) {
+        if (!"save".equals(workflow)) {
+            return new MockHttpServletRequest("GET", url);
+        }
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", url);
+        req.setContentType("application/x-www-form-urlencoded");
+        req.setCharacterEncoding("UTF-8");
+        req.setContent("username=kim&age=20".getBytes(StandardCharsets.UTF_8));
+        req.addParameter("username", "kim");
+        req.addParameter("age", "20");
+        return req;
+    }
+
+    /**
+     * 애플리케이션과 같은 스프링 MVC 컨트롤러, 인자 리졸버, JSP 뷰 리졸버
+     * 테스트 소스에 있으므로 @SpringBootTest 의 컴포넌트 스캔에 잡히지 않도록 @Configuration 을 붙이지 않는다.
+     */
+    @EnableWebMvc
+    @Import({
+            WebMvcConfig.class,
+            SpringMemberFormControllerV1.class,
+            SpringMemberSaveControllerV1.class,
+            SpringMemberListControllerV1.class,
+            SpringMemberControllerV2.class,
+            SpringMemberControllerV3.class,
+    })
+    static class SpringMvcConfig {
+        @Bean
+        InternalResourceViewResolver viewResolver() {
+            return new InternalResourceViewResolver("/WEB-INF/views/", ".jsp");
+        }
+    }
+}
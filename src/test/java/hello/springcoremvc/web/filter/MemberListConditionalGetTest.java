@@ -0,0 +1,79 @@
+package hello.springcoremvc.web.filter;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 모든 회원 목록 엔드포인트가 ETag 를 내려주고, 같은 ETag 로 다시 요청하면 본문 없이 304 로 응답한다.
+ */
+@SpringBootTest(
+        classes = ServletApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.warm-up.enabled=false"
+)
+class MemberListConditionalGetTest {
+    @LocalServerPort
+    int port;
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+    HttpClient client = HttpClient.newHttpClient();
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/servlet/members",
+            "/servlet-mvc/members",
+            "/front-controller/v1/members",
+            "/front-controller/v2/members",
+            "/front-controller/v3/members",
+            "/front-controller/v3/members?stream",
+            "/front-controller/v4/members",
+            "/front-controller/v5/v3/members",
+            "/front-controller/v5/v4/members",
+            "/front-controller/v5/v6/members",
+            "/front-controller/v5/async/members",
+            "/front-controller/v5/api/members",
+            "/springmvc/v1/members",
+            "/springmvc/v2/members",
+            "/springmvc/v3/members",
+    })
+    void conditionalGet(String path) throws Exception {
+        // given
+        memberRepository.save(new Member("member1", 20));
+        HttpResponse<String> first = get(path, null);
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        // when
+        HttpResponse<String> second = get(path, etag);
+
+        // then
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(second.statusCode()).isEqualTo(304);
+        assertThat(second.body()).isEmpty();
+    }
+
+    HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (ifNoneMatch != null) {
+            builder.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,114 @@
+package hello.springcoremvc.web.filter;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.servlet.MemberListServlet;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemberListETagFilterTest {
+    MemberRepository memberRepository = MemberRepository.getInstance();
+    MemberListETagFilter filter = new MemberListETagFilter();
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @Test
+    void notModifiedSkipsScanAndRender() throws Exception {
+        // given
+        memberRepository.save(new Member("member1", 20));
+        CountingMemberListServlet servlet = new CountingMemberListServlet();
+        MockHttpServletResponse first = filter(servlet, null);
+        String etag = first.getHeader("ETag");
+
+        // when
+        MockHttpServletResponse second = filter(servlet, etag);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(second.getHeader("ETag")).isEqualTo(etag);
+        assertThat(servlet.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void modifiedAfterSave() throws Exception {
+        // given
+        CountingMemberListServlet servlet = new CountingMemberListServlet();
+        String etag = filter(servlet, null).getHeader("ETag");
+
+        // when
+        memberRepository.save(new Member("member1", 20));
+        MockHttpServletResponse response = filter(servlet, etag);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isNotEqualTo(etag);
+        assertThat(servlet.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void notModifiedOnlyWithinSameBoot() throws Exception {
+        // given: 재시작 전에 받은 ETag
+        CountingMemberListServlet servlet = new CountingMemberListServlet();
+        String etag = filter(servlet, null).getHeader("ETag");
+
+        // when: 재시작해서 수정 버전이 같아진 경우
+        filter = new MemberListETagFilter();
+        MockHttpServletResponse response = filter(servlet, etag);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isNotEqualTo(etag);
+    }
+
+    @Test
+    void matches() {
+        String etag = MemberListETagFilter.etag("a1", 3, null);
+
+        assertThat(MemberListETagFilter.matches(etag, etag)).isTrue();
+        assertThat(MemberListETagFilter.matches("\"x\", W/" + etag, etag)).isTrue();
+        assertThat(MemberListETagFilter.matches("*", etag)).isTrue();
+        assertThat(MemberListETagFilter.matches(MemberListETagFilter.etag("a1", 2, null), etag)).isFalse();
+        assertThat(MemberListETagFilter.matches(MemberListETagFilter.etag("a1", 3, "stream"), etag)).isFalse();
+        assertThat(MemberListETagFilter.matches(MemberListETagFilter.etag("b2", 3, null), etag)).isFalse();
+    }
+
+    MockHttpServletResponse filter(HttpServlet servlet, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/servlet/members");
+        if (ifNoneMatch != null) {
+            req.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, new MockFilterChain(servlet));
+        return resp;
+    }
+
+    /**
+     * 저장소 조회와 렌더링이 일어난 횟수를 센다.
+     */
+    static class CountingMemberListServlet extends MemberListServlet {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+            calls.incrementAndGet();
+            super.service(req, resp);
+        }
+    }
+}
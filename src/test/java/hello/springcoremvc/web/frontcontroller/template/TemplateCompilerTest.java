@@ -0,0 +1,68 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.web.support.Utf8ResponseWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TemplateCompilerTest {
+    TemplateCompiler compiler = new TemplateCompiler();
+
+    @Test
+    void renderEach() throws IOException {
+        // given
+        Template template = compiler.compile("list", """
+                {{@import hello.springcoremvc.model.Member}}
+                {{#each Member item : members}}[{{item.id}}|{{item.username}}|{{item.age}}]{{/each}}""");
+        Member m1 = new Member("<member1>", 20);
+        m1.setId(1L);
+        Member m2 = new Member("회원2", 30);
+
+        // when
+        String result = render(template, Map.of("members", List.of(m1, m2)));
+
+        // then
+        assertThat(result).isEqualTo("[1|&lt;member1&gt;|20][|회원2|30]");
+    }
+
+    @Test
+    void renderModel() throws IOException {
+        // given
+        Template template = compiler.compile("model", """
+                {{@model hello.springcoremvc.model.Member member}}
+                username={{member.username}}, age={{member.age}}, title={{title}}""");
+        Member member = new Member("hello", 20);
+
+        // when
+        String result = render(template, Map.of("member", member, "title", "a&b"));
+
+        // then
+        assertThat(result).isEqualTo("username=hello, age=20, title=a&amp;b");
+    }
+
+    @Test
+    void compileError() {
+        assertThatThrownBy(() -> compiler.compile("unknown", "{{@model hello.springcoremvc.model.Member m}}{{m.nickname}}"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("nickname");
+        assertThatThrownBy(() -> compiler.compile("untyped", "{{member.username}}"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> compiler.compile("unclosed", "{{#each hello.springcoremvc.model.Member m : members}}"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    String render(Template template, Map<String, Object> model) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8ResponseWriter writer = new Utf8ResponseWriter(out, 16);
+        template.render(model::get, writer);
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package hello.springcoremvc.web.frontcontroller.template;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.load.ClosedLoopLoad;
+import hello.springcoremvc.load.LoadResult;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 뷰를 JSP 와 미리 컴파일한 템플릿으로 렌더링했을 때의 처리량 비교
+ * 회원 1,000명 목록, /front-controller/v5/v3/members
+ *
+ * ./gradlew loadTest --tests '*TemplateEngineLoadTest'
+ */
+@Tag("load")
+@SpringBootTest(
+        classes = ServletApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.page-cache.enabled=false"
+)
+class TemplateEngineLoadTest {
+    static final int MEMBERS = 1_000;
+    static final int CLIENTS = 32;
+
+    @LocalServerPort
+    int port;
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+    TemplateEngine templateEngine = TemplateEngine.getInstance();
+
+    @BeforeEach
+    void beforeEach() {
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+        templateEngine.setEnabled(false);
+    }
+
+    @Test
+    void compareJspAndTemplate() throws Exception {
+        templateEngine.setEnabled(false);
+        LoadResult jsp = measure("/front-controller/v5/v3/members");
+        templateEngine.setEnabled(true);
+        LoadResult template = measure("/front-controller/v5/v3/members");
+
+        System.out.println("jsp      : " + jsp);
+        System.out.println("template : " + template);
+
+        assertThat(template.errors()).isZero();
+        assertThat(template.throughput()).isGreaterThan(jsp.throughput());
+    }
+
+    LoadResult measure(String path) throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + path);
+        ClosedLoopLoad load = new ClosedLoopLoad();
+        load.run(uri, CLIENTS, Duration.ofSeconds(3)); // warm-up
+        return load.run(uri, CLIENTS, Duration.ofSeconds(5));
+    }
+}
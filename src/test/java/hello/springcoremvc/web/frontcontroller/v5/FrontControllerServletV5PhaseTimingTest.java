@@ -0,0 +1,84 @@
+package hello.springcoremvc.web.frontcontroller.v5;
+
+import hello.springcoremvc.model.MemberRepository;
+import hello.springcoremvc.web.metrics.LatencyHistogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FrontControllerServletV5PhaseTimingTest {
+    FrontControllerServletV5 servlet = new FrontControllerServletV5();
+    PhaseTimings phaseTimings = PhaseTimings.getInstance();
+
+    @AfterEach
+    void afterEach() {
+        phaseTimings.configure(0, false);
+        servlet.destroy();
+        MemberRepository.getInstance().clearStore();
+    }
+
+    @Test
+    void serverTimingHeader() throws Exception {
+        // given
+        phaseTimings.configure(1, true);
+        Map<String, LatencyHistogram.Snapshot> before = phaseTimings.snapshot();
+
+        // when
+        MockHttpServletResponse resp = get("/front-controller/v5/v3/members");
+
+        // then
+        assertThat(resp.getForwardedUrl()).isEqualTo("/WEB-INF/views/members.jsp");
+        assertThat(resp.getHeader("Server-Timing"))
+                .matches("mapping;dur=\\d+\\.\\d{3}, adapter;dur=\\d+\\.\\d{3}, handle;dur=\\d+\\.\\d{3}, resolve;dur=\\d+\\.\\d{3}");
+        Map<String, LatencyHistogram.Snapshot> after = phaseTimings.snapshot();
+        for (Phase phase : Phase.values()) {
+            assertThat(after.get(phase.metricName()).count() - before.get(phase.metricName()).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void notSampled() throws Exception {
+        // given
+        phaseTimings.configure(0, true);
+        long before = phaseTimings.snapshot().get("mapping").count();
+
+        // when
+        MockHttpServletResponse resp = get("/front-controller/v5/v3/members");
+
+        // then
+        assertThat(resp.getHeader("Server-Timing")).isNull();
+        assertThat(phaseTimings.snapshot().get("mapping").count()).isEqualTo(before);
+    }
+
+    @Test
+    void histogramsWithoutHeader() throws Exception {
+        // given
+        phaseTimings.configure(1, false);
+        long before = phaseTimings.snapshot().get("render").count();
+
+        // when
+        MockHttpServletResponse resp = get("/front-controller/v5/v3/members");
+
+        // then
+        assertThat(resp.getHeader("Server-Timing")).isNull();
+        assertThat(phaseTimings.snapshot().get("render").count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void invalidSampleRate() {
+        assertThatThrownBy(() -> phaseTimings.configure(1.5, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    MockHttpServletResponse get(String uri) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        servlet.service(req, resp);
+        return resp;
+    }
+}
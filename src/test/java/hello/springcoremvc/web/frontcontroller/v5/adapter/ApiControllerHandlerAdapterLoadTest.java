@@ -0,0 +1,113 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.load.ClosedLoopLoad;
+import hello.springcoremvc.load.LoadResult;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 1,000명 목록 응답 처리량 비교
+ *  - jsp       : /front-controller/v5/v3/members, MyView -> JSP forward
+ *  - string    : ResponseJsonServlet 방식, writeValueAsString 후 getWriter().write
+ *  - streaming : /front-controller/v5/api/members, ApiControllerHandlerAdapter
+ *
+ * ./gradlew loadTest --tests '*ApiControllerHandlerAdapterLoadTest'
+ */
+@Tag("load")
+@SpringBootTest(
+        classes = ServletApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.page-cache.enabled=false"
+)
+@Import(ApiControllerHandlerAdapterLoadTest.StringJsonConfig.class)
+class ApiControllerHandlerAdapterLoadTest {
+    static final int MEMBERS = 1_000;
+    static final int CLIENTS = 32;
+
+    @LocalServerPort
+    int port;
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @BeforeEach
+    void beforeEach() {
+        for (int i = 0; i < MEMBERS; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @Test
+    void compareMemberListResponses() throws Exception {
+        LoadResult jsp = measure("/front-controller/v5/v3/members");
+        LoadResult string = measure("/test/string-json/members");
+        LoadResult streaming = measure("/front-controller/v5/api/members");
+
+        System.out.println("jsp       : " + jsp);
+        System.out.println("string    : " + string);
+        System.out.println("streaming : " + streaming);
+
+        assertThat(streaming.errors()).isZero();
+        assertThat(streaming.throughput()).isGreaterThan(jsp.throughput());
+    }
+
+    LoadResult measure(String path) throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + path);
+        ClosedLoopLoad load = new ClosedLoopLoad();
+        load.run(uri, CLIENTS, Duration.ofSeconds(3)); // warm-up
+        return load.run(uri, CLIENTS, Duration.ofSeconds(5));
+    }
+
+    @TestConfiguration
+    static class StringJsonConfig {
+        @Bean
+        ServletRegistrationBean<HttpServlet> stringJsonServlet() {
+            return new ServletRegistrationBean<>(new StringJsonMembersServlet(), "/test/string-json/members");
+        }
+    }
+
+    /**
+     * ResponseJsonServlet 과 같은 방식으로 회원 목록을 응답한다.
+     */
+    static class StringJsonMembersServlet extends HttpServlet {
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final MemberRepository memberRepository = MemberRepository.getInstance();
+
+        @Override
+        protected void service(
+                HttpServletRequest req,
+                HttpServletResponse resp
+        ) throws IOException {
+            resp.setContentType("application/json");
+            resp.setCharacterEncoding("utf-8");
+
+            String result = objectMapper.writeValueAsString(memberRepository.findAll());
+            resp.getWriter().write(result);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import hello.springcoremvc.web.frontcontroller.api.ApiController;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApiControllerHandlerAdapterTest {
+    ApiControllerHandlerAdapter adapter = new ApiControllerHandlerAdapter();
+    ApiController controller = paramMap -> List.of(Map.of("username", "kim"));
+
+    @Test
+    void json() throws Exception {
+        MockHttpServletResponse resp = get("text/html, application/json;q=0.9");
+
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getContentType()).startsWith("application/json");
+        assertThat(resp.getContentAsString()).isEqualTo("[{\"username\":\"kim\"}]");
+    }
+
+    @Test
+    void wildcardAcceptsJson() throws Exception {
+        MockHttpServletResponse resp = get("text/html;q=0, application/*;q=0.5");
+
+        assertThat(resp.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void noAcceptHeader() throws Exception {
+        MockHttpServletResponse resp = get(null);
+
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getContentAsString()).isEqualTo("[{\"username\":\"kim\"}]");
+    }
+
+    @Test
+    void notAcceptable() throws Exception {
+        for (String accept : List.of(
+                "text/html",
+                "application/json;q=0",
+                "application/json;q=0, */*",
+                "text/*, application/*;q=0, */*",
+                "not a media type"
+        )) {
+            // when
+            MockHttpServletResponse resp = get(accept);
+
+            // then
+            assertThat(resp.getStatus()).as(accept).isEqualTo(406);
+            assertThat(resp.getContentAsByteArray()).as(accept).isEmpty();
+        }
+    }
+
+    MockHttpServletResponse get(String accept) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/front-controller/v5/api/members");
+        if (accept != null) {
+            req.addHeader("Accept", accept);
+        }
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        assertThat(adapter.handle(req, resp, controller)).isNull();
+        return resp;
+    }
+}
@@ -0,0 +1,129 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import hello.springcoremvc.load.ClosedLoopLoad;
+import hello.springcoremvc.load.LoadResult;
+import hello.springcoremvc.load.TestTomcat;
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.MyView;
+import hello.springcoremvc.web.frontcontroller.async.AsyncController;
+import hello.springcoremvc.web.frontcontroller.v4.ControllerV4;
+import hello.springcoremvc.web.frontcontroller.v5.MyHandlerAdapter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 백엔드 지연 50ms, 워커 쓰레드 20개, 동시 클라이언트 200명
+ *  - sync  : ControllerV4HandlerAdapter, 컨트롤러가 50ms 동안 워커 쓰레드를 붙잡는다.
+ *  - async : AsyncControllerHandlerAdapter, 50ms 동안 워커 쓰레드를 반환한다.
+ *
+ * ./gradlew loadTest --tests '*AsyncControllerHandlerAdapterLoadTest'
+ */
+@Tag("load")
+class AsyncControllerHandlerAdapterLoadTest {
+    static final int WORKER_THREADS = 20;
+    static final int CLIENTS = 200;
+    static final long BACKEND_LATENCY_MILLIS = 50;
+
+    Function<String, MyView> viewResolver = viewName -> new MyView("/view");
+
+    @Test
+    void asyncAdapterReleasesWorkerThreads() throws Exception {
+        ControllerV4 syncController = (paramMap, model) -> {
+            sleep(BACKEND_LATENCY_MILLIS);
+            model.put("result", "sync");
+            return "result";
+        };
+
+        Executor backend = CompletableFuture.delayedExecutor(BACKEND_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+        AsyncController asyncController = paramMap -> CompletableFuture.supplyAsync(() -> {
+            ModelView mv = new ModelView("result");
+            mv.getModel().put("result", "async");
+            return mv;
+        }, backend);
+
+        try (TestTomcat tomcat = new TestTomcat(WORKER_THREADS)) {
+            tomcat.addServlet("/sync", new DispatchServlet(syncController, new ControllerV4HandlerAdapter()))
+                    .addServlet("/async", new DispatchServlet(asyncController, new AsyncControllerHandlerAdapter(viewResolver, 5_000)))
+                    .addServlet("/view", new ViewServlet())
+                    .start();
+
+            LoadResult sync = measure(tomcat, "/sync");
+            double syncUtilization = tomcat.workerUtilization();
+
+            LoadResult async = measure(tomcat, "/async");
+            double asyncUtilization = tomcat.workerUtilization();
+
+            System.out.printf("sync  : %s, worker utilization=%.0f%%%n", sync, syncUtilization * 100);
+            System.out.printf("async : %s, worker utilization=%.0f%%%n", async, asyncUtilization * 100);
+
+            assertThat(sync.errors()).isZero();
+            assertThat(async.errors()).isZero();
+            // sync 는 워커 20개 / 50ms = 최대 400 req/s 로 막힌다.
+            assertThat(async.throughput()).isGreaterThan(sync.throughput() * 2);
+            assertThat(asyncUtilization).isLessThan(syncUtilization);
+        }
+    }
+
+    LoadResult measure(TestTomcat tomcat, String path) throws InterruptedException {
+        ClosedLoopLoad load = new ClosedLoopLoad();
+        load.run(tomcat.uri(path), CLIENTS, Duration.ofSeconds(1)); // warm-up
+        tomcat.resetUtilization();
+        return load.run(tomcat.uri(path), CLIENTS, Duration.ofSeconds(5));
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * FrontControllerServletV5.service() 와 같은 흐름으로 어댑터 하나만 호출한다.
+     */
+    class DispatchServlet extends HttpServlet {
+        private final Object handler;
+        private final MyHandlerAdapter adapter;
+
+        DispatchServlet(Object handler, MyHandlerAdapter adapter) {
+            this.handler = handler;
+            this.adapter = adapter;
+        }
+
+        @Override
+        protected void service(
+                HttpServletRequest req,
+                HttpServletResponse resp
+        ) throws ServletException, IOException {
+            ModelView mv = adapter.handle(req, resp, handler);
+            if (mv == null) {
+                return;
+            }
+            viewResolver.apply(mv.getViewName()).render(mv.getModel(), req, resp);
+        }
+    }
+
+    static class ViewServlet extends HttpServlet {
+        @Override
+        protected void service(
+                HttpServletRequest req,
+                HttpServletResponse resp
+        ) throws IOException {
+            resp.getWriter().write("result=" + req.getAttribute("result"));
+        }
+    }
+}
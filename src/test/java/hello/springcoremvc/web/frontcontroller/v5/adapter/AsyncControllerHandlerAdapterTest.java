@@ -0,0 +1,124 @@
+package hello.springcoremvc.web.frontcontroller.v5.adapter;
+
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import hello.springcoremvc.web.frontcontroller.MyView;
+import hello.springcoremvc.web.frontcontroller.async.AsyncController;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncControllerHandlerAdapterTest {
+    static final long TIMEOUT_MILLIS = 1_000;
+
+    List<String> resolvedViews = new ArrayList<>();
+    AsyncControllerHandlerAdapter adapter = new AsyncControllerHandlerAdapter(viewName -> {
+        resolvedViews.add(viewName);
+        return new MyView("/WEB-INF/views/" + viewName + ".jsp");
+    }, TIMEOUT_MILLIS);
+
+    MockHttpServletRequest req = new MockHttpServletRequest("GET", "/front-controller/v5/async/members");
+    MockHttpServletResponse resp = new MockHttpServletResponse();
+
+    @Test
+    void render() {
+        // when
+        handle(paramMap -> CompletableFuture.completedFuture(new ModelView("members")));
+
+        // then
+        MockAsyncContext asyncContext = (MockAsyncContext) req.getAsyncContext();
+        assertThat(asyncContext.getTimeout()).isEqualTo(TIMEOUT_MILLIS);
+        assertThat(asyncContext.getDispatchedPath()).isEqualTo("/WEB-INF/views/members.jsp");
+        assertThat(resolvedViews).containsExactly("members");
+    }
+
+    @Test
+    void timeout() throws IOException {
+        // given: future 가 타임아웃까지 완료되지 않는다.
+        CompletableFuture<ModelView> future = new CompletableFuture<>();
+        handle(paramMap -> future);
+
+        // when
+        fireTimeout();
+        future.complete(new ModelView("members"));
+
+        // then: 늦게 완료된 future 는 렌더링하지 않는다.
+        assertThat(resp.getStatus()).isEqualTo(503);
+        assertThat(req.isAsyncStarted()).isFalse();
+        assertThat(resolvedViews).isEmpty();
+    }
+
+    @Test
+    void failedFuture() {
+        // when
+        handle(paramMap -> CompletableFuture.failedFuture(new IllegalStateException("backend down")));
+
+        // then
+        assertThat(resp.getStatus()).isEqualTo(500);
+        assertThat(req.isAsyncStarted()).isFalse();
+        assertThat(resolvedViews).isEmpty();
+    }
+
+    @Test
+    void nullModelView() throws IOException {
+        // when
+        handle(paramMap -> CompletableFuture.completedFuture(null));
+        fireTimeout();
+
+        // then: 응답을 완료했으므로 타임아웃을 기다리지 않는다.
+        assertThat(resp.getStatus()).isEqualTo(500);
+        assertThat(req.isAsyncStarted()).isFalse();
+        assertThat(resolvedViews).isEmpty();
+    }
+
+    @Test
+    void viewResolverThrows() throws IOException {
+        // given
+        AsyncControllerHandlerAdapter adapter = new AsyncControllerHandlerAdapter(viewName -> {
+            throw new IllegalArgumentException("no view " + viewName);
+        }, TIMEOUT_MILLIS);
+        req.setAsyncSupported(true);
+
+        // when
+        adapter.handle(req, resp, (AsyncController) paramMap -> CompletableFuture.completedFuture(new ModelView("members")));
+        fireTimeout();
+
+        // then
+        assertThat(resp.getStatus()).isEqualTo(500);
+        assertThat(req.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    void controllerThrows() throws IOException {
+        // when
+        handle(paramMap -> {
+            throw new IllegalArgumentException("bad request");
+        });
+        fireTimeout();
+
+        // then: 이미 500 으로 끝났으므로 타임아웃은 무시된다.
+        assertThat(resp.getStatus()).isEqualTo(500);
+        assertThat(resolvedViews).isEmpty();
+    }
+
+    void handle(AsyncController controller) {
+        req.setAsyncSupported(true);
+        assertThat(adapter.handle(req, resp, controller)).isNull();
+    }
+
+    void fireTimeout() throws IOException {
+        MockAsyncContext asyncContext = (MockAsyncContext) req.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+    }
+}
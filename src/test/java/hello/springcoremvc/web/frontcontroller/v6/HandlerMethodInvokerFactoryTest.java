@@ -0,0 +1,126 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.web.frontcontroller.ModelView;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HandlerMethodInvokerFactoryTest {
+    HandlerMethodInvokerFactory factory = new HandlerMethodInvokerFactory();
+    Handlers handlers = new Handlers();
+
+    @Test
+    void invoke() throws Exception {
+        // given
+        HandlerMethodInvoker noArgs = factory.create(method("noArgs"));
+        HandlerMethodInvoker primitives = factory.create(method("primitives", int.class, long.class));
+        HandlerMethodInvoker manyArgs = factory.create(method("manyArgs",
+                String.class, String.class, String.class, String.class, String.class, String.class));
+        HandlerMethodInvoker modelView = factory.create(method("modelView", String.class));
+
+        // when, then
+        assertThat(noArgs.invoke(handlers, new Object[0])).isEqualTo("no-args");
+        assertThat(primitives.invoke(handlers, new Object[]{1, 2L})).isEqualTo("3");
+        assertThat(manyArgs.invoke(handlers, new Object[]{"a", "b", "c", "d", "e", "f"})).isEqualTo("abcdef");
+        assertThat(modelView.invoke(handlers, new Object[]{"members"}))
+                .isInstanceOf(ModelView.class)
+                .extracting("viewName").isEqualTo("members");
+    }
+
+    @Test
+    void oneClassPerHandler() {
+        // given: 같은 arity 의 핸들러
+        HandlerMethodInvoker first = factory.create(method("first", String.class));
+        HandlerMethodInvoker second = factory.create(method("second", String.class));
+
+        // then
+        assertThat(first.getClass()).isNotSameAs(second.getClass());
+        assertThat(first.getClass().isHidden()).isTrue();
+        assertThat(second.getClass().isHidden()).isTrue();
+    }
+
+    @Test
+    void exceptionsPropagateUnwrapped() {
+        HandlerMethodInvoker unchecked = factory.create(method("throwsUnchecked"));
+        HandlerMethodInvoker checked = factory.create(method("throwsChecked"));
+
+        assertThatThrownBy(() -> unchecked.invoke(handlers, new Object[0]))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unchecked");
+        assertThatThrownBy(() -> checked.invoke(handlers, new Object[0]))
+                .isExactlyInstanceOf(IOException.class)
+                .hasMessage("checked");
+    }
+
+    @Test
+    void wrongArguments() {
+        HandlerMethodInvoker primitives = factory.create(method("primitives", int.class, long.class));
+
+        assertThatThrownBy(() -> primitives.invoke(handlers, new Object[]{null, 2L}))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> primitives.invoke(handlers, new Object[]{"1", 2L}))
+                .isInstanceOf(ClassCastException.class);
+    }
+
+    @Test
+    void rejectUnsupportedMethods() throws Exception {
+        assertThatThrownBy(() -> factory.create(method("returnsVoid")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("viewName 또는 ModelView");
+        assertThatThrownBy(() -> factory.create(Handlers.class.getDeclaredMethod("notPublic")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("public");
+    }
+
+    Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Handlers.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class Handlers {
+        public String noArgs() {
+            return "no-args";
+        }
+
+        public String primitives(int a, long b) {
+            return String.valueOf(a + b);
+        }
+
+        public String manyArgs(String a, String b, String c, String d, String e, String f) {
+            return a + b + c + d + e + f;
+        }
+
+        public ModelView modelView(String viewName) {
+            return new ModelView(viewName);
+        }
+
+        public String first(String value) {
+            return "first:" + value;
+        }
+
+        public String second(String value) {
+            return "second:" + value;
+        }
+
+        public String throwsUnchecked() {
+            throw new IllegalArgumentException("unchecked");
+        }
+
+        public String throwsChecked() throws IOException {
+            throw new IOException("checked");
+        }
+
+        public void returnsVoid() {
+        }
+
+        String notPublic() {
+            return "not-public";
+        }
+    }
+}
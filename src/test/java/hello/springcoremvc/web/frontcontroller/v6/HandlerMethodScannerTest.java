@@ -0,0 +1,187 @@
+package hello.springcoremvc.web.frontcontroller.v6;
+
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.web.frontcontroller.v6.HandlerMethod.ArgumentResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 테스트 컨트롤러에는 @MyController 를 붙이지 않는다. FrontControllerServletV5 의 스캔에 잡히지 않도록 클래스를 직접 넘긴다.
+ */
+class HandlerMethodScannerTest {
+
+    @Test
+    void scanPackage() {
+        // given
+        HandlerMethodScanner scanner = new HandlerMethodScanner(List.of(
+                new MemberFormArgumentResolverV6(), new ParamBinderArgumentResolverV6()
+        ));
+
+        // when
+        Map<String, HandlerMethod> handlerMethods = scanner.scan("hello.springcoremvc.web.frontcontroller");
+
+        // then: @MyController 가 붙은 MemberControllerV6 만 등록된다.
+        assertThat(handlerMethods).containsOnlyKeys(
+                "/front-controller/v5/v6/members",
+                "/front-controller/v5/v6/members/new-form",
+                "/front-controller/v5/v6/members/save"
+        );
+        assertThat(handlerMethods.get("/front-controller/v5/v6/members/save").getMethod().getName()).isEqualTo("save");
+    }
+
+    @Test
+    void requestParams() throws Exception {
+        // given
+        HandlerMethod handlerMethod = new HandlerMethodScanner().scan(List.of(ParamController.class)).get("/test/params");
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/test/params");
+        req.addParameter("name", "kim");
+        req.addParameter("age", "20");
+
+        // when
+        Object viewName = handlerMethod.invoke(req, new MockHttpServletResponse(), new HashMap<>());
+
+        // then: 없는 래퍼 타입 파라미터는 null
+        assertThat(viewName).isEqualTo("kim:20:null");
+    }
+
+    @Test
+    void missingPrimitiveRequestParam() {
+        HandlerMethod handlerMethod = new HandlerMethodScanner().scan(List.of(ParamController.class)).get("/test/params");
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/test/params");
+        req.addParameter("name", "kim");
+
+        assertThatThrownBy(() -> handlerMethod.invoke(req, new MockHttpServletResponse(), new HashMap<>()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("age");
+    }
+
+    @Test
+    void handlerExceptionPropagates() {
+        HandlerMethod handlerMethod = new HandlerMethodScanner().scan(List.of(FailingController.class)).get("/test/fail");
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/test/fail");
+
+        assertThatThrownBy(() -> handlerMethod.invoke(req, new MockHttpServletResponse(), new HashMap<>()))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("handler failed");
+    }
+
+    @Test
+    void duplicateMapping() {
+        HandlerMethodScanner scanner = new HandlerMethodScanner();
+
+        assertThatThrownBy(() -> scanner.scan(List.of(ParamController.class, DuplicateController.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("URL 매핑이 중복")
+                .hasMessageContaining("/test/params");
+    }
+
+    @Test
+    void customArgumentResolver() throws Exception {
+        // given
+        HandlerMethodScanner scanner = new HandlerMethodScanner(List.of(new ClientIdResolver()));
+        HandlerMethod handlerMethod = scanner.scan(List.of(ClientIdController.class)).get("/test/client");
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/test/client");
+        req.addHeader("X-Client-Id", "c-1");
+
+        // when
+        Object viewName = handlerMethod.invoke(req, new MockHttpServletResponse(), new HashMap<>());
+
+        // then
+        assertThat(viewName).isEqualTo("client:c-1");
+    }
+
+    @Test
+    void memberFormArgumentResolver() throws Exception {
+        // given
+        HandlerMethodScanner scanner = new HandlerMethodScanner(List.of(new MemberFormArgumentResolverV6()));
+        HandlerMethod handlerMethod = scanner.scan(List.of(MemberController.class)).get("/test/members/save");
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/test/members/save");
+        req.setContentType("application/x-www-form-urlencoded");
+        req.setContent("username=kim&age=20".getBytes(StandardCharsets.UTF_8));
+        Map<String, Object> model = new HashMap<>();
+
+        // when
+        handlerMethod.invoke(req, new MockHttpServletResponse(), model);
+
+        // then
+        assertThat(model.get("member")).isInstanceOf(Member.class)
+                .hasFieldOrPropertyWithValue("username", "kim")
+                .hasFieldOrPropertyWithValue("age", 20);
+    }
+
+    @Test
+    void unsupportedParameterWithoutResolver() {
+        HandlerMethodScanner scanner = new HandlerMethodScanner();
+
+        assertThatThrownBy(() -> scanner.scan(List.of(MemberController.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("지원하지 않는 파라미터");
+    }
+
+    @MyRequestMapping("/test")
+    public static class ParamController {
+        @MyRequestMapping("/params")
+        public String params(
+                @MyRequestParam("name") String name,
+                @MyRequestParam("age") int age,
+                @MyRequestParam("id") Long id
+        ) {
+            return name + ":" + age + ":" + id;
+        }
+    }
+
+    public static class DuplicateController {
+        @MyRequestMapping("/test/params")
+        public String params() {
+            return "duplicate";
+        }
+    }
+
+    public static class FailingController {
+        @MyRequestMapping("/test/fail")
+        public String fail() {
+            throw new IllegalStateException("handler failed");
+        }
+    }
+
+    record ClientId(String value) {
+    }
+
+    static class ClientIdResolver implements MyArgumentResolver {
+        @Override
+        public boolean supportsParameter(Parameter parameter) {
+            return parameter.getType() == ClientId.class;
+        }
+
+        @Override
+        public ArgumentResolver createResolver(Parameter parameter) {
+            return (req, resp, model) -> new ClientId(req.getHeader("X-Client-Id"));
+        }
+    }
+
+    @MyRequestMapping("/test")
+    public static class ClientIdController {
+        @MyRequestMapping("/client")
+        public String client(ClientId clientId) {
+            return "client:" + clientId.value();
+        }
+    }
+
+    @MyRequestMapping("/test/members")
+    public static class MemberController {
+        @MyRequestMapping("/save")
+        public String save(Member member, Map<String, Object> model) {
+            model.put("member", member);
+            return "save-result";
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package hello.springcoremvc.web.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncLogTest {
+
+    @Test
+    void ringBufferFull() {
+        // given
+        LogRingBuffer buffer = new LogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer("line" + i)).isTrue();
+        }
+
+        // then: 가득 차면 기다리지 않고 false, 하나 꺼내면 다시 넣을 수 있다.
+        assertThat(buffer.offer("full")).isFalse();
+        assertThat(buffer.poll()).isEqualTo("line0");
+        assertThat(buffer.offer("next")).isTrue();
+        assertThat(buffer.poll()).isEqualTo("line1");
+    }
+
+    @Test
+    void ringBufferConcurrentProducers() throws Exception {
+        // given
+        LogRingBuffer buffer = new LogRingBuffer(1024);
+        int producers = 8;
+        int perProducer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(producer + ":" + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        Set<String> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            String line = buffer.poll();
+            if (line != null) {
+                assertThat(received.add(line)).as("duplicate " + line).isTrue();
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void writesInOrder() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream sink = new PrintStream(out, true, StandardCharsets.UTF_8);
+        AsyncLog log = new AsyncLog(64, () -> sink);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            log.info("line" + i);
+        }
+        log.debug("dump1\ndump2\n");
+        log.flush();
+        log.close();
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .containsExactly("line0", "line1", "line2", "line3", "line4",
+                        "line5", "line6", "line7", "line8", "line9", "dump1", "dump2");
+        assertThat(log.stats().written()).isEqualTo(11);
+        assertThat(log.stats().dropped()).isZero();
+    }
+
+    @Test
+    void idleWriterSleepsUntilInfo() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream sink = new PrintStream(out, true, StandardCharsets.UTF_8);
+        AsyncLog log = new AsyncLog(64, () -> sink);
+
+        for (int i = 0; i < 200; i++) {
+            // when: 버퍼가 비면 시간 제한 없이 잠든다.
+            awaitWriterState(log, Thread.State.WAITING);
+            log.info("line" + i);
+
+            // then: 깨어나서 쓴다. (flush 로 깨우지 않는다)
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (log.stats().written() <= i && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertThat(log.stats().written()).as("line" + i).isEqualTo(i + 1);
+        }
+        log.close();
+    }
+
+    @Test
+    void dropWhenSinkIsSlow() throws Exception {
+        // given: 쓰기가 풀릴 때까지 막히는 출력
+        CountDownLatch release = new CountDownLatch(1);
+        PrintStream blocked = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                await(release);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                await(release);
+            }
+        }, true, StandardCharsets.UTF_8);
+        AsyncLog log = new AsyncLog(16, () -> blocked);
+
+        // when: 요청 쓰레드는 막히지 않고 넘치는 이벤트는 버린다.
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            log.info("line" + i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        log.flush();
+        log.close();
+
+        // then
+        AsyncLogStats stats = log.stats();
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(stats.dropped()).isGreaterThan(0);
+        assertThat(stats.written() + stats.dropped()).isEqualTo(10_000);
+    }
+
+    @Test
+    void debugSampling() throws Exception {
+        // given: 초당 5개
+        AsyncLog log = new AsyncLog(16, () -> System.out);
+        log.configure(true, 5);
+
+        // when
+        int sampled = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (log.shouldDumpDebug()) {
+                sampled++;
+            }
+        }
+        log.close();
+
+        // then
+        assertThat(sampled).isBetween(5, 6);
+        assertThat(log.stats().debugSuppressed()).isEqualTo(1_000 - sampled);
+    }
+
+    @Test
+    void debugDisabled() throws Exception {
+        // given
+        AsyncLog log = new AsyncLog(16, () -> System.out);
+        log.configure(true, 0);
+
+        // then
+        assertThat(log.shouldDumpDebug()).isFalse();
+        log.close();
+    }
+
+    @Test
+    void syncMode() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream sink = new PrintStream(out, true, StandardCharsets.UTF_8);
+        AsyncLog log = new AsyncLog(16, () -> sink);
+        log.configure(false, 10);
+
+        // when: 요청 쓰레드에서 바로 쓴다.
+        log.info("now");
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("now" + System.lineSeparator());
+        log.close();
+    }
+
+    private static void awaitWriterState(AsyncLog log, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (log.writerState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(log.writerState()).isEqualTo(state);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
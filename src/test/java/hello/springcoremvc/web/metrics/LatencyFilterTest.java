@@ -0,0 +1,79 @@
+package hello.springcoremvc.web.metrics;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyFilterTest {
+    RouteMetrics metrics = new RouteMetrics(3);
+    LatencyFilter filter = new LatencyFilter(metrics);
+
+    @Test
+    void recordPerRoute() throws Exception {
+        // when
+        get("/servlet/members", 200);
+        get("/servlet/members", 200);
+        get("/front-controller/v5/v3/members", 500);
+        get("/no-such-page", 404);
+
+        // then
+        Map<String, LatencyHistogram.Snapshot> snapshot = metrics.snapshot();
+        assertThat(snapshot).containsOnlyKeys("/servlet/members", "/front-controller/v5/v3/members", RouteMetrics.UNMATCHED);
+        assertThat(snapshot.get("/servlet/members").count()).isEqualTo(2);
+        assertThat(snapshot.get("/servlet/members").errors()).isZero();
+        assertThat(snapshot.get("/front-controller/v5/v3/members").errors()).isEqualTo(1);
+    }
+
+    @Test
+    void exceptionIsError() {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/springmvc/v3/members");
+
+        assertThatThrownBy(() -> filter.doFilter(req, new MockHttpServletResponse(), (rq, rs) -> {
+            throw new ServletException("boom");
+        })).isInstanceOf(ServletException.class);
+
+        assertThat(metrics.snapshot().get("/springmvc/v3/members").errors()).isEqualTo(1);
+    }
+
+    @Test
+    void routesOverLimitGoToOther() throws Exception {
+        // when: 최대 3개
+        for (int i = 0; i < 5; i++) {
+            get("/route" + i, 200);
+        }
+
+        // then
+        Map<String, LatencyHistogram.Snapshot> snapshot = metrics.snapshot();
+        assertThat(snapshot).containsOnlyKeys("/route0", "/route1", "/route2", RouteMetrics.OTHER);
+        assertThat(snapshot.get(RouteMetrics.OTHER).count()).isEqualTo(2);
+    }
+
+    @Test
+    void prometheusText() throws Exception {
+        // given
+        get("/servlet/members", 200);
+        get("/servlet/\"quoted\"", 500);
+
+        // when
+        String text = new MetricsController(metrics).metrics();
+
+        // then
+        assertThat(text)
+                .contains("# TYPE http_server_requests_seconds summary")
+                .contains("http_server_requests_seconds{route=\"/servlet/members\",quantile=\"0.99\"} ")
+                .contains("http_server_requests_seconds_count{route=\"/servlet/members\"} 1")
+                .contains("http_server_requests_errors_total{route=\"/servlet/\\\"quoted\\\"\"} 1")
+                .contains("http_server_requests_error_ratio{route=\"/servlet/\\\"quoted\\\"\"} 1.0");
+    }
+
+    void get(String uri, int status) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        filter.doFilter(req, new MockHttpServletResponse(), (rq, rs) -> ((HttpServletResponse) rs).setStatus(status));
+    }
+}
@@ -0,0 +1,59 @@
+package hello.springcoremvc.web.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsCoverAllValuesInOrder() {
+        long previousUpper = -1;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long upper = LatencyHistogram.upperBound(i);
+            assertThat(LatencyHistogram.index(previousUpper + 1)).isEqualTo(i);
+            assertThat(LatencyHistogram.index(upper)).isEqualTo(i);
+            previousUpper = upper;
+        }
+        assertThat(previousUpper).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void percentilesWithinRelativeError() {
+        // given: 로그 정규 분포 (중앙값 약 0.4ms)
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextGaussian() * 1.5 + 13);
+            histogram.record(values[i], i % 100 == 0);
+        }
+        Arrays.sort(values);
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        for (double quantile : MetricsController.QUANTILES) {
+            long exact = values[(int) Math.ceil(quantile * values.length) - 1];
+            assertThat(snapshot.percentile(quantile))
+                    .isGreaterThanOrEqualTo(exact)
+                    .isLessThanOrEqualTo((long) (exact * 1.0625));
+        }
+        assertThat(snapshot.count()).isEqualTo(100_000);
+        assertThat(snapshot.errors()).isEqualTo(1_000);
+        assertThat(snapshot.errorRate()).isEqualTo(0.01);
+        assertThat(snapshot.sumNanos()).isEqualTo(Arrays.stream(values).sum());
+    }
+
+    @Test
+    void emptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.percentile(0.99)).isZero();
+        assertThat(snapshot.errorRate()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package hello.springcoremvc.web.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClientBucketsTest {
+    static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void burstThenRefill() {
+        // given: 초당 10개, 최대 3개
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+        long now = SECOND;
+
+        // then
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryAcquire(now + SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(now + SECOND / 10)).isPositive();
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        // given
+        ClientBuckets buckets = new ClientBuckets(4, 100, 1, 1, 60 * SECOND);
+
+        // then
+        assertThat(buckets.tryAcquire("importer", SECOND)).isZero();
+        assertThat(buckets.tryAcquire("importer", SECOND)).isPositive();
+        assertThat(buckets.tryAcquire("browser", SECOND)).isZero();
+    }
+
+    @Test
+    void boundedSize() {
+        // given: stripe 4개, stripe 당 2개
+        ClientBuckets buckets = new ClientBuckets(4, 8, 1, 1, 60 * SECOND);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            buckets.tryAcquire("client" + i, SECOND);
+        }
+
+        // then
+        assertThat(buckets.size()).isLessThanOrEqualTo(8);
+        assertThat(buckets.evictions()).isGreaterThanOrEqualTo(92);
+    }
+
+    @Test
+    void evictIdleBuckets() {
+        // given
+        ClientBuckets buckets = new ClientBuckets(1, 100, 1, 1, SECOND);
+        buckets.tryAcquire("a", 0);
+        buckets.tryAcquire("b", 0);
+
+        // when: 유휴 시간이 지난 뒤 같은 stripe 에 접근
+        buckets.tryAcquire("c", 2 * SECOND);
+
+        // then
+        assertThat(buckets.size()).isEqualTo(1);
+        assertThat(buckets.evictions()).isEqualTo(2);
+    }
+}
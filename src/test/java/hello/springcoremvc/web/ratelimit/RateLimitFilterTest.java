@@ -0,0 +1,96 @@
+package hello.springcoremvc.web.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimitFilterTest {
+    static final long MILLIS = 1_000_000L;
+
+    RateLimitMetrics metrics = new RateLimitMetrics();
+
+    @Test
+    void tooManyRequestsPerClient() throws Exception {
+        // given: 초당 1개, 최대 2개
+        RateLimitFilter filter = new RateLimitFilter(
+                1, 2, 10_000, 60_000 * MILLIS, 10, 50 * MILLIS, 1_000 * MILLIS, "X-Client-Id", metrics
+        );
+        FilterChain chain = (req, resp) -> resp.getWriter().write("ok");
+
+        // when
+        MockHttpServletResponse first = post(filter, chain, "importer");
+        MockHttpServletResponse second = post(filter, chain, "importer");
+        MockHttpServletResponse third = post(filter, chain, "importer");
+        MockHttpServletResponse other = post(filter, chain, "browser");
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(other.getStatus()).isEqualTo(200);
+        assertThat(metrics.stats().rateLimited()).isEqualTo(1);
+        assertThat(metrics.stats().clients()).isEqualTo(2);
+    }
+
+    @Test
+    void shedWhenQueueingExceedsSlo() throws Exception {
+        // given: 동시에 1개만 처리, 대기 SLO 20ms
+        RateLimitFilter filter = new RateLimitFilter(
+                1000, 1000, 10_000, 60_000 * MILLIS, 1, 20 * MILLIS, 2_000 * MILLIS, null, metrics
+        );
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (req, resp) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread busy = new Thread(() -> {
+            try {
+                post(filter, slow, null);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        busy.start();
+        entered.await(5, TimeUnit.SECONDS);
+
+        // when
+        long start = System.nanoTime();
+        MockHttpServletResponse queued = post(filter, (req, resp) -> {}, null);
+        long queuedMillis = (System.nanoTime() - start) / MILLIS;
+        start = System.nanoTime();
+        MockHttpServletResponse shed = post(filter, (req, resp) -> {}, null);
+        long shedMillis = (System.nanoTime() - start) / MILLIS;
+        release.countDown();
+        busy.join();
+
+        // then: SLO 만큼 기다린 뒤 503, 차단 모드에서는 기다리지 않고 503
+        assertThat(queued.getStatus()).isEqualTo(503);
+        assertThat(queued.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(queuedMillis).isGreaterThanOrEqualTo(15);
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shedMillis).isLessThan(15);
+        assertThat(metrics.stats().shedding()).isTrue();
+    }
+
+    MockHttpServletResponse post(RateLimitFilter filter, FilterChain chain, String clientId) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/springmvc/v3/members/save");
+        if (clientId != null) {
+            req.addHeader("X-Client-Id", clientId);
+        }
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, chain);
+        return resp;
+    }
+}
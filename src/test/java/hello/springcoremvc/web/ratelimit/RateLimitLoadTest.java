@@ -0,0 +1,177 @@
+package hello.springcoremvc.web.ratelimit;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 클라이언트(importer)가 /springmvc/v3/members/save 를 쉬지 않고 보내는 동안
+ * 정상 클라이언트 8개가 초당 5번씩 저장할 때의 p99 지연과 오류 수를 비교한다.
+ *  - off : 제한 없음
+ *  - on  : 클라이언트별 토큰 버킷 + 부하 차단
+ *
+ * ./gradlew loadTest --tests '*RateLimitLoadTest'
+ */
+@Tag("load")
+class RateLimitLoadTest {
+    static final int POLITE_CLIENTS = 8;
+    static final long POLITE_INTERVAL_MILLIS = 200;
+    static final int ABUSIVE_CONNECTIONS = 64;
+    static final long DURATION_MILLIS = 5_000;
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @Test
+    void politeClientsUnderAbuse() throws Exception {
+        Result off = measure(false);
+        Result on = measure(true);
+
+        System.out.println("rate-limit off : " + off);
+        System.out.println("rate-limit on  : " + on);
+
+        assertThat(on.politeErrors()).isZero();
+        assertThat(on.abusiveRejected()).isPositive();
+        assertThat(on.politeP99Micros()).isLessThan(off.politeP99Micros());
+    }
+
+    Result measure(boolean rateLimit) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServletApplication.class)
+                // application.properties 보다 우선하도록 명령행 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--app.rate-limit.enabled=" + rateLimit,
+                        "--app.rate-limit.client-id-header=X-Client-Id"
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/springmvc/v3/members/save");
+            HttpClient client = HttpClient.newHttpClient();
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicLong abusiveRejected = new AtomicLong();
+            ExecutorService abusers = Executors.newFixedThreadPool(ABUSIVE_CONNECTIONS);
+            for (int i = 0; i < ABUSIVE_CONNECTIONS; i++) {
+                abusers.submit(() -> {
+                    HttpRequest request = save(uri, "importer");
+                    while (running.get()) {
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status != 200) {
+                                abusiveRejected.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            abusiveRejected.incrementAndGet();
+                        }
+                    }
+                });
+            }
+
+            Thread.sleep(1_000); // 폭주가 자리잡을 때까지
+            List<Thread> polite = new ArrayList<>();
+            long[][] latencies = new long[POLITE_CLIENTS][];
+            AtomicLong politeErrors = new AtomicLong();
+            for (int i = 0; i < POLITE_CLIENTS; i++) {
+                int index = i;
+                Thread thread = new Thread(() ->
+                        latencies[index] = politeClient(client, save(uri, "browser" + index), politeErrors)
+                );
+                thread.start();
+                polite.add(thread);
+            }
+            for (Thread thread : polite) {
+                thread.join();
+            }
+
+            running.set(false);
+            abusers.shutdown();
+            abusers.awaitTermination(10, TimeUnit.SECONDS);
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Result(
+                    all.length,
+                    politeErrors.get(),
+                    all[all.length / 2],
+                    all[(int) (all.length * 0.99)],
+                    abusiveRejected.get()
+            );
+        }
+    }
+
+    /**
+     * 일정 간격으로 저장 요청을 보낸다.
+     * @return 요청마다 걸린 마이크로초
+     */
+    long[] politeClient(HttpClient client, HttpRequest request, AtomicLong errors) {
+        int count = (int) (DURATION_MILLIS / POLITE_INTERVAL_MILLIS);
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            long elapsed = System.nanoTime() - start;
+            latencies[i] = elapsed / 1_000;
+
+            long sleepMillis = POLITE_INTERVAL_MILLIS - elapsed / 1_000_000;
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return latencies;
+    }
+
+    static HttpRequest save(URI uri, String clientId) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("X-Client-Id", clientId)
+                .POST(HttpRequest.BodyPublishers.ofString("username=" + clientId + "&age=20"))
+                .build();
+    }
+
+    record Result(
+            int politeRequests,
+            long politeErrors,
+            long politeP50Micros,
+            long politeP99Micros,
+            long abusiveRejected
+    ) {
+        @Override
+        public String toString() {
+            return String.format("polite requests=%d, errors=%d, p50=%d us, p99=%d us, importer rejected=%d",
+                    politeRequests, politeErrors, politeP50Micros, politeP99Micros, abusiveRejected);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package hello.springcoremvc.web.staticresource;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.load.ClosedLoopLoad;
+import hello.springcoremvc.load.LoadResult;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정적 페이지 처리량 비교
+ *  - default : 스프링 기본 정적 리소스 처리 (app.static-resource.enabled=false)
+ *  - servlet : StaticResourceServlet
+ * 압축 필터가 미리 압축한 본문으로 응답하지 않도록 압축을 끄고 측정한다.
+ *
+ * ./gradlew loadTest --tests '*StaticResourceLoadTest'
+ */
+@Tag("load")
+class StaticResourceLoadTest {
+    static final int CLIENTS = 32;
+
+    @Test
+    void compareWithDefaultHandler() throws Exception {
+        LoadResult defaultHandler = measure(false);
+        LoadResult servlet = measure(true);
+
+        System.out.println("default : " + defaultHandler);
+        System.out.println("servlet : " + servlet);
+
+        assertThat(servlet.errors()).isZero();
+        assertThat(servlet.throughput()).isGreaterThan(defaultHandler.throughput());
+    }
+
+    LoadResult measure(boolean staticResourceServlet) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ServletApplication.class)
+                // application.properties 보다 우선하도록 명령행 인자로 넘긴다.
+                .run(
+                        "--server.port=0",
+                        "--app.compression.enabled=false",
+                        "--app.static-resource.enabled=" + staticResourceServlet
+                )) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/basic.html");
+
+            ClosedLoopLoad load = new ClosedLoopLoad();
+            load.run(uri, CLIENTS, Duration.ofSeconds(3)); // warm-up
+            return load.run(uri, CLIENTS, Duration.ofSeconds(5));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package hello.springcoremvc.web.staticresource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.FileSystemResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StaticResourceServletTest {
+    StaticResourceServlet servlet = new StaticResourceServlet();
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        MockServletContext servletContext = new MockServletContext("src/main/webapp", new FileSystemResourceLoader());
+        servlet.init(new MockServletConfig(servletContext));
+    }
+
+    @Test
+    void get() throws Exception {
+        // when
+        MockHttpServletResponse resp = service(request("/basic.html"));
+
+        // then
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getContentType()).startsWith("text/html");
+        assertThat(resp.getHeader("ETag")).startsWith("\"static-");
+        assertThat(resp.getHeader("Last-Modified")).isNotNull();
+        assertThat(resp.getHeader("Cache-Control")).isEqualTo(StaticResource.CACHE_CONTROL);
+        assertThat(resp.getContentAsByteArray()).isEqualTo(Files.readAllBytes(Path.of("src/main/webapp/basic.html")));
+    }
+
+    @Test
+    void ifNoneMatch() throws Exception {
+        // given
+        String etag = service(request("/index.html")).getHeader("ETag");
+        MockHttpServletRequest req = request("/index.html");
+        req.addHeader("If-None-Match", etag);
+
+        // when
+        MockHttpServletResponse resp = service(req);
+
+        // then
+        assertThat(resp.getStatus()).isEqualTo(304);
+        assertThat(resp.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ifModifiedSince() throws Exception {
+        // given
+        long lastModified = service(request("/basic/hello-form.html")).getDateHeader("Last-Modified");
+        MockHttpServletRequest notModified = request("/basic/hello-form.html");
+        notModified.addHeader("If-Modified-Since", lastModified);
+        MockHttpServletRequest modified = request("/basic/hello-form.html");
+        modified.addHeader("If-Modified-Since", lastModified - 1000);
+
+        // then
+        assertThat(service(notModified).getStatus()).isEqualTo(304);
+        assertThat(service(modified).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void smallFileIsNotSentWithSendfile() throws Exception {
+        // given
+        MockHttpServletRequest req = request("/index.html");
+        req.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        // when
+        MockHttpServletResponse resp = service(req);
+
+        // then
+        assertThat(req.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+        assertThat(resp.getContentAsByteArray()).isNotEmpty();
+    }
+
+    MockHttpServletRequest request(String path) {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", path);
+        req.setServletPath(path);
+        return req;
+    }
+
+    MockHttpServletResponse service(MockHttpServletRequest req) throws Exception {
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        servlet.service(req, resp);
+        return resp;
+    }
+}
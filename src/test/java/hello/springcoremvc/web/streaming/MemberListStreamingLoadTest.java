@@ -0,0 +1,129 @@
+package hello.springcoremvc.web.streaming;
+
+import hello.springcoremvc.ServletApplication;
+import hello.springcoremvc.model.Member;
+import hello.springcoremvc.model.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 목록 JSP 렌더링과 스트리밍 모드의 TTFB, 전체 시간, 힙 증가량 비교
+ *
+ * ./gradlew loadTest --tests '*MemberListStreamingLoadTest'
+ */
+@Tag("load")
+@SpringBootTest(
+        classes = ServletApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.page-cache.enabled=false"
+)
+class MemberListStreamingLoadTest {
+    static final String[] PATHS = {
+            "/front-controller/v3/members",
+            "/front-controller/v3/members?stream",
+            "/front-controller/v3/members?stream&format=json",
+            "/springmvc/v3/members",
+            "/springmvc/v3/members?stream",
+    };
+
+    @LocalServerPort
+    int port;
+
+    MemberRepository memberRepository = MemberRepository.getInstance();
+    HttpClient client = HttpClient.newHttpClient();
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.clearStore();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100_000, 1_000_000})
+    void ttfbAndPeakHeap(int size) throws Exception {
+        for (int i = 0; i < size; i++) {
+            memberRepository.save(new Member("member" + i, i % 100));
+        }
+
+        Measurement jsp = null;
+        Measurement stream = null;
+        for (String path : PATHS) {
+            measure(path); // warm-up
+            Measurement m = measure(path);
+            System.out.printf("members=%,d %-50s %s%n", size, path, m);
+
+            if (path.equals("/front-controller/v3/members")) {
+                jsp = m;
+            } else if (path.equals("/front-controller/v3/members?stream")) {
+                stream = m;
+            }
+        }
+
+        assertThat(stream.ttfbMillis()).isLessThan(jsp.ttfbMillis());
+        assertThat(stream.heapGrowthMb()).isLessThan(jsp.heapGrowthMb());
+    }
+
+    Measurement measure(String path) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        AtomicLong peak = new AtomicLong(baseline);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 5, TimeUnit.MILLISECONDS
+        );
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        long ttfb = System.nanoTime() - start;
+
+        long bytes;
+        try (InputStream in = response.body()) {
+            bytes = in.transferTo(OutputStream.nullOutputStream());
+        }
+        long total = System.nanoTime() - start;
+        sampler.shutdownNow();
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new Measurement(
+                ttfb / 1_000_000.0,
+                total / 1_000_000.0,
+                bytes,
+                (peak.get() - baseline) / (1024.0 * 1024.0)
+        );
+    }
+
+    record Measurement(
+            double ttfbMillis,
+            double totalMillis,
+            long bytes,
+            double heapGrowthMb
+    ) {
+        @Override
+        public String toString() {
+            return String.format("ttfb=%8.1f ms, total=%8.1f ms, bytes=%,12d, peak heap growth=%7.1f MB",
+                    ttfbMillis, totalMillis, bytes, heapGrowthMb);
+        }
+    }
+}
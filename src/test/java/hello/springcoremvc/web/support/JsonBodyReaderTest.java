@@ -0,0 +1,111 @@
+package hello.springcoremvc.web.support;
+
+import hello.springcoremvc.model.Member;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonBodyReaderTest {
+    static final JsonFieldBinder<Member> MEMBER_BINDER = (member, fieldName, parser) -> switch (fieldName) {
+        case "username" -> {
+            member.setUsername(JsonBodyReader.text(parser));
+            yield true;
+        }
+        case "age" -> {
+            member.setAge(JsonBodyReader.intValue(parser));
+            yield true;
+        }
+        default -> false;
+    };
+
+    JsonBodyReader reader = new JsonBodyReader(64);
+
+    @Test
+    void read() throws Exception {
+        // when
+        Member member = reader.read(request("{\"username\":\"회원\",\"age\":20}"), Member::new, MEMBER_BINDER);
+
+        // then
+        assertThat(member.getUsername()).isEqualTo("회원");
+        assertThat(member.getAge()).isEqualTo(20);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "[]",
+            "{\"username\":\"kim\"",
+            "{\"username\":\"kim\" \"age\":20}",
+            "{\"username\":\"kim\",\"id\":1}",
+            "{\"username\":\"kim\",\"age\":\"20\"}",
+            "{\"username\":\"kim\",\"age\":99999999999}",
+            "{\"username\":\"kim\"} {}",
+    })
+    void malformed(String body) {
+        assertThatThrownBy(() -> reader.read(request(body), Member::new, MEMBER_BINDER))
+                .isInstanceOfSatisfying(JsonBodyException.class, e -> assertThat(e.getStatus()).isEqualTo(400));
+    }
+
+    @Test
+    void contentLengthTooLarge() {
+        // given
+        MockHttpServletRequest req = request("{\"username\":\"" + "a".repeat(100) + "\",\"age\":20}");
+
+        // then
+        assertThatThrownBy(() -> reader.read(req, Member::new, MEMBER_BINDER))
+                .isInstanceOfSatisfying(JsonBodyException.class, e -> assertThat(e.getStatus()).isEqualTo(413));
+    }
+
+    @Test
+    void chunkedBodyTooLarge() {
+        // given: Content-Length 없이 한도를 넘는 바디
+        byte[] body = ("{\"username\":\"" + "a".repeat(100) + "\",\"age\":20}").getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/request-body-json") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(new ByteArrayInputStream(body));
+            }
+        };
+
+        // then
+        assertThatThrownBy(() -> reader.read(req, Member::new, MEMBER_BINDER))
+                .isInstanceOfSatisfying(JsonBodyException.class, e -> assertThat(e.getStatus()).isEqualTo(413));
+    }
+
+    @Test
+    void bodyExactlyAtLimit() throws Exception {
+        // given
+        String body = "{\"username\":\"kim\",\"age\":20}";
+        JsonBodyReader exact = new JsonBodyReader(body.length());
+
+        // then
+        assertThat(exact.read(request(body), Member::new, MEMBER_BINDER).getUsername()).isEqualTo("kim");
+    }
+
+    @Test
+    void readFields() throws Exception {
+        // when
+        Map<String, String> fields = reader.readFields(request("{\"username\":\"kim\",\"age\":20}"));
+
+        // then
+        assertThat(fields).containsOnly(entry("username", "kim"), entry("age", "20"));
+        assertThatThrownBy(() -> reader.readFields(request("{\"username\":[\"kim\"]}")))
+                .isInstanceOf(JsonBodyException.class);
+    }
+
+    MockHttpServletRequest request(String body) {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/request-body-json");
+        req.setContentType("application/json");
+        req.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return req;
+    }
+}
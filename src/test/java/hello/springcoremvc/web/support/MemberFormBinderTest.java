@@ -0,0 +1,99 @@
+package hello.springcoremvc.web.support;
+
+import hello.springcoremvc.model.Member;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemberFormBinderTest {
+
+    @Test
+    void bindFormBody() throws Exception {
+        // given
+        MockHttpServletRequest req = form("username=%ED%9A%8C%EC%9B%90+kim&age=20");
+
+        // when
+        Member member = MemberFormBinder.bind(req);
+
+        // then
+        assertThat(member.getUsername()).isEqualTo("회원 kim");
+        assertThat(member.getAge()).isEqualTo(20);
+    }
+
+    @Test
+    void skipOtherFieldsAndKeepFirstValue() throws Exception {
+        // given
+        MockHttpServletRequest req = form("submit=%EC%A0%84%EC%86%A1&age=-3&username=a&username=b&age=5");
+
+        // when
+        Member member = MemberFormBinder.bind(req);
+
+        // then
+        assertThat(member.getUsername()).isEqualTo("a");
+        assertThat(member.getAge()).isEqualTo(-3);
+    }
+
+    @Test
+    void queryStringComesFirst() throws Exception {
+        // given
+        MockHttpServletRequest req = form("username=body&age=20");
+        req.setQueryString("username=query");
+
+        // when
+        Member member = MemberFormBinder.bind(req);
+
+        // then
+        assertThat(member.getUsername()).isEqualTo("query");
+        assertThat(member.getAge()).isEqualTo(20);
+    }
+
+    @Test
+    void fallbackToParameters() throws Exception {
+        // given: 폼 POST 가 아니면 getParameter() 를 사용한다.
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/servlet/members/save");
+        req.addParameter("username", "kim");
+        req.addParameter("age", "20");
+
+        // when
+        Member member = MemberFormBinder.bind(req);
+
+        // then
+        assertThat(member.getUsername()).isEqualTo("kim");
+        assertThat(member.getAge()).isEqualTo(20);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "username=kim",
+            "username=kim&age=",
+            "username=kim&age=2x",
+            "username=kim&age=-",
+            "username=kim&age=2147483648",
+    })
+    void invalidAge(String body) {
+        assertThatThrownBy(() -> MemberFormBinder.bind(form(body)))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void parseIntRange() {
+        byte[] max = "2147483647".getBytes(StandardCharsets.US_ASCII);
+        byte[] min = "-2147483648".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(MemberFormBinder.parseInt(max, 0, max.length)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(MemberFormBinder.parseInt(min, 0, min.length)).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    MockHttpServletRequest form(String body) {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/servlet/members/save");
+        req.setContentType("application/x-www-form-urlencoded");
+        req.setCharacterEncoding("utf-8");
+        req.setContent(body.getBytes(StandardCharsets.US_ASCII));
+        return req;
+    }
+}
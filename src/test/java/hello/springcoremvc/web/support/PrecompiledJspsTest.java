@@ -0,0 +1,50 @@
+package hello.springcoremvc.web.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PrecompiledJspsTest {
+
+    @Test
+    void parseJspcFragment() throws Exception {
+        // given: JspC -webinc 출력
+        String fragment = """
+                <!--
+                Automatically created by Apache Tomcat JspC.
+                Place this text in your web.xml
+                -->
+
+                    <servlet>
+                        <servlet-name>org.apache.jsp.WEB_002dINF.views.members_jsp</servlet-name>
+                        <servlet-class>org.apache.jsp.WEB_002dINF.views.members_jsp</servlet-class>
+                    </servlet>
+
+                    <servlet-mapping>
+                        <servlet-name>org.apache.jsp.WEB_002dINF.views.members_jsp</servlet-name>
+                        <url-pattern>/WEB-INF/views/members.jsp</url-pattern>
+                    </servlet-mapping>
+                """;
+
+        // when
+        List<PrecompiledJsps.Jsp> jsps = PrecompiledJsps.parse(fragment.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(jsps).containsExactly(new PrecompiledJsps.Jsp(
+                "org.apache.jsp.WEB_002dINF.views.members_jsp",
+                "org.apache.jsp.WEB_002dINF.views.members_jsp",
+                "/WEB-INF/views/members.jsp"
+        ));
+    }
+
+    @Test
+    void missingListIsEmpty() {
+        ClassLoader empty = new ClassLoader(null) {
+        };
+
+        assertThat(PrecompiledJsps.load(empty)).isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package hello.springcoremvc.web.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Utf8ResponseWriterTest {
+
+    @Test
+    void pooledWriterStartsEmpty() throws Exception {
+        // given: 앞 요청이 버퍼에 남긴 내용을 쓰지 않고 반납한다.
+        try (Utf8ResponseWriter first = Utf8ResponseWriter.pooled(new ByteArrayOutputStream())) {
+            first.write("<p>left over</p>");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (Utf8ResponseWriter w = Utf8ResponseWriter.pooled(out)) {
+            w.write("<li>").writeEscaped("회원 <kim>").write(-20L).write("</li>");
+            w.flush();
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("<li>회원 &lt;kim&gt;-20</li>");
+    }
+
+    @Test
+    void closeDoesNotWrite() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8ResponseWriter w = Utf8ResponseWriter.pooled(out);
+        w.write("partial");
+
+        // when
+        w.close();
+        w.close();
+
+        // then
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void largeResponseSpansBuffers() throws Exception {
+        // given
+        String row = "<tr><td>회원</td></tr>";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (Utf8ResponseWriter w = Utf8ResponseWriter.pooled(out)) {
+            for (int i = 0; i < 1_000; i++) {
+                w.write(row);
+            }
+            w.flush();
+        }
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(row.repeat(1_000));
+    }
+}
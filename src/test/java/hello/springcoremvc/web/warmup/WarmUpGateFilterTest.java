@@ -0,0 +1,65 @@
+package hello.springcoremvc.web.warmup;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WarmUpGateFilterTest {
+    WarmUpRunner runner = new WarmUpRunner(new StaticApplicationContext(), 1, 1, Duration.ofSeconds(1));
+    WarmUpGateFilter filter = new WarmUpGateFilter(runner);
+    FilterChain chain = (req, resp) -> resp.getWriter().write("ok");
+
+    @AfterEach
+    void afterEach() {
+        WarmUpRequests.end();
+    }
+
+    @Test
+    void rejectUntilFinished() throws Exception {
+        // given: 워밍업 중
+        String token = WarmUpRequests.begin();
+
+        // when
+        MockHttpServletResponse other = get("/springmvc/v3/members", null);
+        MockHttpServletResponse warmUp = get("/springmvc/v3/members", token);
+        MockHttpServletResponse ready = get("/ready", null);
+
+        // then
+        assertThat(other.getStatus()).isEqualTo(503);
+        assertThat(other.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(other.getContentAsString()).isEmpty();
+        assertThat(warmUp.getContentAsString()).isEqualTo("ok");
+        assertThat(ready.getContentAsString()).isEqualTo("ok");
+    }
+
+    @Test
+    void passAfterFinished() throws Exception {
+        // given: 웹 서버가 없으면 워밍업하지 않고 바로 끝난다.
+        runner.run(null);
+
+        // when
+        MockHttpServletResponse resp = get("/springmvc/v3/members", null);
+
+        // then
+        assertThat(runner.isFinished()).isTrue();
+        assertThat(resp.getStatus()).isEqualTo(200);
+        assertThat(resp.getContentAsString()).isEqualTo("ok");
+    }
+
+    MockHttpServletResponse get(String uri, String token) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", uri);
+        if (token != null) {
+            req.addHeader(WarmUpRequests.HEADER, token);
+        }
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        filter.doFilter(req, resp, chain);
+        return resp;
+    }
+}
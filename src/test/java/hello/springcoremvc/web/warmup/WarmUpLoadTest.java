@@ -0,0 +1,152 @@
+package hello.springcoremvc.web.warmup;
+
+import hello.springcoremvc.ServletApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시작 직후부터 정상 상태(steady state)까지의 지연 시간을 워밍업 on / off 로 비교한다.
+ * JIT 상태는 JVM 마다 따로이므로 경우마다 새 JVM 으로 애플리케이션을 띄운다.
+ *
+ *  - ready      : 프로세스 시작 -> /ready 200 까지 걸린 시간
+ *  - first p50  : 준비 완료 직후 첫 구간(100 요청)의 p50
+ *  - steady p50 : 마지막 5 구간 p50 의 중앙값
+ *  - to steady  : 구간 p50 이 처음으로 steady p50 의 1.2 배 이내가 될 때까지의 요청 수, 시간
+ *
+ * 저장 요청은 목록이 길어져서 정상 상태가 움직이므로 등록 폼과 목록만 순서대로 보낸다.
+ *
+ * ./gradlew loadTest --tests '*WarmUpLoadTest'
+ */
+@Tag("load")
+class WarmUpLoadTest {
+    static final String[] PATHS = {
+            "/front-controller/v5/v3/members/new-form",
+            "/front-controller/v5/v3/members",
+            "/springmvc/v3/members/new-form",
+            "/springmvc/v3/members",
+    };
+    static final int WINDOW = 100;
+    static final int WINDOWS = 60;
+    static final int STEADY_WINDOWS = 5;
+    static final double STEADY_FACTOR = 1.2;
+
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void timeToSteadyState() throws Exception {
+        Result off = run(false);
+        Result on = run(true);
+
+        System.out.printf("%-8s %10s %14s %15s %14s %14s%n",
+                "warm-up", "ready (ms)", "first p50 (us)", "steady p50 (us)", "to steady (n)", "to steady (ms)");
+        System.out.println(off);
+        System.out.println(on);
+
+        assertThat(on.firstP50Micros()).isLessThan(off.firstP50Micros());
+    }
+
+    Result run(boolean warmUp) throws Exception {
+        int port = freePort();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ServletApplication.class.getName(),
+                "--server.port=" + port,
+                "--app.warm-up.enabled=" + warmUp,
+                "--app.rate-limit.enabled=false"
+        ).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            awaitReady(port, Duration.ofMinutes(2));
+            long readyMillis = (System.nanoTime() - start) / 1_000_000;
+
+            List<HttpRequest> requests = Arrays.stream(PATHS)
+                    .map(path -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build())
+                    .toList();
+            long[] windowP50 = new long[WINDOWS];
+            long[] windowEndMillis = new long[WINDOWS];
+            long measureStart = System.nanoTime();
+            long[] latencies = new long[WINDOW];
+            for (int w = 0; w < WINDOWS; w++) {
+                for (int i = 0; i < WINDOW; i++) {
+                    HttpRequest request = requests.get((w * WINDOW + i) % requests.size());
+                    long t0 = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[i] = System.nanoTime() - t0;
+                    assertThat(response.statusCode()).isEqualTo(200);
+                }
+                windowP50[w] = median(latencies) / 1_000;
+                windowEndMillis[w] = (System.nanoTime() - measureStart) / 1_000_000;
+            }
+
+            long steady = median(Arrays.copyOfRange(windowP50, WINDOWS - STEADY_WINDOWS, WINDOWS));
+            int steadyWindow = 0;
+            while (steadyWindow < WINDOWS - 1 && windowP50[steadyWindow] > steady * STEADY_FACTOR) {
+                steadyWindow++;
+            }
+            return new Result(warmUp, readyMillis, windowP50[0], steady,
+                    (steadyWindow + 1) * WINDOW, windowEndMillis[steadyWindow]);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    void awaitReady(int port, Duration timeout) throws Exception {
+        HttpRequest ready = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/ready")).GET().build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (client.send(ready, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트를 열지 않았다.
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("not ready in " + timeout);
+    }
+
+    static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record Result(
+            boolean warmUp,
+            long readyMillis,
+            long firstP50Micros,
+            long steadyP50Micros,
+            int requestsToSteady,
+            long millisToSteady
+    ) {
+        @Override
+        public String toString() {
+            return String.format("%-8s %10d %14d %15d %14d %14d",
+                    warmUp ? "on" : "off", readyMillis, firstP50Micros, steadyP50Micros, requestsToSteady, millisToSteady);
+        }
+    }
+}